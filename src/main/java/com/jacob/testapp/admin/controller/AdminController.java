@@ -5,8 +5,13 @@ import com.jacob.testapp.admin.service.StatisticsService;
 import com.jacob.testapp.admin.service.SystemMonitorService;
 import com.jacob.testapp.admin.service.TestDataService;
 import com.jacob.testapp.admin.service.UserExportService;
+import com.jacob.testapp.cart.service.CartCommandExecutor;
+import com.jacob.testapp.cart.service.CartPurgeJob;
 import com.jacob.testapp.order.entity.Order;
+import com.jacob.testapp.order.service.OrderIntakePipeline;
+import com.jacob.testapp.order.service.OrderOutboxWorker;
 import com.jacob.testapp.product.entity.Product;
+import com.jacob.testapp.product.repository.ProductSummary;
 import com.jacob.testapp.user.entity.User;
 import com.jacob.testapp.order.service.OrderService;
 import com.jacob.testapp.product.service.ProductManagementService;
@@ -53,6 +58,10 @@ public class AdminController {
     private final StatisticsService statisticsService;
     private final UserExportService userExportService;
     private final ProductManagementService productManagementService;
+    private final CartCommandExecutor cartCommandExecutor;
+    private final CartPurgeJob cartPurgeJob;
+    private final OrderIntakePipeline orderIntakePipeline;
+    private final OrderOutboxWorker orderOutboxWorker;
 
     /**
      * 모든 관리자 컨트롤러 메소드에 requestURI 모델 속성을 자동으로 추가합니다.
@@ -134,6 +143,18 @@ public class AdminController {
         Map<String, Object> systemResources = systemMonitorService.getSystemResources();
         stats.put("systemResources", systemResources);
         
+        // 장바구니 명령 큐 통계 (대기 시간, 병합/거절 수)
+        stats.put("cartCommands", cartCommandExecutor.getStats());
+        
+        // 유휴 장바구니 정리 진행 상황 (스캔 위치, 삭제 수, 처리량)
+        stats.put("cartPurge", cartPurgeJob.getStats());
+        
+        // 주문 접수 파이프라인 통계 (큐 길이, 묶음 크기)
+        stats.put("orderIntake", orderIntakePipeline.getStats());
+        
+        // 주문 아웃박스 통계 (대기/실패 작업 수, 처리 지연)
+        stats.put("orderOutbox", orderOutboxWorker.getStats());
+        
         return stats;
     }
 
@@ -351,7 +372,7 @@ public class AdminController {
         }
         
         // 검색 조건에 따라 상품 조회
-        Page<Product> products = productManagementService.searchProducts(keyword, categoryEnum, statusEnum, pageable);
+        Page<ProductSummary> products = productManagementService.searchProducts(keyword, categoryEnum, statusEnum, pageable);
         
         model.addAttribute("products", products);
         model.addAttribute("categories", Product.Category.values());
@@ -476,9 +497,8 @@ public class AdminController {
                 return ResponseEntity.badRequest().body(response);
             }
 
-            Product product = productService.findById(id);
-            product.setStock(stock);
-            productManagementService.saveProduct(product);
+            // 재고 샤드가 있는 상품은 샤드에 재분배됨
+            productService.updateStock(id, stock);
 
             response.put("success", true);
             response.put("message", "재고가 성공적으로 업데이트되었습니다.");
@@ -1,14 +1,17 @@
 package com.jacob.testapp.admin.service;
 
+import com.jacob.testapp.common.money.Money;
 import com.jacob.testapp.order.entity.Order;
-import com.jacob.testapp.order.entity.OrderHistory;
 import com.jacob.testapp.order.entity.OrderItem;
-import com.jacob.testapp.order.repository.OrderHistoryRepository;
+import com.jacob.testapp.order.entity.OrderOutbox;
+import com.jacob.testapp.order.repository.OrderOutboxRepository;
 import com.jacob.testapp.order.repository.OrderRepository;
+import com.jacob.testapp.order.service.OrderSalesEvent;
 import com.jacob.testapp.product.entity.Product;
-import com.jacob.testapp.product.repository.ProductRepository;
+import com.jacob.testapp.product.service.ProductService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
@@ -38,8 +41,9 @@ import static com.jacob.testapp.admin.service.StatisticsUtil.*;
 public class OrderAdminService {
 
     private final OrderRepository orderRepository;
-    private final OrderHistoryRepository orderHistoryRepository;
-    private final ProductRepository productRepository;
+    private final OrderOutboxRepository orderOutboxRepository;
+    private final ProductService productService;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 모든 주문 조회
@@ -164,13 +168,14 @@ public class OrderAdminService {
         if (oldStatus != newStatus) {
             log.info("주문 상태 변경: {} -> {}, 주문 ID: {}", oldStatus, newStatus, orderId);
             
-            // 주문 이력 생성 및 상태 변경 (Order의 changeStatus 메서드 활용)
-            OrderHistory history = order.changeStatus(newStatus, "관리자", memo);
-            orderHistoryRepository.save(history);
+            // 상태 변경 (주문 이력은 아웃박스를 거쳐 커밋 이후 기록)
+            order.setStatus(newStatus);
+            orderOutboxRepository.save(OrderOutbox.statusChanged(orderId, oldStatus, newStatus, "관리자", memo));
             
             // 상태가 취소로 변경된 경우 재고 원복
             if (newStatus == Order.OrderStatus.CANCELLED) {
                 restoreProductStock(order);
+                eventPublisher.publishEvent(OrderSalesEvent.cancelled(order));
             }
         }
         
@@ -238,9 +243,10 @@ public class OrderAdminService {
             throw new IllegalStateException("이미 삭제된 주문입니다.");
         }
         
-        // 주문 상태 변경 및 이력 생성 (Order의 changeStatus 메서드 활용)
-        OrderHistory history = order.changeStatus(Order.OrderStatus.DELETED, "관리자", deleteReason);
-        orderHistoryRepository.save(history);
+        // 상태 변경 (주문 이력은 아웃박스를 거쳐 커밋 이후 기록)
+        Order.OrderStatus oldStatus = order.getStatus();
+        order.setStatus(Order.OrderStatus.DELETED);
+        orderOutboxRepository.save(OrderOutbox.statusChanged(orderId, oldStatus, Order.OrderStatus.DELETED, "관리자", deleteReason));
         
         return orderRepository.save(order);
     }
@@ -299,19 +305,19 @@ public class OrderAdminService {
                             order.getStatus() != Order.OrderStatus.CANCELLED)
             .collect(Collectors.toList());
         
-        double totalSales = validOrders.stream()
-            .mapToDouble(Order::getTotalAmount)
+        long totalSalesMinor = validOrders.stream()
+            .mapToLong(Order::getTotalMinor)
             .sum();
-        statistics.put("totalSales", totalSales);
+        statistics.put("totalSales", Money.toDouble(totalSalesMinor));
         
         // 이번 달 매출 (DELETED 및 CANCELLED 상태 제외)
-        double monthSales = validOrders.stream()
+        long monthSalesMinor = validOrders.stream()
             .filter(order -> order.getCreatedAt() != null && 
                            order.getCreatedAt().isAfter(monthStart) && 
                            order.getCreatedAt().isBefore(monthEnd))
-            .mapToDouble(Order::getTotalAmount)
+            .mapToLong(Order::getTotalMinor)
             .sum();
-        statistics.put("monthSales", monthSales);
+        statistics.put("monthSales", Money.toDouble(monthSalesMinor));
         
         // 월별 주문 통계 (DELETED 상태 제외)
         Map<String, Long> monthlyOrders = new HashMap<>();
@@ -327,14 +333,16 @@ public class OrderAdminService {
         statistics.put("monthlyOrders", monthlyOrders);
         
         // 월별 매출 통계 (DELETED 및 CANCELLED 상태 제외)
-        Map<String, Double> monthlySales = new HashMap<>();
+        Map<String, long[]> monthlySalesMinor = new HashMap<>();
         
         validOrders.forEach(order -> {
             if (order.getCreatedAt() != null) {
                 String month = order.getCreatedAt().format(MONTH_FORMATTER);
-                monthlySales.put(month, monthlySales.getOrDefault(month, 0.0) + order.getTotalAmount());
+                monthlySalesMinor.computeIfAbsent(month, key -> new long[1])[0] += order.getTotalMinor();
             }
         });
+        Map<String, Double> monthlySales = new HashMap<>();
+        monthlySalesMinor.forEach((month, sum) -> monthlySales.put(month, Money.toDouble(sum[0])));
         statistics.put("monthlySales", monthlySales);
         
         return statistics;
@@ -382,8 +390,8 @@ public class OrderAdminService {
                 int quantity = item.getQuantity();
                 log.info("주문 취소로 재고 복구: 상품 ID={}, 수량={}", product.getId(), quantity);
                 
-                // 상품 재고 업데이트
-                productRepository.increaseStock(product.getId(), quantity);
+                // 상품 재고 업데이트 (재고 원장 사용 여부에 따라 ProductService가 처리)
+                productService.increaseStock(product.getId(), quantity);
             }
         }
     }
@@ -2,8 +2,13 @@ package com.jacob.testapp.admin.service;
 
 import com.jacob.testapp.product.entity.Product;
 import com.jacob.testapp.product.repository.ProductRepository;
+import com.jacob.testapp.product.repository.ProductSummary;
+import com.jacob.testapp.product.service.BulkStockUpdater;
+import com.jacob.testapp.product.service.ProductChangedEvent;
+import com.jacob.testapp.product.service.ProductFacetCounter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
@@ -12,8 +17,6 @@ import org.springframework.transaction.annotation.Transactional;
 
 import jakarta.persistence.criteria.Predicate;
 import java.time.LocalDateTime;
-import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -28,6 +31,9 @@ import static com.jacob.testapp.admin.service.StatisticsUtil.*;
 public class ProductAdminService {
 
     private final ProductRepository productRepository;
+    private final ProductFacetCounter productFacetCounter;
+    private final BulkStockUpdater bulkStockUpdater;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 모든 상품 조회 (페이징)
@@ -37,43 +43,13 @@ public class ProductAdminService {
     }
 
     /**
-     * 상품 검색 (키워드, 카테고리, 상태 필터링)
+     * 상품 검색 (키워드, 카테고리, 상태 필터링) - 목록 화면용 projection
      */
-    public Page<Product> searchProducts(String keyword, Product.Category category, Product.Status status, Pageable pageable) {
-        return findProductsWithSpecification(keyword, category, status, pageable);
+    public Page<ProductSummary> searchProducts(String keyword, Product.Category category, Product.Status status, Pageable pageable) {
+        String keywordPattern = keyword != null && !keyword.isEmpty() ? "%" + keyword.toLowerCase() + "%" : null;
+        return productRepository.searchSummaries(keywordPattern, category, status, pageable);
     }
     
-    /**
-     * 필터링된 상품 조회 (Specification 기반)
-     */
-    private Page<Product> findProductsWithSpecification(String keyword, Product.Category category, Product.Status status, Pageable pageable) {
-        Specification<Product> spec = (root, query, criteriaBuilder) -> {
-            List<Predicate> predicates = new ArrayList<>();
-            
-            // 키워드 검색 조건
-            if (keyword != null && !keyword.isEmpty()) {
-                predicates.add(criteriaBuilder.like(
-                    criteriaBuilder.lower(root.get("name")), 
-                    "%" + keyword.toLowerCase() + "%"
-                ));
-            }
-            
-            // 카테고리 검색 조건
-            if (category != null) {
-                predicates.add(criteriaBuilder.equal(root.get("category"), category));
-            }
-            
-            // 상태 검색 조건
-            if (status != null) {
-                predicates.add(criteriaBuilder.equal(root.get("status"), status));
-            }
-            
-            return criteriaBuilder.and(predicates.toArray(new Predicate[0]));
-        };
-        
-        return productRepository.findAll(spec, pageable);
-    }
-
     /**
      * 상품 저장 (생성/수정)
      */
@@ -93,7 +69,9 @@ public class ProductAdminService {
         
         product.setUpdatedAt(LocalDateTime.now());
         log.info("상품 저장: {}", product.getName());
-        return productRepository.save(product);
+        Product savedProduct = productRepository.save(product);
+        eventPublisher.publishEvent(ProductChangedEvent.saved(savedProduct));
+        return savedProduct;
     }
 
     /**
@@ -104,6 +82,7 @@ public class ProductAdminService {
         productRepository.findById(id).ifPresent(product -> {
             log.info("상품 삭제: {} (ID: {})", product.getName(), product.getId());
             productRepository.delete(product);
+            eventPublisher.publishEvent(ProductChangedEvent.deleted(id));
         });
     }
 
@@ -115,41 +94,10 @@ public class ProductAdminService {
     }
     
     /**
-     * 상품 통계 데이터 수집 내부 메서드
+     * 상품 통계 데이터 수집 내부 메서드 (메모리 패싯 카운터 사용)
      */
     private Map<String, Object> collectProductStatistics() {
-        Map<String, Object> statistics = new HashMap<>();
-        
-        // 전체 상품 수
-        long totalProducts = productRepository.count();
-        statistics.put("totalProducts", totalProducts);
-        
-        // 활성 상품 수 (Specification 사용)
-        Specification<Product> activeSpec = getStatusSpec(Product.Status.ACTIVE);
-        long activeProducts = productRepository.count(activeSpec);
-        statistics.put("activeProducts", activeProducts);
-        
-        // 비활성 상품 수 (Specification 사용)
-        Specification<Product> inactiveSpec = getStatusSpec(Product.Status.INACTIVE);
-        long inactiveProducts = productRepository.count(inactiveSpec);
-        statistics.put("inactiveProducts", inactiveProducts);
-        
-        // 재고 없는 상품 수 (Specification 사용)
-        Specification<Product> outOfStockSpec = (root, query, criteriaBuilder) -> 
-            criteriaBuilder.lessThanOrEqualTo(root.get("stock"), 0);
-        long outOfStockProducts = productRepository.count(outOfStockSpec);
-        statistics.put("outOfStockProducts", outOfStockProducts);
-        
-        // 카테고리별 상품 수
-        Map<String, Long> productsByCategory = new HashMap<>();
-        for (Product.Category category : Product.Category.values()) {
-            Specification<Product> categorySpec = getCategorySpec(category);
-            long count = productRepository.count(categorySpec);
-            productsByCategory.put(category.name(), count);
-        }
-        statistics.put("productsByCategory", productsByCategory);
-        
-        return statistics;
+        return productFacetCounter.getStatistics();
     }
 
     /**
@@ -174,46 +122,20 @@ public class ProductAdminService {
         int deletedCount = productsToDelete.size();
         
         productRepository.deleteAll(productsToDelete);
+        productsToDelete.forEach(product -> eventPublisher.publishEvent(ProductChangedEvent.deleted(product.getId())));
         
         return deletedCount;
     }
 
     /**
-     * 상품 재고 일괄 업데이트
+     * 상품 재고 일괄 업데이트 (ID 구간 단위 UPDATE, 구간마다 커밋)
      */
-    @Transactional
     public int bulkUpdateStock(Product.Category category, int stockAmount) {
         if (stockAmount < 0) {
             throw new IllegalArgumentException("재고 수량은 0 이상이어야 합니다.");
         }
         
         log.info("카테고리 {} 상품 재고 일괄 업데이트: {}", category, stockAmount);
-        
-        // 카테고리로 상품 조회 후 재고 일괄 업데이트
-        Specification<Product> categorySpec = getCategorySpec(category);
-        List<Product> productsToUpdate = productRepository.findAll(categorySpec);
-        
-        for (Product product : productsToUpdate) {
-            product.setStock(stockAmount);
-            productRepository.save(product);
-        }
-        
-        return productsToUpdate.size();
-    }
-    
-    /**
-     * 카테고리 기준 검색을 위한 Specification 생성 헬퍼 메서드
-     */
-    private Specification<Product> getCategorySpec(Product.Category category) {
-        return (root, query, criteriaBuilder) -> 
-            criteriaBuilder.equal(root.get("category"), category);
-    }
-    
-    /**
-     * 상태 기준 검색을 위한 Specification 생성 헬퍼 메서드
-     */
-    private Specification<Product> getStatusSpec(Product.Status status) {
-        return (root, query, criteriaBuilder) -> 
-            criteriaBuilder.equal(root.get("status"), status);
+        return bulkStockUpdater.updateCategoryStock(category, stockAmount);
     }
-} 
\ No newline at end of file
+}
@@ -1,9 +1,9 @@
 package com.jacob.testapp.admin.service;
 
+import com.jacob.testapp.common.money.Money;
 import com.jacob.testapp.order.entity.Order;
 import com.jacob.testapp.order.repository.OrderRepository;
-import com.jacob.testapp.product.entity.Product;
-import com.jacob.testapp.product.repository.ProductRepository;
+import com.jacob.testapp.product.service.ProductPriceHistogram;
 import com.jacob.testapp.user.entity.User;
 import com.jacob.testapp.user.repository.UserRepository;
 
@@ -31,7 +31,7 @@ import static com.jacob.testapp.admin.service.StatisticsUtil.*;
 public class StatisticsService {
 
     private final UserRepository userRepository;
-    private final ProductRepository productRepository;
+    private final ProductPriceHistogram productPriceHistogram;
     private final OrderRepository orderRepository;
     
     /**
@@ -110,51 +110,18 @@ public class StatisticsService {
     private Map<String, Object> collectProductStatistics() {
         Map<String, Object> stats = new HashMap<>();
         
-        List<Product> products = productRepository.findAll();
-        stats.put("totalProducts", products.size());
-        
-        // 재고 없는 상품 수
-        long outOfStock = products.stream()
-                .filter(product -> product.getStock() <= 0)
-                .count();
-        stats.put("outOfStockProducts", outOfStock);
-        
-        // 카테고리별 상품 수
-        Map<Product.Category, Long> categoryStats = products.stream()
-                .collect(Collectors.groupingBy(Product::getCategory, Collectors.counting()));
-        stats.put("productsByCategory", categoryStats);
-        
-        // 가격대별 상품 수
-        Map<String, Long> priceRangeStats = collectPriceRangeStatistics(products);
-        stats.put("productsByPriceRange", priceRangeStats);
-        
-        // 활성/비활성 상품 수
-        long activeProducts = products.stream()
-                .filter(product -> product.getStatus() == Product.Status.ACTIVE)
-                .count();
-        stats.put("activeProducts", activeProducts);
-        stats.put("inactiveProducts", products.size() - activeProducts);
+        // 가격대/카테고리/상태/품절 수를 한 번의 집계로 계산
+        ProductPriceHistogram.Result histogram = productPriceHistogram.compute();
+        stats.put("totalProducts", histogram.getTotalProducts());
+        stats.put("outOfStockProducts", histogram.getOutOfStockProducts());
+        stats.put("productsByCategory", histogram.getProductsByCategory());
+        stats.put("productsByPriceRange", histogram.getProductsByPriceRange());
+        stats.put("activeProducts", histogram.getActiveProducts());
+        stats.put("inactiveProducts", histogram.getInactiveProducts());
         
         return stats;
     }
     
-    /**
-     * 가격대별 상품 통계 수집
-     */
-    private Map<String, Long> collectPriceRangeStatistics(List<Product> products) {
-        Map<String, Long> priceRangeStats = new HashMap<>();
-        priceRangeStats.put("0-5000", products.stream().filter(p -> p.getPrice().compareTo(BigDecimal.valueOf(5000)) < 0).count());
-        priceRangeStats.put("5000-10000", products.stream().filter(p -> p.getPrice().compareTo(BigDecimal.valueOf(5000)) >= 0 && p.getPrice().compareTo(BigDecimal.valueOf(10000)) < 0).count());
-        priceRangeStats.put("10000-15000", products.stream().filter(p -> p.getPrice().compareTo(BigDecimal.valueOf(10000)) >= 0 && p.getPrice().compareTo(BigDecimal.valueOf(15000)) < 0).count());
-        priceRangeStats.put("15000-20000", products.stream().filter(p -> p.getPrice().compareTo(BigDecimal.valueOf(15000)) >= 0 && p.getPrice().compareTo(BigDecimal.valueOf(20000)) < 0).count());
-        priceRangeStats.put("20000-25000", products.stream().filter(p -> p.getPrice().compareTo(BigDecimal.valueOf(20000)) >= 0 && p.getPrice().compareTo(BigDecimal.valueOf(25000)) < 0).count());
-        priceRangeStats.put("25000-30000", products.stream().filter(p -> p.getPrice().compareTo(BigDecimal.valueOf(25000)) >= 0 && p.getPrice().compareTo(BigDecimal.valueOf(30000)) < 0).count());
-        priceRangeStats.put("30000-40000", products.stream().filter(p -> p.getPrice().compareTo(BigDecimal.valueOf(30000)) >= 0 && p.getPrice().compareTo(BigDecimal.valueOf(40000)) < 0).count());
-        priceRangeStats.put("40000-50000", products.stream().filter(p -> p.getPrice().compareTo(BigDecimal.valueOf(40000)) >= 0 && p.getPrice().compareTo(BigDecimal.valueOf(50000)) < 0).count());
-        priceRangeStats.put("50000+", products.stream().filter(p -> p.getPrice().compareTo(BigDecimal.valueOf(50000)) >= 0).count());
-        return priceRangeStats;
-    }
-    
     /**
      * 주문 관련 통계 정보 조회
      */
@@ -187,14 +154,14 @@ public class StatisticsService {
                            statusStats.getOrDefault(Order.OrderStatus.SHIPPING, 0L);
         stats.put("pendingOrders", pendingOrders);
         
-        // 총 매출 계산 - CANCELLED, DELETED 상태가 아닌 주문만 합산
-        double totalSales = orders.stream()
+        // 총 매출 계산 - CANCELLED, DELETED 상태가 아닌 주문만 합산 (minor 단위 정수 합산)
+        long totalSalesMinor = orders.stream()
                 .filter(order -> order.getStatus() != Order.OrderStatus.CANCELLED && 
                                order.getStatus() != Order.OrderStatus.DELETED)
                 .filter(order -> order.getTotalAmount() != null)
-                .mapToDouble(Order::getTotalAmount)
+                .mapToLong(Order::getTotalMinor)
                 .sum();
-        stats.put("totalSales", totalSales);
+        stats.put("totalSales", Money.toDouble(totalSalesMinor));
         
         // 월별 주문 통계
         Map<String, Long> monthlyStats = new HashMap<>();
@@ -208,17 +175,18 @@ public class StatisticsService {
         
         stats.put("monthlyOrders", monthlyStats);
         
-        // 월별 매출 통계
-        Map<String, BigDecimal> monthlySales = new HashMap<>();
+        // 월별 매출 통계 (월별 minor 합계를 누적한 뒤 한 번만 변환)
+        Map<String, long[]> monthlySalesMinor = new HashMap<>();
         
         orders.forEach(order -> {
             if (order.getCreatedAt() != null && order.getTotalAmount() != null) {
                 String month = order.getCreatedAt().format(MONTH_FORMATTER);
-                BigDecimal currentAmount = monthlySales.getOrDefault(month, BigDecimal.ZERO);
-                monthlySales.put(month, currentAmount.add(BigDecimal.valueOf(order.getTotalAmount())));
+                monthlySalesMinor.computeIfAbsent(month, key -> new long[1])[0] += order.getTotalMinor();
             }
         });
         
+        Map<String, BigDecimal> monthlySales = new HashMap<>();
+        monthlySalesMinor.forEach((month, sum) -> monthlySales.put(month, Money.toBigDecimal(sum[0])));
         stats.put("monthlySales", monthlySales);
         
         return stats;
@@ -270,18 +238,18 @@ public class StatisticsService {
         // 평균 주문 금액
         double avgOrderAmount = orders.stream()
             .filter(order -> order.getTotalAmount() != null)
-            .mapToDouble(Order::getTotalAmount)
+            .mapToLong(Order::getTotalMinor)
             .average()
-            .orElse(0);
+            .orElse(0) / Money.MINOR_PER_WON;
         stats.put("averageOrderAmount", avgOrderAmount);
         
         // 최대 주문 금액
-        double maxOrderAmount = orders.stream()
+        long maxOrderMinor = orders.stream()
             .filter(order -> order.getTotalAmount() != null)
-            .mapToDouble(Order::getTotalAmount)
+            .mapToLong(Order::getTotalMinor)
             .max()
-            .orElse(0);
-        stats.put("maxOrderAmount", maxOrderAmount);
+            .orElse(0L);
+        stats.put("maxOrderAmount", Money.toDouble(maxOrderMinor));
         
         // 구매 횟수별 사용자 수
         Map<Long, Long> userOrderCounts = orders.stream()
@@ -1,16 +1,20 @@
 package com.jacob.testapp.admin.service;
 
+import com.jacob.testapp.cart.service.CartStore;
 import com.jacob.testapp.product.entity.Product;
 import com.jacob.testapp.product.repository.ProductRepository;
+import com.jacob.testapp.order.service.OrderSalesEvent;
+import com.jacob.testapp.product.service.ProductChangedEvent;
 import com.jacob.testapp.user.entity.User;
 import com.jacob.testapp.user.repository.UserRepository;
-import com.jacob.testapp.cart.entity.Cart;
-import com.jacob.testapp.cart.repository.CartRepository;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
@@ -39,7 +43,8 @@ public class TestDataService {
     private final UserRepository userRepository;
     private final ProductRepository productRepository;
     private final PasswordEncoder passwordEncoder;
-    private final CartRepository cartRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final CartStore cartStore;
     private final Random random = new Random();
     
     // EntityManager 주입
@@ -181,11 +186,13 @@ public class TestDataService {
             UserRepository userRepository, 
             ProductRepository productRepository, 
             PasswordEncoder passwordEncoder,
-            CartRepository cartRepository) {
+            ApplicationEventPublisher eventPublisher,
+            CartStore cartStore) {
         this.userRepository = userRepository;
         this.productRepository = productRepository;
         this.passwordEncoder = passwordEncoder;
-        this.cartRepository = cartRepository;
+        this.eventPublisher = eventPublisher;
+        this.cartStore = cartStore;
     }
 
     /**
@@ -217,6 +224,9 @@ public class TestDataService {
             
             // 스레드 풀 종료
             executorService.shutdown();
+            
+            // 서비스를 거치지 않고 저장했으므로 상품 인덱스/캐시 재생성 요청
+            eventPublisher.publishEvent(ProductChangedEvent.bulkChanged(null));
 
             long endTime = System.currentTimeMillis();
             long durationMs = endTime - startTime;
@@ -316,15 +326,9 @@ public class TestDataService {
                                         .createdAt(LocalDateTime.now())
                                         .build();
 
+                                // 장바구니는 처음 상품을 담을 때 생성 (UserService.register와 일치)
                                 userRepository.save(user);
 
-                                // 사용자의 장바구니 생성
-                                Cart cart = Cart.builder()
-                                        .user(user)
-                                        .totalPrice(BigDecimal.ZERO)
-                                        .build();
-                                cartRepository.save(cart);
-
                                 successCount.incrementAndGet();
                             } catch (Exception e) {
                                 logger.error("사용자 생성 중 오류 발생 (인덱스: {}): {}", i, e.getMessage());
@@ -475,6 +479,7 @@ public class TestDataService {
                 
             logger.info("테스트 상품 관련 주문 아이템 {}개 삭제 완료", deletedItems);
             deletedOrderItems = deletedItems;
+            eventPublisher.publishEvent(OrderSalesEvent.reset());
             
             // 3. 테스트 사용자와 연관된 장바구니를 삭제
             logger.info("장바구니 삭제 시작 - 테스트 사용자 관련");
@@ -488,6 +493,8 @@ public class TestDataService {
                 .executeUpdate();
                 
             logger.info("테스트 사용자 관련 장바구니 {}개 삭제 완료", deletedItems);
+            // 벌크 삭제는 메모리 장바구니를 거치지 않으므로 커밋 후 적재된 장바구니를 내려 DB에서 다시 읽게 함
+            afterCommit(cartStore::evictAll);
             
             // 4. 테스트 사용자와 연관된 주문을 삭제
             logger.info("주문 삭제 시작 - 테스트 사용자 관련");
@@ -524,6 +531,7 @@ public class TestDataService {
                     .executeUpdate();
                     
                 logger.info("테스트 상품 {}개 삭제 완료", deletedProducts);
+                eventPublisher.publishEvent(ProductChangedEvent.bulkChanged(null));
             }
             
             // 6. 마지막으로 테스트 사용자 삭제
@@ -684,4 +692,20 @@ public class TestDataService {
     private String generateRandomPhoneNumber(ThreadLocalRandom random) {
         return String.format("010-%04d-%04d", random.nextInt(10000), random.nextInt(10000));
     }
-} 
\ No newline at end of file
+
+    /**
+     * 트랜잭션 커밋 이후 실행 (트랜잭션이 없으면 즉시 실행)
+     */
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
@@ -1,9 +1,14 @@
 package com.jacob.testapp.cart.controller;
 
 import com.jacob.testapp.cart.entity.Cart;
+import com.jacob.testapp.cart.service.CartLine;
+import com.jacob.testapp.cart.service.CartLineResult;
 import com.jacob.testapp.cart.service.CartService;
+import com.jacob.testapp.cart.service.GuestCartCookie;
 import com.jacob.testapp.user.entity.User;
 import com.jacob.testapp.user.service.UserService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
@@ -11,7 +16,12 @@ import org.springframework.web.bind.annotation.*;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 
 import java.security.Principal;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.function.Consumer;
+import java.util.stream.Collectors;
 
 @Controller
 @RequestMapping("/cart")
@@ -19,18 +29,25 @@ public class CartController {
 
     private final CartService cartService;
     private final UserService userService;
+    private final GuestCartCookie guestCartCookie;
 
     @Autowired
-    public CartController(CartService cartService, UserService userService) {
+    public CartController(CartService cartService, UserService userService, GuestCartCookie guestCartCookie) {
         this.cartService = cartService;
         this.userService = userService;
+        this.guestCartCookie = guestCartCookie;
     }
 
-    // 장바구니 페이지 보기
+    // 장바구니 페이지 보기 (비로그인 사용자는 쿠키 장바구니)
     @GetMapping
-    public String viewCart(Model model, Principal principal) {
+    public String viewCart(Model model, Principal principal, HttpServletRequest request) {
         if (principal == null) {
-            return "redirect:/login";
+            Cart cart = cartService.getGuestCart(guestCartCookie.read(request));
+            model.addAttribute("cart", cart);
+            model.addAttribute("cartItemCount", cart.getTotalQuantity());
+            model.addAttribute("cartItemTypes", cart.getCartItems().size());
+            model.addAttribute("totalPrice", cart.getTotalPrice().toBigDecimal());
+            return "cart/view";
         }
 
         User user = getUserFromPrincipal(principal);
@@ -39,7 +56,7 @@ public class CartController {
         model.addAttribute("cart", cart);
         model.addAttribute("cartItemCount", cart.getTotalQuantity());
         model.addAttribute("cartItemTypes", cart.getCartItems().size());
-        model.addAttribute("totalPrice", cart.getTotalPrice());
+        model.addAttribute("totalPrice", cart.getTotalPrice().toBigDecimal());
         model.addAttribute("user", user);
         model.addAttribute("cashBalance", user.getCashBalance());
 
@@ -53,23 +70,93 @@ public class CartController {
             @RequestParam(defaultValue = "1") int quantity,
             @RequestParam(defaultValue = "/products") String returnUrl,
             Principal principal,
+            HttpServletRequest request,
+            HttpServletResponse response,
             RedirectAttributes redirectAttributes) {
         
         // returnUrl이 절대 경로가 아니면 redirect: 접두사 추가
         String redirectTo = returnUrl.startsWith("/") ? "redirect:" + returnUrl : returnUrl;
         
+        if (principal == null) {
+            return executeGuestOperation(request, response, redirectAttributes, items -> {
+                int total = items.getOrDefault(productId, 0) + quantity;
+                cartService.validateGuestQuantity(productId, total);
+                items.put(productId, total);
+            }, "상품이 장바구니에 추가되었습니다", redirectTo, returnUrl);
+        }
+        
         return executeCartOperation(principal, redirectAttributes, user -> 
             cartService.addProductToCart(user, productId, quantity),
             "상품이 장바구니에 추가되었습니다", redirectTo, returnUrl);
     }
     
+    // 장바구니에 여러 상품 한 번에 추가 (productId/quantity 파라미터를 같은 순서로 반복, 수량 생략 시 1개)
+    @PostMapping("/add-bulk")
+    public String addBulkToCart(
+            @RequestParam("productId") List<Long> productIds,
+            @RequestParam(value = "quantity", required = false) List<Integer> quantities,
+            @RequestParam(defaultValue = "/cart") String returnUrl,
+            Principal principal,
+            HttpServletRequest request,
+            HttpServletResponse response,
+            RedirectAttributes redirectAttributes) {
+        
+        String redirectTo = returnUrl.startsWith("/") ? "redirect:" + returnUrl : returnUrl;
+        List<CartLine> lines = new ArrayList<>(productIds.size());
+        for (int i = 0; i < productIds.size(); i++) {
+            int quantity = quantities != null && i < quantities.size() && quantities.get(i) != null ? quantities.get(i) : 1;
+            lines.add(new CartLine(productIds.get(i), quantity));
+        }
+        
+        if (principal == null) {
+            return executeGuestOperation(request, response, redirectAttributes, items -> {
+                List<CartLineResult> results = new ArrayList<>(lines.size());
+                for (CartLine line : lines) {
+                    try {
+                        int total = items.getOrDefault(line.productId(), 0) + line.quantity();
+                        cartService.validateGuestQuantity(line.productId(), total);
+                        items.put(line.productId(), total);
+                        results.add(CartLineResult.added(line.productId(), line.quantity()));
+                    } catch (IllegalArgumentException e) {
+                        results.add(CartLineResult.rejected(line.productId(), line.quantity(), e.getMessage()));
+                    }
+                }
+                addBulkResults(redirectAttributes, results);
+            }, "선택한 상품을 장바구니에 담았습니다", redirectTo, returnUrl);
+        }
+        
+        return executeCartOperation(principal, redirectAttributes,
+            user -> addBulkResults(redirectAttributes, cartService.addProductsToCart(user, lines)),
+            "선택한 상품을 장바구니에 담았습니다", redirectTo, returnUrl);
+    }
+    
+    // 일괄 추가 결과 표시 (추가되지 않은 상품이 있으면 이유를 함께 표시)
+    private void addBulkResults(RedirectAttributes redirectAttributes, List<CartLineResult> results) {
+        redirectAttributes.addFlashAttribute("bulkAddResults", results);
+        
+        String rejected = results.stream()
+                .filter(result -> !result.added())
+                .map(result -> "상품 " + result.productId() + ": " + result.message())
+                .collect(Collectors.joining(", "));
+        if (!rejected.isEmpty()) {
+            redirectAttributes.addFlashAttribute("errorMessage", "일부 상품을 추가하지 못했습니다 - " + rejected);
+        }
+    }
+    
     // 장바구니에서 상품 제거
     @PostMapping("/remove")
     public String removeFromCart(
             @RequestParam Long productId,
             Principal principal,
+            HttpServletRequest request,
+            HttpServletResponse response,
             RedirectAttributes redirectAttributes) {
         
+        if (principal == null) {
+            return executeGuestOperation(request, response, redirectAttributes, items -> items.remove(productId),
+                "상품이 장바구니에서 제거되었습니다", "redirect:/cart", "/cart");
+        }
+        
         return executeCartOperation(principal, redirectAttributes, user -> 
             cartService.removeProductFromCart(user, productId),
             "상품이 장바구니에서 제거되었습니다", "redirect:/cart", "/cart");
@@ -81,8 +168,21 @@ public class CartController {
             @RequestParam Long productId,
             @RequestParam int quantity,
             Principal principal,
+            HttpServletRequest request,
+            HttpServletResponse response,
             RedirectAttributes redirectAttributes) {
         
+        if (principal == null) {
+            return executeGuestOperation(request, response, redirectAttributes, items -> {
+                if (quantity <= 0) {
+                    items.remove(productId);
+                    return;
+                }
+                cartService.validateGuestQuantity(productId, quantity);
+                items.put(productId, quantity);
+            }, "장바구니가 업데이트되었습니다", "redirect:/cart", "/cart");
+        }
+        
         return executeCartOperation(principal, redirectAttributes, user -> 
             cartService.updateProductQuantity(user, productId, quantity),
             "장바구니가 업데이트되었습니다", "redirect:/cart", "/cart");
@@ -92,8 +192,15 @@ public class CartController {
     @PostMapping("/clear")
     public String clearCart(
             Principal principal,
+            HttpServletRequest request,
+            HttpServletResponse response,
             RedirectAttributes redirectAttributes) {
         
+        if (principal == null) {
+            return executeGuestOperation(request, response, redirectAttributes, Map::clear,
+                "장바구니가 비워졌습니다", "redirect:/cart", "/cart");
+        }
+        
         return executeCartOperation(principal, redirectAttributes, user -> 
             cartService.clearCart(user),
             "장바구니가 비워졌습니다", "redirect:/cart", "/cart");
@@ -167,6 +274,28 @@ public class CartController {
         }
     }
     
+    // 비로그인 사용자 쿠키 장바구니 변경 (DB에 기록하지 않음)
+    private String executeGuestOperation(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            RedirectAttributes redirectAttributes,
+            Consumer<Map<Long, Integer>> operation,
+            String successMessage,
+            String redirectUrl,
+            String fallbackUrl) {
+        
+        try {
+            Map<Long, Integer> items = new LinkedHashMap<>(guestCartCookie.read(request));
+            operation.accept(items);
+            guestCartCookie.write(response, items);
+            redirectAttributes.addFlashAttribute("successMessage", successMessage);
+            return redirectUrl;
+        } catch (IllegalArgumentException | IllegalStateException e) {
+            redirectAttributes.addFlashAttribute("errorMessage", e.getMessage());
+            return fallbackUrl.startsWith("redirect:") ? fallbackUrl : "redirect:" + fallbackUrl;
+        }
+    }
+    
     // 기존 메서드와의 호환성을 위한 오버로딩 메서드
     private String executeCartOperation(
             Principal principal, 
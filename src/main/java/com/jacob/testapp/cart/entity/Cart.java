@@ -1,5 +1,7 @@
 package com.jacob.testapp.cart.entity;
 
+import com.jacob.testapp.common.money.Money;
+import com.jacob.testapp.common.money.MoneyDecimalConverter;
 import com.jacob.testapp.product.entity.Product;
 import com.jacob.testapp.user.entity.User;
 import jakarta.persistence.*;
@@ -10,7 +12,6 @@ import lombok.NoArgsConstructor;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
-import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
@@ -36,8 +37,9 @@ public class Cart {
     @Builder.Default
     private List<CartItem> cartItems = new ArrayList<>();
 
+    @Convert(converter = MoneyDecimalConverter.class)
     @Column(nullable = false, precision = 10, scale = 2)
-    private BigDecimal totalPrice;
+    private Money totalPrice;
 
     @CreationTimestamp
     @Column(name = "created_at", updatable = false)
@@ -99,18 +101,26 @@ public class Cart {
      */
     public void clear() {
         cartItems.clear();
-        totalPrice = BigDecimal.ZERO;
+        totalPrice = Money.ZERO;
     }
 
     /**
-     * 총 가격 다시 계산
+     * 총 가격 다시 계산 (전체 항목 순회)
      */
     public void recalculateTotalPrice() {
-        totalPrice = BigDecimal.valueOf(
-            cartItems.stream()
-                .mapToDouble(CartItem::getTotalPrice)
-                .sum()
-        );
+        long totalMinor = 0L;
+        for (CartItem item : cartItems) {
+            totalMinor = Math.addExact(totalMinor, item.getLineMinor());
+        }
+        totalPrice = Money.ofMinor(totalMinor);
+    }
+
+    /**
+     * 총 가격을 minor 단위 금액만큼 증감 (전체 항목을 다시 계산하지 않음)
+     */
+    public void applyAmountChange(long amountMinor) {
+        long currentMinor = totalPrice != null ? totalPrice.getMinor() : 0L;
+        totalPrice = Money.ofMinor(Math.addExact(currentMinor, amountMinor));
     }
 
     /**
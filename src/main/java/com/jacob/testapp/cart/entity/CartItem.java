@@ -1,5 +1,6 @@
 package com.jacob.testapp.cart.entity;
 
+import com.jacob.testapp.common.money.Money;
 import com.jacob.testapp.product.entity.Product;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
@@ -9,7 +10,6 @@ import lombok.NoArgsConstructor;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
-import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 @Entity
@@ -34,6 +34,12 @@ public class CartItem {
 
     private int quantity;
 
+    /**
+     * 마지막으로 담거나 수량을 바꿀 때의 단가 (minor 단위, 장바구니 총액 증감 기준)
+     */
+    @Column(name = "unit_price_minor")
+    private Long unitPriceMinor;
+
     @CreationTimestamp
     @Column(name = "created_at", updatable = false)
     private LocalDateTime createdAt;
@@ -47,10 +53,27 @@ public class CartItem {
      * @return 상품 가격 * 수량
      */
     public double getTotalPrice() {
+        return Money.toDouble(getLineMinor());
+    }
+    
+    /**
+     * 항목 금액 (상품 가격 * 수량, minor 단위)
+     */
+    public long getLineMinor() {
         if (product == null) {
-            return 0;
+            return 0L;
+        }
+        return Money.multiply(Money.toMinor(product.getPrice()), quantity);
+    }
+    
+    /**
+     * 장바구니 총액에 반영된 항목 금액 (저장된 단가 * 수량, 단가가 없는 기존 항목은 현재 가격 기준)
+     */
+    public long getRecordedLineMinor() {
+        if (unitPriceMinor == null) {
+            return getLineMinor();
         }
-        return product.getPrice().doubleValue() * quantity;
+        return Money.multiply(unitPriceMinor, quantity);
     }
     
     /**
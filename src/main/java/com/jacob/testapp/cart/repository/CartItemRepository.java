@@ -10,6 +10,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -32,6 +33,14 @@ public interface CartItemRepository extends JpaRepository<CartItem, Long> {
     @Query("SELECT ci FROM CartItem ci WHERE ci.cart.id = :cartId AND ci.product.id = :productId")
     Optional<CartItem> findByCartIdAndProductId(@Param("cartId") Long cartId, @Param("productId") Long productId);
     
+    /**
+     * 장바구니에 담긴 지정 상품들의 수량과 저장된 단가 (상품 ID, 수량, 단가)
+     */
+    @Query("SELECT ci.product.id, ci.quantity, ci.unitPriceMinor FROM CartItem ci " +
+           "WHERE ci.cart.id = :cartId AND ci.product.id IN :productIds")
+    List<Object[]> findLineRowsByCartIdAndProductIdIn(@Param("cartId") Long cartId,
+                                                      @Param("productIds") Collection<Long> productIds);
+    
     /**
      * 장바구니 아이템 수량 업데이트
      */
@@ -1,6 +1,7 @@
 package com.jacob.testapp.cart.repository;
 
 import com.jacob.testapp.cart.entity.Cart;
+import com.jacob.testapp.common.money.Money;
 import com.jacob.testapp.user.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
@@ -9,6 +10,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import jakarta.persistence.LockModeType;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -26,12 +28,31 @@ public interface CartRepository extends JpaRepository<Cart, Long> {
     @Query("SELECT c FROM Cart c JOIN FETCH c.cartItems ci JOIN FETCH ci.product WHERE c.user.id = :userId")
     Optional<Cart> findByUserIdWithItems(@Param("userId") Long userId);
 
+    /**
+     * 사용자 ID로 장바구니를 조회하고 항목이 있으면 상품과 함께 로드 (항목이 없어도 조회됨)
+     */
+    @Query("SELECT c FROM Cart c LEFT JOIN FETCH c.cartItems ci LEFT JOIN FETCH ci.product WHERE c.user.id = :userId")
+    Optional<Cart> findWithItemsByUserId(@Param("userId") Long userId);
+
     /**
      * 사용자 ID로 장바구니만 조회 (항목 없이)
      */
     @Query("SELECT c FROM Cart c WHERE c.user.id = :userId")
     Optional<Cart> findByUserId(@Param("userId") Long userId);
     
+    /**
+     * 사용자 장바구니 총액만 조회 (항목 없이)
+     */
+    @Query("SELECT c.totalPrice FROM Cart c WHERE c.user.id = :userId")
+    Optional<Money> findTotalPriceByUserId(@Param("userId") Long userId);
+
+    /**
+     * 사용자 장바구니 요약 (담은 수량 합계, 총액) - 장바구니가 없으면 빈 목록
+     */
+    @Query("SELECT COALESCE(SUM(ci.quantity), 0), c.totalPrice FROM Cart c LEFT JOIN c.cartItems ci " +
+           "WHERE c.user.id = :userId GROUP BY c.id, c.totalPrice")
+    List<Object[]> findSummaryRowByUserId(@Param("userId") Long userId);
+
     /**
      * 비관적 락을 사용하여 장바구니 조회
      */
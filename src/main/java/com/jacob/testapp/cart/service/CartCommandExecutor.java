@@ -0,0 +1,222 @@
+package com.jacob.testapp.cart.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.function.Supplier;
+
+/**
+ * 사용자별 장바구니 명령 큐 (메일박스)
+ * - 같은 사용자의 장바구니 변경은 공유 스레드 풀에서 한 번에 하나씩 순서대로 실행해 버전 충돌이 생기지 않음
+ * - 아직 시작하지 않은 명령과 같은 병합 키의 명령이 들어오면 하나로 합침 (마지막 값만 실행, 두 요청 모두 그 결과를 받음)
+ * - 사용자별 대기 명령 수가 한도를 넘으면 즉시 거절함
+ * - 큐 대기 시간 등 처리 통계는 getStats로 조회
+ */
+@Slf4j
+@Component
+public class CartCommandExecutor {
+
+    // 한 번에 연속 실행할 명령 수 (다른 사용자의 메일박스에도 차례가 가도록)
+    private static final int DRAIN_BATCH = 16;
+
+    private final boolean enabled;
+    private final int maxQueueDepth;
+    private final long timeoutMs;
+    private final ExecutorService executor;
+
+    private final Map<Long, Mailbox> mailboxes = new ConcurrentHashMap<>();
+    // 현재 스레드에서 실행 중인 명령의 사용자 ID (중첩 호출은 바로 실행)
+    private final ThreadLocal<Long> runningUserId = new ThreadLocal<>();
+
+    private final AtomicLong submitted = new AtomicLong();
+    private final AtomicLong executed = new AtomicLong();
+    private final AtomicLong coalesced = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+    private final AtomicLong totalWaitNanos = new AtomicLong();
+    private final LongAccumulator maxWaitNanos = new LongAccumulator(Math::max, 0L);
+
+    public CartCommandExecutor(@Value("${app.cart.commands.enabled:true}") boolean enabled,
+                               @Value("${app.cart.commands.threads:8}") int threads,
+                               @Value("${app.cart.commands.max-queue-depth:16}") int maxQueueDepth,
+                               @Value("${app.cart.commands.timeout-ms:5000}") long timeoutMs) {
+        this.enabled = enabled;
+        this.maxQueueDepth = maxQueueDepth;
+        this.timeoutMs = timeoutMs;
+        this.executor = enabled ? Executors.newFixedThreadPool(threads) : null;
+    }
+
+    /**
+     * 사용자 메일박스에서 명령 실행 후 결과 반환 (호출 스레드는 완료될 때까지 대기)
+     *
+     * @param coalesceKey 병합 키 (null이면 병합하지 않음)
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T execute(Long userId, String coalesceKey, Supplier<T> action) {
+        if (!enabled || userId == null || userId.equals(runningUserId.get())) {
+            return action.get();
+        }
+        CompletableFuture<Object> future = submit(userId, coalesceKey, (Supplier<Object>) action);
+        try {
+            return (T) future.get(timeoutMs, TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException("장바구니 처리 중 오류가 발생했습니다", cause);
+        } catch (TimeoutException e) {
+            log.warn("장바구니 명령 대기 시간 초과: 사용자 ID={}, {}ms", userId, timeoutMs);
+            throw new IllegalStateException("장바구니 요청이 지연되고 있습니다. 잠시 후 다시 확인해주세요.");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("장바구니 작업이 중단되었습니다.");
+        }
+    }
+
+    /**
+     * 반환값 없는 명령 실행
+     */
+    public void execute(Long userId, String coalesceKey, Runnable action) {
+        execute(userId, coalesceKey, () -> {
+            action.run();
+            return null;
+        });
+    }
+
+    /**
+     * 처리 통계
+     */
+    public Stats getStats() {
+        long executedCount = executed.get();
+        long averageWaitMicros = executedCount == 0 ? 0 : totalWaitNanos.get() / executedCount / 1_000;
+        return new Stats(enabled, mailboxes.size(), submitted.get(), executedCount, coalesced.get(), rejected.get(),
+                averageWaitMicros, maxWaitNanos.get() / 1_000);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (executor != null) {
+            executor.shutdown();
+        }
+    }
+
+    private CompletableFuture<Object> submit(Long userId, String coalesceKey, Supplier<Object> action) {
+        while (true) {
+            Mailbox mailbox = mailboxes.computeIfAbsent(userId, Mailbox::new);
+            synchronized (mailbox) {
+                if (mailbox.closed) {
+                    // 비워져 제거된 메일박스 - 새로 만들어 다시 시도
+                    continue;
+                }
+                submitted.incrementAndGet();
+                if (coalesceKey != null) {
+                    for (Command pending : mailbox.queue) {
+                        if (coalesceKey.equals(pending.coalesceKey)) {
+                            pending.action = action;
+                            coalesced.incrementAndGet();
+                            return pending.future;
+                        }
+                    }
+                }
+                if (mailbox.queue.size() >= maxQueueDepth) {
+                    rejected.incrementAndGet();
+                    throw new IllegalStateException("장바구니 요청이 너무 많습니다. 잠시 후 다시 시도해주세요.");
+                }
+                Command command = new Command(coalesceKey, action);
+                mailbox.queue.addLast(command);
+                if (!mailbox.scheduled) {
+                    mailbox.scheduled = true;
+                    executor.execute(() -> drain(mailbox));
+                }
+                return command.future;
+            }
+        }
+    }
+
+    private void drain(Mailbox mailbox) {
+        for (int i = 0; i < DRAIN_BATCH; i++) {
+            Command command;
+            synchronized (mailbox) {
+                command = mailbox.queue.pollFirst();
+                if (command == null) {
+                    mailbox.scheduled = false;
+                    mailbox.closed = true;
+                    mailboxes.remove(mailbox.userId, mailbox);
+                    return;
+                }
+            }
+            run(mailbox.userId, command);
+        }
+        // 남은 명령은 다시 풀에 넣어 다른 사용자 명령과 번갈아 실행
+        executor.execute(() -> drain(mailbox));
+    }
+
+    private void run(Long userId, Command command) {
+        long waitNanos = System.nanoTime() - command.enqueuedAt;
+        totalWaitNanos.addAndGet(waitNanos);
+        maxWaitNanos.accumulate(waitNanos);
+        executed.incrementAndGet();
+
+        runningUserId.set(userId);
+        try {
+            command.future.complete(command.action.get());
+        } catch (Throwable e) {
+            command.future.completeExceptionally(e);
+        } finally {
+            runningUserId.remove();
+        }
+    }
+
+    /**
+     * 사용자별 명령 큐
+     */
+    private static final class Mailbox {
+        private final Long userId;
+        private final Deque<Command> queue = new ArrayDeque<>();
+        private boolean scheduled;
+        private boolean closed;
+
+        private Mailbox(Long userId) {
+            this.userId = userId;
+        }
+    }
+
+    /**
+     * 대기 중인 명령 (병합되면 action만 교체)
+     */
+    private static final class Command {
+        private final String coalesceKey;
+        private final long enqueuedAt = System.nanoTime();
+        private final CompletableFuture<Object> future = new CompletableFuture<>();
+        private volatile Supplier<Object> action;
+
+        private Command(String coalesceKey, Supplier<Object> action) {
+            this.coalesceKey = coalesceKey;
+            this.action = action;
+        }
+    }
+
+    /**
+     * 명령 처리 통계 (대기 시간은 마이크로초)
+     */
+    public record Stats(boolean enabled, int activeMailboxes, long submitted, long executed,
+                        long coalesced, long rejected, long averageWaitMicros, long maxWaitMicros) {
+    }
+}
@@ -0,0 +1,10 @@
+package com.jacob.testapp.cart.service;
+
+/**
+ * 장바구니 일괄 추가 요청 한 줄
+ *
+ * @param productId 상품 ID
+ * @param quantity 추가할 수량
+ */
+public record CartLine(Long productId, int quantity) {
+}
@@ -0,0 +1,20 @@
+package com.jacob.testapp.cart.service;
+
+/**
+ * 장바구니 일괄 추가 결과 한 줄
+ *
+ * @param productId 상품 ID
+ * @param quantity 요청 수량 (같은 상품이 여러 줄이면 합계)
+ * @param added 장바구니에 추가되었는지 여부
+ * @param message 추가되지 않은 이유 (추가되었으면 null)
+ */
+public record CartLineResult(Long productId, int quantity, boolean added, String message) {
+
+    public static CartLineResult added(Long productId, int quantity) {
+        return new CartLineResult(productId, quantity, true, null);
+    }
+
+    public static CartLineResult rejected(Long productId, int quantity, String message) {
+        return new CartLineResult(productId, quantity, false, message);
+    }
+}
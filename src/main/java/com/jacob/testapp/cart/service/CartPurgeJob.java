@@ -0,0 +1,208 @@
+package com.jacob.testapp.cart.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 오래 사용하지 않은 장바구니 정리 (선택 기능, app.cart.purge.enabled)
+ * - carts를 ID 순으로 키셋 스캔하며 주기마다 chunk-size개 행만 확인하고, 그중 유휴 장바구니만 짧은 트랜잭션으로 삭제함
+ * - 청크 사이에는 스케줄 간격만큼 쉬고, 전체 스캔이 끝나면 pass-interval 이후 처음부터 다시 스캔함
+ * - 삭제 직전에 행을 잠그고 유휴 여부를 다시 확인하므로 그사이 변경된 장바구니는 남김
+ * - 진행 위치와 처리량은 getStats로 조회
+ */
+@Slf4j
+@Component
+public class CartPurgeJob {
+
+    private static final String SCAN_SQL = "SELECT c.id, c.user_id, " +
+            "CASE WHEN COALESCE(c.updated_at, c.created_at) < ? AND NOT EXISTS " +
+            "(SELECT 1 FROM cart_items ci WHERE ci.cart_id = c.id AND ci.updated_at >= ?) THEN 1 ELSE 0 END " +
+            "FROM carts c WHERE c.id > ? ORDER BY c.id LIMIT ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final CartSummaryCache summaryCache;
+    private final CartStore cartStore;
+    private final boolean enabled;
+    private final Duration idleAge;
+    private final int chunkSize;
+    private final long passIntervalMs;
+
+    // 스케줄러 스레드에서만 변경 (조회용으로 volatile)
+    private volatile long cursor;
+    private volatile long nextPassAt;
+    private volatile LocalDateTime passCutoff;
+    private volatile long passStartedAt;
+    private volatile long passScanned;
+    private volatile long passDeleted;
+    private volatile long lastPassDeleted;
+    private volatile long lastPassMillis;
+
+    private final AtomicLong scannedCarts = new AtomicLong();
+    private final AtomicLong deletedCarts = new AtomicLong();
+    private final AtomicLong deletedItems = new AtomicLong();
+    private final AtomicLong chunks = new AtomicLong();
+    private final AtomicLong deleteNanos = new AtomicLong();
+    private final AtomicLong completedPasses = new AtomicLong();
+
+    public CartPurgeJob(JdbcTemplate jdbcTemplate,
+                        PlatformTransactionManager transactionManager,
+                        CartSummaryCache summaryCache,
+                        CartStore cartStore,
+                        @Value("${app.cart.purge.enabled:false}") boolean enabled,
+                        @Value("${app.cart.purge.idle-age:30d}") Duration idleAge,
+                        @Value("${app.cart.purge.chunk-size:500}") int chunkSize,
+                        @Value("${app.cart.purge.pass-interval-ms:3600000}") long passIntervalMs) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("장바구니 정리 청크 크기는 1 이상이어야 합니다");
+        }
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.summaryCache = summaryCache;
+        this.cartStore = cartStore;
+        this.enabled = enabled;
+        this.idleAge = idleAge;
+        this.chunkSize = chunkSize;
+        this.passIntervalMs = passIntervalMs;
+    }
+
+    /**
+     * 다음 청크 정리 (호출 사이 간격이 청크 사이 휴식 시간)
+     */
+    @Scheduled(fixedDelayString = "${app.cart.purge.chunk-interval-ms:500}")
+    public void purgeNextChunk() {
+        if (!enabled) {
+            return;
+        }
+        if (cursor == 0) {
+            if (System.currentTimeMillis() < nextPassAt) {
+                return;
+            }
+            // 새 스캔 시작 - 스캔하는 동안 같은 기준 시각 사용
+            passCutoff = LocalDateTime.now().minus(idleAge);
+            passStartedAt = System.currentTimeMillis();
+            passScanned = 0;
+            passDeleted = 0;
+        }
+
+        try {
+            List<Long> idleCartIds = new ArrayList<>();
+            Map<Long, Long> userIds = new HashMap<>();
+            Timestamp cutoff = Timestamp.valueOf(passCutoff);
+            List<Object[]> rows = jdbcTemplate.query(SCAN_SQL,
+                    (rs, rowNum) -> new Object[]{rs.getLong(1), rs.getLong(2), rs.getInt(3)},
+                    cutoff, cutoff, cursor, chunkSize);
+
+            for (Object[] row : rows) {
+                Long cartId = (Long) row[0];
+                Long userId = (Long) row[1];
+                if ((Integer) row[2] == 1 && !cartStore.isResident(userId)) {
+                    idleCartIds.add(cartId);
+                    userIds.put(cartId, userId);
+                }
+            }
+            scannedCarts.addAndGet(rows.size());
+            passScanned += rows.size();
+
+            if (!idleCartIds.isEmpty()) {
+                long started = System.nanoTime();
+                List<Long> deleted = deleteChunk(idleCartIds, cutoff);
+                deleteNanos.addAndGet(System.nanoTime() - started);
+                chunks.incrementAndGet();
+                deletedCarts.addAndGet(deleted.size());
+                passDeleted += deleted.size();
+                deleted.forEach(cartId -> {
+                    // 스캔 이후 메모리에 적재된 장바구니는 삭제된 DB 상태로 다시 적재되도록 내림
+                    Long userId = userIds.get(cartId);
+                    summaryCache.evict(userId);
+                    cartStore.evict(userId);
+                });
+            }
+
+            if (rows.size() < chunkSize) {
+                finishPass();
+            } else {
+                cursor = (Long) rows.get(rows.size() - 1)[0];
+            }
+        } catch (RuntimeException e) {
+            // 다음 주기에 같은 위치부터 다시 시도
+            log.warn("장바구니 정리 실패: 위치={}, {}", cursor, e.getMessage());
+        }
+    }
+
+    /**
+     * 정리 통계 (처리량은 삭제 트랜잭션 시간 기준)
+     */
+    public Stats getStats() {
+        long nanos = deleteNanos.get();
+        long cartsPerSecond = nanos == 0 ? 0 : deletedCarts.get() * 1_000_000_000L / nanos;
+        return new Stats(enabled, cursor, passScanned, passDeleted, scannedCarts.get(), deletedCarts.get(),
+                deletedItems.get(), chunks.get(), completedPasses.get(), lastPassDeleted, lastPassMillis, cartsPerSecond);
+    }
+
+    /**
+     * 청크 삭제 - 후보 행을 잠그고 유휴 여부를 다시 확인한 뒤 항목과 장바구니를 함께 삭제
+     */
+    private List<Long> deleteChunk(List<Long> candidateIds, Timestamp cutoff) {
+        List<Long> deleted = transactionTemplate.execute(status -> {
+            String placeholders = String.join(",", Collections.nCopies(candidateIds.size(), "?"));
+            List<Object> lockArgs = new ArrayList<>(candidateIds);
+            lockArgs.add(cutoff);
+            lockArgs.add(cutoff);
+            List<Long> lockedIds = jdbcTemplate.queryForList(
+                    "SELECT c.id FROM carts c WHERE c.id IN (" + placeholders + ") " +
+                    "AND COALESCE(c.updated_at, c.created_at) < ? AND NOT EXISTS " +
+                    "(SELECT 1 FROM cart_items ci WHERE ci.cart_id = c.id AND ci.updated_at >= ?) FOR UPDATE",
+                    Long.class, lockArgs.toArray());
+            if (lockedIds.isEmpty()) {
+                return lockedIds;
+            }
+
+            String lockedPlaceholders = String.join(",", Collections.nCopies(lockedIds.size(), "?"));
+            Object[] ids = lockedIds.toArray();
+            deletedItems.addAndGet(jdbcTemplate.update(
+                    "DELETE FROM cart_items WHERE cart_id IN (" + lockedPlaceholders + ")", ids));
+            jdbcTemplate.update("DELETE FROM carts WHERE id IN (" + lockedPlaceholders + ")", ids);
+            return lockedIds;
+        });
+        return deleted != null ? deleted : Collections.emptyList();
+    }
+
+    private void finishPass() {
+        long elapsed = System.currentTimeMillis() - passStartedAt;
+        lastPassDeleted = passDeleted;
+        lastPassMillis = elapsed;
+        completedPasses.incrementAndGet();
+        cursor = 0;
+        nextPassAt = System.currentTimeMillis() + passIntervalMs;
+        if (passDeleted > 0) {
+            log.info("유휴 장바구니 정리 완료: 확인 {}개, 삭제 {}개, {}ms", passScanned, passDeleted, elapsed);
+        }
+    }
+
+    /**
+     * 정리 진행 상황과 누적 통계
+     *
+     * @param cursor 현재 스캔 위치 (마지막으로 확인한 장바구니 ID, 0이면 스캔 대기 중)
+     * @param cartsPerSecond 삭제 트랜잭션 기준 초당 삭제한 장바구니 수
+     */
+    public record Stats(boolean enabled, long cursor, long passScanned, long passDeleted,
+                        long totalScanned, long totalDeletedCarts, long totalDeletedItems, long chunks,
+                        long completedPasses, long lastPassDeleted, long lastPassMillis, long cartsPerSecond) {
+    }
+}
@@ -4,117 +4,194 @@ import com.jacob.testapp.cart.entity.Cart;
 import com.jacob.testapp.cart.entity.CartItem;
 import com.jacob.testapp.cart.repository.CartItemRepository;
 import com.jacob.testapp.cart.repository.CartRepository;
+import com.jacob.testapp.common.money.Money;
 import com.jacob.testapp.product.entity.Product;
-import com.jacob.testapp.product.repository.ProductRepository;
+import com.jacob.testapp.product.service.ProductCache;
+import com.jacob.testapp.product.service.ProductStockShardService;
 import com.jacob.testapp.user.entity.User;
 import com.jacob.testapp.user.repository.UserRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.math.BigDecimal;
-import java.math.RoundingMode;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.function.Consumer;
+import java.util.function.IntUnaryOperator;
+import java.util.function.Supplier;
 
 @Service
 public class CartService {
     
     private final CartRepository cartRepository;
     private final CartItemRepository cartItemRepository;
-    private final ProductRepository productRepository;
+    private final ProductCache productCache;
+    private final ProductStockShardService stockShardService;
     private final UserRepository userRepository;
+    private final CartStore cartStore;
+    private final CartCommandExecutor commandExecutor;
+    private final CartSummaryCache summaryCache;
+    private final TransactionTemplate transactionTemplate;
+    private final JdbcTemplate jdbcTemplate;
     
     private static final Logger logger = LoggerFactory.getLogger(CartService.class);
+
+    private static final String UPDATE_ITEM_SQL = "UPDATE cart_items SET quantity = ?, unit_price_minor = ?, updated_at = ? " +
+            "WHERE cart_id = ? AND product_id = ?";
+    private static final String INSERT_ITEM_SQL = "INSERT INTO cart_items (cart_id, product_id, quantity, unit_price_minor, created_at, updated_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?)";
     
     @Autowired
     public CartService(CartRepository cartRepository, CartItemRepository cartItemRepository, 
-                      ProductRepository productRepository, UserRepository userRepository) {
+                      ProductCache productCache, ProductStockShardService stockShardService,
+                      UserRepository userRepository,
+                      CartStore cartStore, CartCommandExecutor commandExecutor,
+                      CartSummaryCache summaryCache, PlatformTransactionManager transactionManager,
+                      JdbcTemplate jdbcTemplate) {
         this.cartRepository = cartRepository;
         this.cartItemRepository = cartItemRepository;
-        this.productRepository = productRepository;
+        this.productCache = productCache;
+        this.stockShardService = stockShardService;
         this.userRepository = userRepository;
+        this.cartStore = cartStore;
+        this.commandExecutor = commandExecutor;
+        this.summaryCache = summaryCache;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.jdbcTemplate = jdbcTemplate;
     }
     
     /**
      * 사용자의 장바구니를 조회합니다.
      */
     public Optional<Cart> findByUser(User user) {
+        if (cartStore.isEnabled()) {
+            return Optional.of(cartStore.view(user.getId(), user));
+        }
         return cartRepository.findByUserWithItems(user);
     }
     
     /**
-     * 사용자 ID로 장바구니와 아이템들을 함께 조회
+     * 사용자 ID로 장바구니와 아이템들을 함께 조회 (아이템이 없으면 빈 값)
      */
     public Optional<Cart> findByUserWithItems(Long userId) {
+        if (cartStore.isEnabled()) {
+            Cart cart = cartStore.view(userId, null);
+            return cart.getCartItems().isEmpty() ? Optional.empty() : Optional.of(cart);
+        }
+        return cartRepository.findByUserIdWithItems(userId);
+    }
+
+    /**
+     * 페이지 헤더용 장바구니 요약 (항목/상품을 로드하지 않고, 장바구니가 없어도 생성하지 않음)
+     */
+    public CartSummary getCartSummary(Long userId) {
+        if (cartStore.isEnabled()) {
+            CartStore.CartState state = cartStore.state(userId);
+            return new CartSummary(state.getTotalQuantity(), Money.ofMinor(state.getTotalPriceMinor()));
+        }
+        return summaryCache.get(userId);
+    }
+
+    /**
+     * 주문용 장바구니 조회 - 메모리 장바구니를 먼저 DB에 기록한 뒤 DB에서 조회
+     */
+    public Optional<Cart> findPersistedCartWithItems(Long userId) {
+        if (cartStore.isEnabled()) {
+            cartStore.persist(userId);
+        }
         return cartRepository.findByUserIdWithItems(userId);
     }
     
     /**
-     * 장바구니 가져오기 (없으면 생성)
+     * 장바구니 가져오기 (없으면 생성 - 실제로 변경할 때만 호출)
      */
     @Transactional
     public Cart getOrCreateCart(User user) {
+        if (cartStore.isEnabled()) {
+            return cartStore.view(user.getId(), user);
+        }
         return cartRepository.findByUserId(user.getId())
                 .orElseGet(() -> {
                     Cart cart = Cart.builder()
                             .user(user)
-                            .totalPrice(BigDecimal.ZERO)
+                            .totalPrice(Money.ZERO)
                             .build();
                     return cartRepository.save(cart);
                 });
     }
     
     /**
-     * 장바구니 조회
+     * 장바구니 조회 (화면 표시용 - 장바구니가 없으면 저장하지 않은 빈 장바구니 반환)
      */
+    @Transactional(readOnly = true)
     public Cart getCart(User user) {
-        return getOrCreateCart(user);
+        if (cartStore.isEnabled()) {
+            return cartStore.view(user.getId(), user);
+        }
+        return cartRepository.findByUserWithItems(user)
+                .orElseGet(() -> Cart.builder()
+                        .user(user)
+                        .totalPrice(Money.ZERO)
+                        .build());
+    }
+
+    /**
+     * 비회원 장바구니 화면용 분리 객체 (삭제된 상품은 제외)
+     */
+    public Cart getGuestCart(Map<Long, Integer> items) {
+        Cart cart = Cart.builder()
+                .totalPrice(Money.ZERO)
+                .build();
+        items.forEach((productId, quantity) ->
+                productCache.findById(productId).ifPresent(product -> cart.addProduct(product, quantity)));
+        return cart;
+    }
+
+    /**
+     * 비회원 장바구니에 담을 수량 검증 (수량/상품/재고, 현금 잔액은 로그인 후 합칠 때 검증)
+     */
+    public void validateGuestQuantity(Long productId, int quantity) {
+        validateQuantity(quantity);
+        findProductAndValidateStock(productId, quantity);
     }
     
     /**
-     * 장바구니에 상품 추가
-     * 낙관적 락 발생 시 재시도 로직 포함
+     * 장바구니에 상품 추가 (사용자별 명령 큐에서 순서대로 실행)
      */
-    @Transactional
     public void addProductToCart(User user, Long productId, int quantity) {
-        int maxRetryCount = 3;
-        int retryCount = 0;
-        boolean success = false;
-        
-        while (!success && retryCount < maxRetryCount) {
-            try {
-                doAddProductToCart(user, productId, quantity);
-                success = true;
-            } catch (ObjectOptimisticLockingFailureException e) {
-                retryCount++;
-                if (retryCount >= maxRetryCount) {
-                    logger.error("장바구니 상품 추가 중 최대 재시도 횟수 초과: productId={}, userId={}", productId, user.getId());
-                    throw new RuntimeException("장바구니 상품 추가 중 오류가 발생했습니다. 다시 시도해주세요.");
-                }
-                logger.warn("낙관적 락 발생, 재시도 {}/{}회: productId={}, userId={}", 
-                        retryCount, maxRetryCount, productId, user.getId());
-                // 짧은 대기 후 재시도
-                try {
-                    Thread.sleep(100);
-                } catch (InterruptedException ie) {
-                    Thread.currentThread().interrupt();
-                    throw new RuntimeException("장바구니 작업이 중단되었습니다.");
-                }
-            }
+        executeCommand(user, null, () -> doAddProduct(user, productId, quantity));
+    }
+
+    private void doAddProduct(User user, Long productId, int quantity) {
+        if (cartStore.isEnabled()) {
+            validateQuantity(quantity);
+            Product product = findProductAndValidateStock(productId, quantity);
+            validateUserBalance(user, product, quantity);
+            updateStoredQuantity(user, product, current -> current + quantity);
+            return;
         }
+        transactionTemplate.executeWithoutResult(status -> addProductToPersistedCart(user, productId, quantity));
     }
-    
+
     /**
-     * 실제 장바구니 상품 추가 로직
-     * 낙관적 락 예외 발생 가능
+     * DB 장바구니에 상품 추가
      */
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
-    protected void doAddProductToCart(User user, Long productId, int quantity) {
+    private void addProductToPersistedCart(User user, Long productId, int quantity) {
         validateQuantity(quantity);
         
         Product product = findProductAndValidateStock(productId, quantity);
@@ -135,61 +212,181 @@ public class CartService {
     }
     
     /**
-     * 장바구니 상품 수량 업데이트
+     * 장바구니에 여러 상품을 한 번에 추가
+     * - 수량/상품/재고는 줄마다 검사해 통과한 줄만 추가하고, 현금 잔액은 통과한 줄 전체 금액으로 한 번만 검증함
+     * - 잔액이 부족하면 아무것도 추가하지 않음
+     * - 같은 상품이 여러 줄이면 수량을 합침
+     */
+    public List<CartLineResult> addProductsToCart(User user, List<CartLine> lines) {
+        Map<Long, Integer> requested = new LinkedHashMap<>();
+        for (CartLine line : lines) {
+            if (line.productId() != null) {
+                requested.merge(line.productId(), line.quantity(), Integer::sum);
+            }
+        }
+        if (requested.isEmpty()) {
+            throw new IllegalArgumentException("추가할 상품이 없습니다.");
+        }
+        return executeCommand(user, null, () -> doAddProducts(user, requested));
+    }
+
+    private List<CartLineResult> doAddProducts(User user, Map<Long, Integer> requested) {
+        List<CartLineResult> results = new ArrayList<>(requested.size());
+        Map<Long, Product> accepted = new LinkedHashMap<>();
+        long batchTotalMinor = 0L;
+        for (Map.Entry<Long, Integer> entry : requested.entrySet()) {
+            Long productId = entry.getKey();
+            int quantity = entry.getValue();
+            try {
+                validateQuantity(quantity);
+                Product product = findProductAndValidateStock(productId, quantity);
+                accepted.put(productId, product);
+                batchTotalMinor = Math.addExact(batchTotalMinor,
+                        Money.multiply(Money.toMinor(product.getPrice()), quantity));
+                results.add(CartLineResult.added(productId, quantity));
+            } catch (IllegalArgumentException e) {
+                results.add(CartLineResult.rejected(productId, quantity, e.getMessage()));
+            }
+        }
+        if (accepted.isEmpty()) {
+            return results;
+        }
+
+        validateUserBalance(user, batchTotalMinor);
+
+        if (cartStore.isEnabled()) {
+            updateStoredQuantities(user.getId(), state -> accepted.forEach((productId, product) -> state.setQuantity(
+                    productId, state.getQuantity(productId) + requested.get(productId), product.getPrice())));
+        } else {
+            transactionTemplate.executeWithoutResult(
+                    status -> addProductsToPersistedCart(user, accepted, requested));
+        }
+        return results;
+    }
+
+    /**
+     * DB 장바구니에 여러 상품 추가 (기존 항목 UPDATE 배치 1회 + 새 항목 INSERT 배치 1회)
+     * - 항목 단가는 이번 추가 시점 가격으로 갱신하고, 총액은 항목별 이전 금액과의 차이만큼 증감
+     */
+    private void addProductsToPersistedCart(User user, Map<Long, Product> products, Map<Long, Integer> quantities) {
+        Cart cart = getOrCreateCart(user);
+        Map<Long, CartItem> existingItems = new HashMap<>();
+        for (Object[] row : cartItemRepository.findLineRowsByCartIdAndProductIdIn(cart.getId(), products.keySet())) {
+            Long productId = (Long) row[0];
+            existingItems.put(productId, CartItem.builder()
+                    .product(products.get(productId))
+                    .quantity((Integer) row[1])
+                    .unitPriceMinor((Long) row[2])
+                    .build());
+        }
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> updates = new ArrayList<>();
+        List<Object[]> inserts = new ArrayList<>();
+        long amountDeltaMinor = 0L;
+        for (Map.Entry<Long, Product> entry : products.entrySet()) {
+            Long productId = entry.getKey();
+            long unitPriceMinor = Money.toMinor(entry.getValue().getPrice());
+            int quantity = quantities.get(productId);
+            CartItem existing = existingItems.get(productId);
+            if (existing != null) {
+                amountDeltaMinor = Math.subtractExact(amountDeltaMinor, existing.getRecordedLineMinor());
+                quantity = Math.addExact(existing.getQuantity(), quantity);
+                updates.add(new Object[]{quantity, unitPriceMinor, now, cart.getId(), productId});
+            } else {
+                inserts.add(new Object[]{cart.getId(), productId, quantity, unitPriceMinor, now, now});
+            }
+            amountDeltaMinor = Math.addExact(amountDeltaMinor, Money.multiply(unitPriceMinor, quantity));
+        }
+        if (!updates.isEmpty()) {
+            jdbcTemplate.batchUpdate(UPDATE_ITEM_SQL, updates);
+        }
+        if (!inserts.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_ITEM_SQL, inserts);
+        }
+
+        // 총액은 배치 변경분만큼 한 번에 증감 (장바구니 버전도 함께 증가)
+        cart.applyAmountChange(amountDeltaMinor);
+        cartRepository.save(cart);
+    }
+
+    /**
+     * 장바구니 상품 수량 업데이트 (같은 상품의 대기 중인 수량 변경/제거는 마지막 요청으로 병합)
      */
-    @Transactional
     public void updateProductQuantity(User user, Long productId, int quantity) {
-        try {
+        executeCommand(user, productKey(productId), () -> doUpdateQuantity(user, productId, quantity));
+    }
+
+    private void doUpdateQuantity(User user, Long productId, int quantity) {
+        if (cartStore.isEnabled()) {
             if (quantity <= 0) {
-                removeProductFromCart(user, productId);
+                doRemoveProduct(user, productId);
                 return;
             }
-            
             Product product = findProductAndValidateStock(productId, quantity);
-            
-            // 기존 수량 확인 후 증가하는 경우에만 현금 잔액 검증
-            Optional<CartItem> existingItemOpt = getExistingCartItem(user, productId);
-            if (existingItemOpt.isPresent()) {
-                CartItem existingItem = existingItemOpt.get();
-                if (quantity > existingItem.getQuantity()) {
-                    // 수량이 증가하는 경우만 추가 비용에 대해 잔액 검증
-                    int additionalQuantity = quantity - existingItem.getQuantity();
-                    validateUserBalance(user, product, additionalQuantity);
-                }
-            } else {
-                // 새로 추가하는 경우 전체 수량에 대해 잔액 검증
-                validateUserBalance(user, product, quantity);
+            int additionalQuantity = quantity - cartStore.state(user.getId()).getQuantity(productId);
+            if (additionalQuantity > 0) {
+                validateUserBalance(user, product, additionalQuantity);
+            }
+            updateStoredQuantity(user, product, current -> quantity);
+            return;
+        }
+        transactionTemplate.executeWithoutResult(status -> updatePersistedQuantity(user, productId, quantity));
+    }
+
+    /**
+     * DB 장바구니 상품 수량 업데이트
+     */
+    private void updatePersistedQuantity(User user, Long productId, int quantity) {
+        if (quantity <= 0) {
+            removeProductFromPersistedCart(user, productId);
+            return;
+        }
+        
+        Product product = findProductAndValidateStock(productId, quantity);
+        
+        // 기존 수량 확인 후 증가하는 경우에만 현금 잔액 검증
+        Optional<CartItem> existingItemOpt = getExistingCartItem(user, productId);
+        if (existingItemOpt.isPresent()) {
+            CartItem existingItem = existingItemOpt.get();
+            if (quantity > existingItem.getQuantity()) {
+                // 수량이 증가하는 경우만 추가 비용에 대해 잔액 검증
+                int additionalQuantity = quantity - existingItem.getQuantity();
+                validateUserBalance(user, product, additionalQuantity);
             }
-            
-            Cart cart = getOrCreateCart(user);
-            
-            updateCartItem(cart, product, existingItem -> existingItem.setQuantity(quantity));
-        } catch (ObjectOptimisticLockingFailureException e) {
-            // 낙관적 락 예외 발생 시 재시도
-            updateProductQuantity(user, productId, quantity);
+        } else {
+            // 새로 추가하는 경우 전체 수량에 대해 잔액 검증
+            validateUserBalance(user, product, quantity);
         }
+        
+        Cart cart = getOrCreateCart(user);
+        
+        updateCartItem(cart, product, existingItem -> existingItem.setQuantity(quantity));
     }
     
     /**
      * 장바구니에서 상품 제거
      */
-    @Transactional
     public void removeProductFromCart(User user, Long productId) {
-        try {
-            Cart cart = cartRepository.findByUserId(user.getId())
-                    .orElseThrow(() -> new IllegalArgumentException("장바구니를 찾을 수 없습니다"));
-            
-            // 영속 상태의 장바구니 아이템 직접 삭제
-            cartItemRepository.deleteByCartIdAndProductId(cart.getId(), productId);
-            
-            // 삭제 후 장바구니 다시 로드하여 상태 갱신
-            cart = cartRepository.findById(cart.getId()).orElse(cart);
-            cart.recalculateTotalPrice();
-            cartRepository.save(cart);
-        } catch (ObjectOptimisticLockingFailureException e) {
-            // 낙관적 락 예외 발생 시 재시도
-            removeProductFromCart(user, productId);
+        executeCommand(user, productKey(productId), () -> doRemoveProduct(user, productId));
+    }
+
+    private void doRemoveProduct(User user, Long productId) {
+        if (cartStore.isEnabled()) {
+            updateStoredQuantities(user.getId(), state -> state.setQuantity(productId, 0, BigDecimal.ZERO));
+            return;
         }
+        transactionTemplate.executeWithoutResult(status -> removeProductFromPersistedCart(user, productId));
+    }
+
+    /**
+     * DB 장바구니에서 상품 제거
+     */
+    private void removeProductFromPersistedCart(User user, Long productId) {
+        Cart cart = cartRepository.findByUserId(user.getId())
+                .orElseThrow(() -> new IllegalArgumentException("장바구니를 찾을 수 없습니다"));
+        
+        deletePersistedItem(cart, productId);
     }
     
     /**
@@ -197,10 +394,23 @@ public class CartService {
      */
     @Transactional
     public void clearCart(User user) {
-        Cart cart = getOrCreateCart(user);
-        cartItemRepository.deleteByCart(cart);
-        cart.clear();
-        cartRepository.save(cart);
+        if (cartStore.isEnabled()) {
+            // DB 장바구니는 현재 트랜잭션에서 비우고, 메모리 장바구니는 커밋 이후 비움 (주문 실패 시 유지)
+            cartRepository.findByUserId(user.getId()).ifPresent(cart -> {
+                cartItemRepository.deleteByCart(cart);
+                cart.clear();
+                cartRepository.save(cart);
+            });
+            afterCommit(() -> updateStoredQuantities(user.getId(), CartStore.CartState::clear));
+            return;
+        }
+        // 장바구니가 없으면 만들지 않음
+        cartRepository.findByUserId(user.getId()).ifPresent(cart -> {
+            cartItemRepository.deleteByCart(cart);
+            cart.clear();
+            cartRepository.save(cart);
+            afterCommit(() -> summaryCache.evict(user.getId()));
+        });
     }
     
     /**
@@ -208,38 +418,38 @@ public class CartService {
      */
     @Transactional
     public void updateItemQuantity(Long cartId, Long productId, int quantity) {
-        try {
-            if (quantity <= 0) {
-                removeItemFromCart(cartId, productId);
-                return;
-            }
+        if (cartStore.isEnabled()) {
+            updateProductQuantity(findCart(cartId).getUser(), productId, quantity);
+            return;
+        }
+        if (quantity <= 0) {
+            removeItemFromCart(cartId, productId);
+            return;
+        }
 
-            Cart cart = findCart(cartId);
-            Product product = findProductAndValidateStock(productId, quantity);
-            
-            // 사용자의 현금 잔액 검증 (cart에서 user를 가져옴)
-            User user = cart.getUser();
-            
-            // 기존 수량 확인 후 증가하는 경우에만 현금 잔액 검증
-            Optional<CartItem> existingItemOpt = cartItemRepository.findByCartIdAndProductId(cartId, productId);
-            if (existingItemOpt.isPresent()) {
-                CartItem existingItem = existingItemOpt.get();
-                if (quantity > existingItem.getQuantity()) {
-                    // 수량이 증가하는 경우만 추가 비용에 대해 잔액 검증
-                    int additionalQuantity = quantity - existingItem.getQuantity();
-                    validateUserBalance(user, product, additionalQuantity);
-                }
-            } else {
-                // 새로 추가하는 경우 전체 수량에 대해 잔액 검증
-                validateUserBalance(user, product, quantity);
+        Cart cart = findCart(cartId);
+        Product product = findProductAndValidateStock(productId, quantity);
+        
+        // 사용자의 현금 잔액 검증 (cart에서 user를 가져옴)
+        User user = cart.getUser();
+        
+        // 기존 수량 확인 후 증가하는 경우에만 현금 잔액 검증
+        Optional<CartItem> existingItemOpt = cartItemRepository.findByCartIdAndProductId(cartId, productId);
+        if (existingItemOpt.isPresent()) {
+            CartItem existingItem = existingItemOpt.get();
+            if (quantity > existingItem.getQuantity()) {
+                // 수량이 증가하는 경우만 추가 비용에 대해 잔액 검증
+                int additionalQuantity = quantity - existingItem.getQuantity();
+                validateUserBalance(user, product, additionalQuantity);
             }
-            
-            cartItemRepository.updateQuantity(cartId, productId, quantity);
-            cart.recalculateTotalPrice();
-            cartRepository.save(cart);
-        } catch (ObjectOptimisticLockingFailureException e) {
-            // 낙관적 락 예외 발생 시 재시도
-            updateItemQuantity(cartId, productId, quantity);
+        } else {
+            // 새로 추가하는 경우 전체 수량에 대해 잔액 검증
+            validateUserBalance(user, product, quantity);
+        }
+        
+        if (existingItemOpt.isPresent()) {
+            updateCartItem(cart, product, item -> item.setQuantity(quantity));
+            afterCommit(() -> summaryCache.evict(user.getId()));
         }
     }
 
@@ -249,10 +459,13 @@ public class CartService {
     @Transactional
     public void removeItemFromCart(Long cartId, Long productId) {
         Cart cart = findCart(cartId);
+        if (cartStore.isEnabled()) {
+            removeProductFromCart(cart.getUser(), productId);
+            return;
+        }
         
-        cartItemRepository.deleteByCartIdAndProductId(cartId, productId);
-        cart.recalculateTotalPrice();
-        cartRepository.save(cart);
+        deletePersistedItem(cart, productId);
+        afterCommit(() -> summaryCache.evict(cart.getUser().getId()));
     }
 
     /**
@@ -261,13 +474,87 @@ public class CartService {
     @Transactional
     public void clearCart(Long cartId) {
         Cart cart = findCart(cartId);
+        if (cartStore.isEnabled()) {
+            clearCart(cart.getUser());
+            return;
+        }
         
         cartItemRepository.deleteAllByCartId(cartId);
         cart.clear();
         cartRepository.save(cart);
+        afterCommit(() -> summaryCache.evict(cart.getUser().getId()));
     }
     
     // ========== 헬퍼 메서드 ==========
+
+    /**
+     * 사용자별 명령 큐에서 장바구니 변경 실행
+     * - 호출자가 이미 트랜잭션 안에 있으면(주문 취소 등) 그 트랜잭션에 참여하도록 바로 실행
+     * - 다른 서버나 관리자 변경과 충돌한 경우 재시도하지 않고 다시 시도하도록 안내
+     */
+    private void executeCommand(User user, String coalesceKey, Runnable command) {
+        executeCommand(user, coalesceKey, () -> {
+            command.run();
+            return null;
+        });
+    }
+
+    private <T> T executeCommand(User user, String coalesceKey, Supplier<T> command) {
+        Supplier<T> guarded = () -> {
+            try {
+                T result = command.get();
+                afterCommit(() -> summaryCache.evict(user.getId()));
+                return result;
+            } catch (ObjectOptimisticLockingFailureException e) {
+                logger.warn("장바구니 동시 변경 충돌: userId={}", user.getId());
+                throw new IllegalStateException("장바구니가 다른 요청에서 변경되었습니다. 다시 시도해주세요.");
+            }
+        };
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return guarded.get();
+        }
+        return commandExecutor.execute(user.getId(), coalesceKey, guarded);
+    }
+
+    private static String productKey(Long productId) {
+        return "product:" + productId;
+    }
+
+    /**
+     * 메모리 장바구니 상품 수량 변경 (계산된 수량이 0 이하면 제거)
+     */
+    private void updateStoredQuantity(User user, Product product, IntUnaryOperator operator) {
+        Long productId = product.getId();
+        updateStoredQuantities(user.getId(), state -> state.setQuantity(
+                productId, operator.applyAsInt(state.getQuantity(productId)), product.getPrice()));
+    }
+
+    /**
+     * 메모리 장바구니 변경 후 기록 대상으로 표시
+     */
+    private void updateStoredQuantities(Long userId, Consumer<CartStore.CartState> mutation) {
+        CartStore.CartState state = cartStore.state(userId);
+        synchronized (state) {
+            mutation.accept(state);
+        }
+        cartStore.markDirty(userId, state);
+    }
+
+    /**
+     * 트랜잭션 커밋 이후 실행 (트랜잭션이 없으면 즉시 실행)
+     */
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
     
     /**
      * 수량 유효성 검사
@@ -279,10 +566,10 @@ public class CartService {
     }
     
     /**
-     * 상품 ID로 상품 찾기
+     * 상품 ID로 상품 찾기 (near cache 사용)
      */
     private Product findProduct(Long productId) {
-        return productRepository.findById(productId)
+        return productCache.findById(productId)
                 .orElseThrow(() -> new IllegalArgumentException("상품을 찾을 수 없습니다: " + productId));
     }
     
@@ -292,8 +579,10 @@ public class CartService {
     private Product findProductAndValidateStock(Long productId, int quantity) {
         Product product = findProduct(productId);
         
-        if (product.getStock() < quantity) {
-            throw new IllegalArgumentException("재고가 부족합니다. 현재 재고: " + product.getStock());
+        // 샤딩된 상품은 products.stock이 주기적으로만 맞춰지므로 샤드 합계로 확인
+        int stock = stockShardService.getStock(product);
+        if (stock < quantity) {
+            throw new IllegalArgumentException("재고가 부족합니다. 현재 재고: " + stock);
         }
         
         return product;
@@ -302,13 +591,12 @@ public class CartService {
     /**
      * 사용자의 장바구니 총액을 계산합니다.
      */
-    private BigDecimal calculateCartTotalForUser(User user) {
-        Optional<Cart> cartOpt = findByUserWithItems(user.getId());
-        if (cartOpt.isEmpty() || cartOpt.get().getCartItems().isEmpty()) {
-            return BigDecimal.ZERO;
+    private long calculateCartTotalForUser(User user) {
+        // 항목을 다시 읽지 않고 변경 시마다 유지되는 합계 사용
+        if (cartStore.isEnabled()) {
+            return cartStore.state(user.getId()).getTotalPriceMinor();
         }
-        
-        return cartOpt.get().getTotalPrice();
+        return cartRepository.findTotalPriceByUserId(user.getId()).map(Money::getMinor).orElse(0L);
     }
 
     /**
@@ -320,26 +608,30 @@ public class CartService {
      * @throws IllegalStateException 사용자의 현금 잔액이 부족한 경우
      */
     private void validateUserBalance(User user, Product product, int quantity) {
+        validateUserBalance(user, Money.multiply(Money.toMinor(product.getPrice()), quantity));
+    }
+
+    /**
+     * 기존 장바구니 총액에 추가 금액(minor 단위)을 더한 값으로 현금 잔액 검증
+     */
+    private void validateUserBalance(User user, long productTotalMinor) {
         // 기존 장바구니 합계 계산
-        BigDecimal cartTotal = calculateCartTotalForUser(user);
-        
-        // 새로 추가하려는 상품 금액 계산
-        BigDecimal productTotal = product.getPrice().multiply(BigDecimal.valueOf(quantity));
+        long cartTotalMinor = calculateCartTotalForUser(user);
         
         // 총 필요 금액 계산 (기존 장바구니 + 새 상품)
-        BigDecimal totalNeeded = cartTotal.add(productTotal);
+        long totalNeededMinor = Math.addExact(cartTotalMinor, productTotalMinor);
         
         // 사용자 잔액 계산
-        BigDecimal userBalance = BigDecimal.valueOf(user.getCashBalance());
+        long userBalanceMinor = Money.wonToMinor(user.getCashBalance());
         
         logger.info("사용자 현금 검증: 사용자={}, 현재잔액={}, 기존장바구니={}, 추가상품={}, 총필요금액={}",
-                user.getUsername(), userBalance, cartTotal, productTotal, totalNeeded);
+                user.getUsername(), user.getCashBalance(), Money.ofMinor(cartTotalMinor),
+                Money.ofMinor(productTotalMinor), Money.ofMinor(totalNeededMinor));
         
         // 잔액이 부족한 경우 예외 발생
-        if (userBalance.compareTo(totalNeeded) < 0) {
-            BigDecimal shortfall = totalNeeded.subtract(userBalance);
-            String message = String.format("현금 잔액이 부족합니다. 부족 금액: %s원", 
-                    shortfall.setScale(0, RoundingMode.CEILING));
+        if (userBalanceMinor < totalNeededMinor) {
+            String message = String.format("현금 잔액이 부족합니다. 부족 금액: %d원", 
+                    Money.toWonCeil(totalNeededMinor - userBalanceMinor));
             logger.warn(message);
             throw new IllegalStateException(message);
         }
@@ -348,33 +640,25 @@ public class CartService {
     /**
      * 특정 상품을 제외한 장바구니 총액 계산
      */
-    private BigDecimal getCartTotalExcludingProduct(User user, Long productId) {
+    private long getCartTotalExcludingProduct(User user, Long productId) {
         Optional<Cart> cartOpt = findByUserWithItems(user.getId());
         if (cartOpt.isEmpty() || cartOpt.get().getCartItems().isEmpty()) {
-            return BigDecimal.ZERO;
+            return 0L;
         }
         
-        return BigDecimal.valueOf(
-            cartOpt.get().getCartItems().stream()
+        return cartOpt.get().getCartItems().stream()
                 .filter(item -> !item.getProduct().getId().equals(productId))
-                .mapToDouble(CartItem::getTotalPrice)
-                .sum()
-        );
+                .mapToLong(CartItem::getLineMinor)
+                .sum();
     }
     
     /**
      * 현재 장바구니에 있는 특정 상품 항목 조회
      */
     private Optional<CartItem> getExistingCartItem(User user, Long productId) {
-        Optional<Cart> cartOpt = findByUserWithItems(user.getId());
-        if (cartOpt.isEmpty()) {
-            return Optional.empty();
-        }
-        
-        Cart cart = cartOpt.get();
-        Product product = findProduct(productId);
-        
-        return cartItemRepository.findByCartAndProduct(cart, product);
+        // 항목 컬렉션 전체를 로드하지 않고 해당 항목만 조회
+        return cartRepository.findByUserId(user.getId())
+                .flatMap(cart -> cartItemRepository.findByCartIdAndProductId(cart.getId(), productId));
     }
     
     /**
@@ -386,28 +670,33 @@ public class CartService {
     }
     
     /**
-     * 장바구니 항목 업데이트
+     * 장바구니 항목 업데이트 (단가는 이번 변경 시점 가격으로 갱신)
      */
     private void updateCartItem(Cart cart, Product product, Consumer<CartItem> itemUpdater) {
-        Optional<CartItem> existingItemOpt = cartItemRepository.findByCartAndProduct(cart, product);
+        // 새 상품이면 빌더에서 초기 수량은 지정하지 않고 itemUpdater에서 설정
+        CartItem item = cartItemRepository.findByCartAndProduct(cart, product)
+                .orElseGet(() -> CartItem.builder()
+                        .cart(cart)
+                        .product(product)
+                        .build());
+        long previousLineMinor = item.getId() != null ? item.getRecordedLineMinor() : 0L;
+        itemUpdater.accept(item);
+        item.setUnitPriceMinor(Money.toMinor(product.getPrice()));
+        cartItemRepository.save(item);
         
-        if (existingItemOpt.isPresent()) {
-            // 기존 상품 업데이트
-            CartItem item = existingItemOpt.get();
-            itemUpdater.accept(item);
-            cartItemRepository.save(item);
-        } else {
-            // 새 상품 추가 (빌더에서 초기 수량은 지정하지 않고 itemUpdater에서 설정)
-            CartItem newItem = CartItem.builder()
-                    .cart(cart)
-                    .product(product)
-                    .build();
-            itemUpdater.accept(newItem);
-            cartItemRepository.save(newItem);
-            cart.getCartItems().add(newItem);
-        }
-        
-        cart.recalculateTotalPrice();
+        // 항목 금액 변경분만큼만 총액 증감 (항목 컬렉션을 로드하지 않음)
+        cart.applyAmountChange(item.getRecordedLineMinor() - previousLineMinor);
         cartRepository.save(cart);
     }
+
+    /**
+     * DB 장바구니 항목 삭제 후 담을 때 반영했던 금액만큼 총액 차감
+     */
+    private void deletePersistedItem(Cart cart, Long productId) {
+        cartItemRepository.findByCartIdAndProductId(cart.getId(), productId).ifPresent(item -> {
+            cartItemRepository.deleteByCartIdAndProductId(cart.getId(), productId);
+            cart.applyAmountChange(-item.getRecordedLineMinor());
+            cartRepository.save(cart);
+        });
+    }
 } 
\ No newline at end of file
@@ -0,0 +1,357 @@
+package com.jacob.testapp.cart.service;
+
+import com.jacob.testapp.cart.entity.Cart;
+import com.jacob.testapp.cart.entity.CartItem;
+import com.jacob.testapp.cart.repository.CartRepository;
+import com.jacob.testapp.common.money.Money;
+import com.jacob.testapp.product.entity.Product;
+import com.jacob.testapp.product.repository.ProductRepository;
+import com.jacob.testapp.product.service.ProductCache;
+import com.jacob.testapp.user.entity.User;
+import com.jacob.testapp.user.repository.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.ContextClosedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 메모리 장바구니 저장소 (선택 기능, app.cart.write-back.enabled)
+ * - 사용자 ID별 장바구니(상품 ID → 수량)를 메모리에 두고, 처음 접근할 때 DB에서 적재함
+ * - 변경은 메모리에만 반영하고 변경된 장바구니를 주기적으로 carts/cart_items에 한 번씩 기록함 (여러 변경을 합쳐 기록)
+ * - 주문(결제) 전에는 persist로 즉시 기록해 주문이 DB 기준 장바구니를 사용하도록 함
+ * - 기록이 끝났고 일정 시간 접근이 없는 장바구니는 메모리에서 내림
+ */
+@Slf4j
+@Component
+public class CartStore {
+
+    private final CartRepository cartRepository;
+    private final ProductRepository productRepository;
+    private final UserRepository userRepository;
+    private final ProductCache productCache;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final long idleNanos;
+
+    private final Map<Long, CartState> carts = new ConcurrentHashMap<>();
+    private final Set<Long> dirtyUserIds = ConcurrentHashMap.newKeySet();
+
+    public CartStore(CartRepository cartRepository,
+                     ProductRepository productRepository,
+                     UserRepository userRepository,
+                     ProductCache productCache,
+                     PlatformTransactionManager transactionManager,
+                     @Value("${app.cart.write-back.enabled:false}") boolean enabled,
+                     @Value("${app.cart.write-back.idle-minutes:30}") long idleMinutes) {
+        this.cartRepository = cartRepository;
+        this.productRepository = productRepository;
+        this.userRepository = userRepository;
+        this.productCache = productCache;
+        // 주문 트랜잭션 안에서 호출돼도 장바구니 기록은 따로 커밋
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.enabled = enabled;
+        this.idleNanos = Duration.ofMinutes(idleMinutes).toNanos();
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 사용자 장바구니 상태 (메모리에 없으면 DB에서 적재)
+     */
+    CartState state(Long userId) {
+        CartState state = carts.computeIfAbsent(userId, this::load);
+        state.touch();
+        return state;
+    }
+
+    /**
+     * 메모리에 올라와 있는 장바구니인지 확인 (오래된 장바구니 정리에서 제외)
+     */
+    boolean isResident(Long userId) {
+        return carts.containsKey(userId);
+    }
+
+    /**
+     * 변경된 장바구니로 표시 (다음 기록 주기에 DB 반영)
+     * - 변경 직전에 유휴 정리로 메모리에서 내려간 경우 다시 등록함
+     */
+    void markDirty(Long userId, CartState state) {
+        carts.putIfAbsent(userId, state);
+        dirtyUserIds.add(userId);
+    }
+
+    /**
+     * 화면 표시용 장바구니 (DB에 기록되지 않은 분리 객체, 삭제된 상품은 제외, 합계는 메모리 집계값)
+     */
+    Cart view(Long userId, User user) {
+        CartState state = state(userId);
+        CartState.Snapshot snapshot = state.snapshot();
+        Cart cart = Cart.builder()
+                .id(state.cartId)
+                .user(user)
+                .totalPrice(snapshot.totalPrice())
+                .build();
+        snapshot.quantities().forEach((productId, quantity) ->
+                productCache.findById(productId).ifPresent(product -> cart.getCartItems().add(CartItem.builder()
+                        .cart(cart)
+                        .product(product)
+                        .quantity(quantity)
+                        .build())));
+        return cart;
+    }
+
+    /**
+     * 장바구니 즉시 기록 (주문 전 호출)
+     */
+    public void persist(Long userId) {
+        CartState state = carts.get(userId);
+        if (state == null) {
+            return;
+        }
+        dirtyUserIds.remove(userId);
+        try {
+            write(userId, state);
+        } catch (RuntimeException e) {
+            dirtyUserIds.add(userId);
+            throw e;
+        }
+    }
+
+    /**
+     * 변경된 장바구니 일괄 기록 및 오래 사용하지 않은 장바구니 정리
+     */
+    @Scheduled(fixedDelayString = "${app.cart.write-back.flush-interval-ms:2000}")
+    public void flush() {
+        if (!enabled) {
+            return;
+        }
+        int written = 0;
+        for (Iterator<Long> iterator = dirtyUserIds.iterator(); iterator.hasNext(); ) {
+            Long userId = iterator.next();
+            iterator.remove();
+            CartState state = carts.get(userId);
+            if (state == null) {
+                continue;
+            }
+            try {
+                write(userId, state);
+                written++;
+            } catch (RuntimeException e) {
+                dirtyUserIds.add(userId);
+                log.warn("장바구니 기록 실패, 다음 주기에 재시도: userId={}", userId, e);
+            }
+        }
+        if (written > 0) {
+            log.debug("장바구니 기록: {}건", written);
+        }
+
+        long now = System.nanoTime();
+        carts.entrySet().removeIf(entry -> !dirtyUserIds.contains(entry.getKey())
+                && entry.getValue().isClean() && now - entry.getValue().lastAccessedAt > idleNanos);
+    }
+
+    /**
+     * 종료 시 남은 변경 기록
+     */
+    @EventListener(ContextClosedEvent.class)
+    public void shutdown() {
+        flush();
+    }
+
+    /**
+     * 메모리 장바구니 제거 (유휴 장바구니 정리 등으로 DB에서 직접 변경된 경우 다음 접근 시 다시 적재)
+     * - 아직 기록되지 않은 변경이 있으면 사용자의 최신 변경을 우선해 남겨둠
+     */
+    public void evict(Long userId) {
+        carts.computeIfPresent(userId, (id, state) -> isEvictable(id, state) ? null : state);
+    }
+
+    /**
+     * 기록이 끝난 메모리 장바구니 모두 제거 (여러 장바구니가 DB에서 한 번에 변경된 경우)
+     */
+    public void evictAll() {
+        carts.entrySet().removeIf(entry -> isEvictable(entry.getKey(), entry.getValue()));
+    }
+
+    private boolean isEvictable(Long userId, CartState state) {
+        return !dirtyUserIds.contains(userId) && state.isClean();
+    }
+
+    private CartState load(Long userId) {
+        Optional<Cart> cart = cartRepository.findWithItemsByUserId(userId);
+        CartState state = new CartState(cart.map(Cart::getId).orElse(null));
+        cart.ifPresent(c -> c.getCartItems().forEach(item -> {
+            // 저장된 단가를 그대로 써서 DB 총액과 같은 합계에서 시작 (단가가 없는 기존 항목은 현재 가격)
+            Long productId = item.getProduct().getId();
+            long unitPriceMinor = item.getUnitPriceMinor() != null
+                    ? item.getUnitPriceMinor() : Money.toMinor(item.getProduct().getPrice());
+            state.setQuantity(productId, state.getQuantity(productId) + item.getQuantity(), unitPriceMinor);
+        }));
+        state.persistedVersion = state.version;
+        return state;
+    }
+
+    /**
+     * 스냅샷을 carts/cart_items에 반영 (같은 장바구니는 한 번에 한 스레드만 기록)
+     */
+    private void write(Long userId, CartState state) {
+        synchronized (state.writeLock) {
+            CartState.Snapshot snapshot = state.snapshot();
+            if (snapshot.version() == state.persistedVersion) {
+                return;
+            }
+            Long cartId = transactionTemplate.execute(status -> {
+                Cart cart = cartRepository.findWithItemsByUserId(userId).orElse(null);
+                if (cart == null) {
+                    User user = userRepository.findById(userId).orElse(null);
+                    if (user == null) {
+                        return null;
+                    }
+                    cart = Cart.builder().user(user).totalPrice(Money.ZERO).build();
+                }
+
+                Map<Long, CartItem> existing = new HashMap<>();
+                List<CartItem> removed = new ArrayList<>();
+                for (CartItem item : cart.getCartItems()) {
+                    if (snapshot.quantities().containsKey(item.getProduct().getId())) {
+                        existing.put(item.getProduct().getId(), item);
+                    } else {
+                        removed.add(item);
+                    }
+                }
+                cart.getCartItems().removeAll(removed);
+
+                for (Map.Entry<Long, Integer> entry : snapshot.quantities().entrySet()) {
+                    CartItem item = existing.get(entry.getKey());
+                    if (item == null) {
+                        Product product = productRepository.getReferenceById(entry.getKey());
+                        item = CartItem.builder().cart(cart).product(product).build();
+                        cart.getCartItems().add(item);
+                    }
+                    item.setQuantity(entry.getValue());
+                    item.setUnitPriceMinor(snapshot.unitPricesMinor().get(entry.getKey()));
+                }
+                cart.setTotalPrice(snapshot.totalPrice());
+                return cartRepository.save(cart).getId();
+            });
+
+            if (cartId == null) {
+                // 탈퇴 등으로 사용자가 없으면 메모리 장바구니도 버림
+                carts.remove(userId);
+                return;
+            }
+            state.cartId = cartId;
+            state.persistedVersion = snapshot.version();
+        }
+    }
+
+    /**
+     * 메모리 장바구니 상태 (this로 동기화)
+     * - 항목마다 수량과 마지막 변경 시점의 단가(최소 단위)를 두고, 합계 금액/수량은 변경 시 증감으로 유지함
+     */
+    static final class CartState {
+
+        private final Map<Long, Line> lines;
+        private final Object writeLock = new Object();
+        private volatile Long cartId;
+        private long totalPriceMinor;
+        private int totalQuantity;
+        private long version;
+        private volatile long persistedVersion;
+        private volatile long lastAccessedAt = System.nanoTime();
+
+        private CartState(Long cartId) {
+            this.cartId = cartId;
+            this.lines = new LinkedHashMap<>();
+        }
+
+        synchronized int getQuantity(Long productId) {
+            Line line = lines.get(productId);
+            return line != null ? line.quantity() : 0;
+        }
+
+        /**
+         * 수량 변경 (0 이하면 제거, 단가는 이번 변경 시점 가격으로 갱신)
+         */
+        synchronized void setQuantity(Long productId, int quantity, BigDecimal unitPrice) {
+            setQuantity(productId, quantity, Money.toMinor(unitPrice));
+        }
+
+        synchronized void setQuantity(Long productId, int quantity, long unitPriceMinor) {
+            Line previous = quantity > 0
+                    ? lines.put(productId, new Line(quantity, unitPriceMinor))
+                    : lines.remove(productId);
+            if (previous != null) {
+                totalPriceMinor -= previous.amount();
+                totalQuantity -= previous.quantity();
+            }
+            if (quantity > 0) {
+                totalPriceMinor += lines.get(productId).amount();
+                totalQuantity += quantity;
+            }
+            version++;
+        }
+
+        synchronized void clear() {
+            lines.clear();
+            totalPriceMinor = 0;
+            totalQuantity = 0;
+            version++;
+        }
+
+        synchronized long getTotalPriceMinor() {
+            return totalPriceMinor;
+        }
+
+        synchronized int getTotalQuantity() {
+            return totalQuantity;
+        }
+
+        synchronized Snapshot snapshot() {
+            Map<Long, Integer> quantities = new LinkedHashMap<>();
+            Map<Long, Long> unitPricesMinor = new HashMap<>();
+            lines.forEach((productId, line) -> {
+                quantities.put(productId, line.quantity());
+                unitPricesMinor.put(productId, line.unitPriceMinor());
+            });
+            return new Snapshot(quantities, unitPricesMinor, Money.ofMinor(totalPriceMinor), version);
+        }
+
+        synchronized boolean isClean() {
+            return version == persistedVersion;
+        }
+
+        private void touch() {
+            lastAccessedAt = System.nanoTime();
+        }
+
+        private record Line(int quantity, long unitPriceMinor) {
+            long amount() {
+                return Money.multiply(unitPriceMinor, quantity);
+            }
+        }
+
+        record Snapshot(Map<Long, Integer> quantities, Map<Long, Long> unitPricesMinor, Money totalPrice, long version) {
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.jacob.testapp.cart.service;
+
+import com.jacob.testapp.common.money.Money;
+
+import java.math.BigDecimal;
+
+/**
+ * 페이지 헤더용 장바구니 요약
+ *
+ * @param itemCount 담은 상품 총 수량
+ * @param total 장바구니 총액
+ */
+public record CartSummary(int itemCount, Money total) {
+
+    public static final CartSummary EMPTY = new CartSummary(0, Money.ZERO);
+
+    /**
+     * 화면 표시용 총액
+     */
+    public BigDecimal totalPrice() {
+        return total.toBigDecimal();
+    }
+
+    /**
+     * 총액이 현금 잔액을 넘는지 확인
+     */
+    public boolean exceeds(Long cashBalance) {
+        return cashBalance != null && total.getMinor() > Money.wonToMinor(cashBalance);
+    }
+}
@@ -0,0 +1,85 @@
+package com.jacob.testapp.cart.service;
+
+import com.jacob.testapp.cart.repository.CartRepository;
+import com.jacob.testapp.common.money.Money;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 사용자별 장바구니 요약(수량/총액) 캐시
+ * - 캐시에 없으면 항목을 로드하지 않는 집계 쿼리 한 번으로 채움 (장바구니가 없어도 생성하지 않음)
+ * - 장바구니 변경이 커밋되면 CartService가 무효화하고, TTL이 지난 값은 다시 조회함
+ * - 조회 도중 무효화가 발생하면 읽어 온 값은 캐시에 저장하지 않음
+ */
+@Component
+public class CartSummaryCache {
+
+    private static final int INVALIDATION_STRIPES = 64;
+
+    private final CartRepository cartRepository;
+    private final int maxSize;
+    private final long ttlNanos;
+
+    private final Map<Long, Entry> entries = new ConcurrentHashMap<>();
+    private final AtomicLongArray invalidationGenerations = new AtomicLongArray(INVALIDATION_STRIPES);
+
+    public CartSummaryCache(CartRepository cartRepository,
+                            @Value("${app.cart.summary.max-size:10000}") int maxSize,
+                            @Value("${app.cart.summary.ttl:30s}") Duration ttl) {
+        this.cartRepository = cartRepository;
+        this.maxSize = maxSize;
+        this.ttlNanos = ttl.toNanos();
+    }
+
+    /**
+     * 사용자 장바구니 요약 조회
+     */
+    public CartSummary get(Long userId) {
+        Entry entry = entries.get(userId);
+        if (entry != null && System.nanoTime() - entry.loadedAt < ttlNanos) {
+            return entry.summary;
+        }
+
+        long generation = invalidationGenerations.get(stripe(userId));
+        CartSummary summary = load(userId);
+        if (invalidationGenerations.get(stripe(userId)) == generation) {
+            if (entries.size() >= maxSize) {
+                entries.clear();
+            }
+            entries.put(userId, new Entry(summary, System.nanoTime()));
+        }
+        return summary;
+    }
+
+    /**
+     * 사용자 장바구니 요약 무효화
+     */
+    public void evict(Long userId) {
+        invalidationGenerations.incrementAndGet(stripe(userId));
+        entries.remove(userId);
+    }
+
+    private CartSummary load(Long userId) {
+        List<Object[]> rows = cartRepository.findSummaryRowByUserId(userId);
+        if (rows.isEmpty()) {
+            return CartSummary.EMPTY;
+        }
+        Object[] row = rows.get(0);
+        int itemCount = ((Number) row[0]).intValue();
+        Money total = row[1] != null ? (Money) row[1] : Money.ZERO;
+        return new CartSummary(itemCount, total);
+    }
+
+    private static int stripe(Long userId) {
+        return (int) (userId & (INVALIDATION_STRIPES - 1));
+    }
+
+    private record Entry(CartSummary summary, long loadedAt) {
+    }
+}
@@ -0,0 +1,196 @@
+package com.jacob.testapp.cart.service;
+
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ResponseCookie;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 비로그인 사용자 장바구니 쿠키 (DB에 기록하지 않음)
+ * - 값: base64url(버전, 발급 시각(분), 상품 ID/수량 목록을 varint로 나열) + "." + base64url(HMAC-SHA256 앞 16바이트)
+ * - 서명이 맞지 않거나 만료되었거나 형식이 잘못된 쿠키는 빈 장바구니로 취급함
+ * - 로그인 성공 시 CustomAuthenticationSuccessHandler가 회원 장바구니에 한 번에 합친 뒤 삭제함
+ */
+@Slf4j
+@Component
+public class GuestCartCookie {
+
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+    private static final int SIGNATURE_BYTES = 16;
+    private static final byte VERSION = 1;
+    private static final int MAX_QUANTITY = 999;
+
+    private final String name;
+    private final Duration maxAge;
+    private final int maxLines;
+    private final SecretKeySpec key;
+
+    public GuestCartCookie(@Value("${app.cart.cookie.name:GUEST_CART}") String name,
+                           @Value("${app.cart.cookie.max-age:7d}") Duration maxAge,
+                           @Value("${app.cart.cookie.max-lines:50}") int maxLines,
+                           @Value("${app.cart.cookie.secret:}") String secret) {
+        this.name = name;
+        this.maxAge = maxAge;
+        this.maxLines = maxLines;
+        byte[] secretBytes;
+        if (secret.isBlank()) {
+            // 비밀 키가 없으면 실행마다 새로 만듦 (재시작하면 기존 쿠키는 무효)
+            secretBytes = new byte[32];
+            new SecureRandom().nextBytes(secretBytes);
+            log.warn("app.cart.cookie.secret이 설정되지 않아 임시 키를 사용합니다. 재시작 시 비회원 장바구니가 초기화됩니다.");
+        } else {
+            secretBytes = secret.getBytes(StandardCharsets.UTF_8);
+        }
+        this.key = new SecretKeySpec(secretBytes, HMAC_ALGORITHM);
+    }
+
+    /**
+     * 요청 쿠키에서 장바구니 읽기 (상품 ID → 수량, 없거나 유효하지 않으면 빈 값)
+     */
+    public Map<Long, Integer> read(HttpServletRequest request) {
+        Cookie[] cookies = request.getCookies();
+        if (cookies == null) {
+            return Collections.emptyMap();
+        }
+        for (Cookie cookie : cookies) {
+            if (name.equals(cookie.getName())) {
+                return decode(cookie.getValue());
+            }
+        }
+        return Collections.emptyMap();
+    }
+
+    /**
+     * 장바구니를 쿠키로 기록 (비어 있으면 삭제)
+     */
+    public void write(HttpServletResponse response, Map<Long, Integer> items) {
+        if (items.isEmpty()) {
+            clear(response);
+            return;
+        }
+        if (items.size() > maxLines) {
+            throw new IllegalStateException("비회원 장바구니에는 최대 " + maxLines + "종류의 상품만 담을 수 있습니다. 로그인 후 이용해주세요.");
+        }
+        addCookie(response, encode(items), maxAge);
+    }
+
+    /**
+     * 쿠키 삭제
+     */
+    public void clear(HttpServletResponse response) {
+        addCookie(response, "", Duration.ZERO);
+    }
+
+    String encode(Map<Long, Integer> items) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(8 + items.size() * 6);
+        out.write(VERSION);
+        writeVarint(out, System.currentTimeMillis() / 60_000);
+        writeVarint(out, items.size());
+        items.forEach((productId, quantity) -> {
+            writeVarint(out, productId);
+            writeVarint(out, quantity);
+        });
+        String payload = Base64.getUrlEncoder().withoutPadding().encodeToString(out.toByteArray());
+        return payload + "." + Base64.getUrlEncoder().withoutPadding().encodeToString(sign(payload));
+    }
+
+    Map<Long, Integer> decode(String value) {
+        int dot = value != null ? value.indexOf('.') : -1;
+        if (dot <= 0) {
+            return Collections.emptyMap();
+        }
+        String payload = value.substring(0, dot);
+        try {
+            byte[] signature = Base64.getUrlDecoder().decode(value.substring(dot + 1));
+            if (!MessageDigest.isEqual(sign(payload), signature)) {
+                log.debug("비회원 장바구니 쿠키 서명 불일치");
+                return Collections.emptyMap();
+            }
+            ByteBuffer in = ByteBuffer.wrap(Base64.getUrlDecoder().decode(payload));
+            if (in.get() != VERSION) {
+                return Collections.emptyMap();
+            }
+            long issuedAtMinutes = readVarint(in);
+            if (System.currentTimeMillis() / 60_000 - issuedAtMinutes > maxAge.toMinutes()) {
+                return Collections.emptyMap();
+            }
+            long count = readVarint(in);
+            if (count > maxLines) {
+                return Collections.emptyMap();
+            }
+            Map<Long, Integer> items = new LinkedHashMap<>();
+            for (int i = 0; i < count; i++) {
+                long productId = readVarint(in);
+                long quantity = readVarint(in);
+                if (quantity > 0) {
+                    items.put(productId, (int) Math.min(quantity, MAX_QUANTITY));
+                }
+            }
+            return items;
+        } catch (RuntimeException e) {
+            // 잘린 값, 잘못된 base64 등
+            log.debug("비회원 장바구니 쿠키 해석 실패: {}", e.getMessage());
+            return Collections.emptyMap();
+        }
+    }
+
+    private void addCookie(HttpServletResponse response, String value, Duration age) {
+        ResponseCookie cookie = ResponseCookie.from(name, value)
+                .path("/")
+                .httpOnly(true)
+                .sameSite("Lax")
+                .maxAge(age)
+                .build();
+        response.addHeader("Set-Cookie", cookie.toString());
+    }
+
+    private byte[] sign(String payload) {
+        try {
+            Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+            mac.init(key);
+            byte[] digest = mac.doFinal(payload.getBytes(StandardCharsets.US_ASCII));
+            byte[] truncated = new byte[SIGNATURE_BYTES];
+            System.arraycopy(digest, 0, truncated, 0, SIGNATURE_BYTES);
+            return truncated;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("장바구니 쿠키 서명 생성 실패", e);
+        }
+    }
+
+    private static void writeVarint(ByteArrayOutputStream out, long value) {
+        while ((value & ~0x7FL) != 0) {
+            out.write((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.write((int) value);
+    }
+
+    private static long readVarint(ByteBuffer in) {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            byte b = in.get();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IllegalArgumentException("varint 길이 초과");
+    }
+}
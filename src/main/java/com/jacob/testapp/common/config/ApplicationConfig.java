@@ -1,9 +1,12 @@
 package com.jacob.testapp.common.config;
 
+import com.jacob.testapp.cart.service.CartService;
+import com.jacob.testapp.cart.service.GuestCartCookie;
 import com.jacob.testapp.common.security.AuthenticationRateLimitFilter;
 import com.jacob.testapp.common.security.CustomAuthenticationFailureHandler;
 import com.jacob.testapp.common.security.CustomAuthenticationSuccessHandler;
 import com.jacob.testapp.common.security.CustomUserDetailsService;
+import com.jacob.testapp.user.service.UserService;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.context.annotation.Bean;
@@ -49,18 +52,23 @@ public class ApplicationConfig implements WebMvcConfigurer {
      * Spring Security 설정
      */
     @Bean
-    public AuthenticationSuccessHandler customAuthenticationSuccessHandler() {
-        return new CustomAuthenticationSuccessHandler();
+    public AuthenticationSuccessHandler customAuthenticationSuccessHandler(GuestCartCookie guestCartCookie,
+                                                                           @Lazy CartService cartService,
+                                                                           @Lazy UserService userService) {
+        return new CustomAuthenticationSuccessHandler(guestCartCookie, cartService, userService);
     }
 
     @Bean
-    public SecurityFilterChain securityFilterChain(HttpSecurity http, AuthenticationRateLimitFilter authenticationRateLimitFilter) throws Exception {
+    public SecurityFilterChain securityFilterChain(HttpSecurity http, AuthenticationRateLimitFilter authenticationRateLimitFilter,
+                                                   AuthenticationSuccessHandler customAuthenticationSuccessHandler) throws Exception {
         http
             .addFilterBefore(authenticationRateLimitFilter, UsernamePasswordAuthenticationFilter.class)
             .csrf(AbstractHttpConfigurer::disable) // 부하 테스트를 위해 CSRF 비활성화
             .authorizeHttpRequests(auth -> auth
                     .requestMatchers("/", "/register", "/login", "/users/register", "/css/**", "/js/**", "/img/**", "/error").permitAll()
                 .requestMatchers("/products/**").permitAll()
+                // 비로그인 사용자는 쿠키 장바구니 사용
+                .requestMatchers("/cart", "/cart/add", "/cart/add-bulk", "/cart/update", "/cart/remove", "/cart/clear").permitAll()
                 .requestMatchers("/admin/**").hasRole("ADMIN")
                 .anyRequest().authenticated()
             )
@@ -68,7 +76,7 @@ public class ApplicationConfig implements WebMvcConfigurer {
                 .loginPage("/login")
                 .loginProcessingUrl("/login-process")
                 .failureUrl("/login?error=true")
-                .successHandler(customAuthenticationSuccessHandler())
+                .successHandler(customAuthenticationSuccessHandler)
                 .failureHandler(authenticationFailureHandler)
                 .permitAll()
             )
@@ -0,0 +1,14 @@
+package com.jacob.testapp.common.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 스케줄링 설정
+ * 메모리 집계 보정 등 주기 작업(@Scheduled) 활성화
+ * 스케줄러 스레드 수는 spring.task.scheduling.pool.size로 설정 (작업끼리 서로 막지 않도록 여러 개 사용)
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -1,6 +1,6 @@
 package com.jacob.testapp.common.controller;
 
-import com.jacob.testapp.cart.entity.Cart;
+import com.jacob.testapp.cart.service.CartSummary;
 import com.jacob.testapp.product.entity.Product;
 import com.jacob.testapp.user.entity.User;
 import com.jacob.testapp.cart.service.CartService;
@@ -17,7 +17,6 @@ import org.springframework.web.bind.annotation.GetMapping;
 
 import java.security.Principal;
 import java.util.List;
-import java.util.Optional;
 
 @Controller
 public class HomeController {
@@ -73,38 +72,20 @@ public class HomeController {
                 .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다"));
         model.addAttribute("user", user);
         
-        // 장바구니 정보 가져오기
+        // 장바구니 요약 (수량/총액만 조회, 장바구니를 만들지 않음)
         try {
-            // 장바구니가 있는지 확인 (아이템이 없어도 장바구니는 존재할 수 있음)
-            Cart cart = cartService.getOrCreateCart(user);
-
-            // 장바구니 아이템 조회 시도
-            try {
-                Optional<Cart> cartWithItems = cartService.findByUserWithItems(user.getId());
-                if (cartWithItems.isPresent() && !cartWithItems.get().getCartItems().isEmpty()) {
-                    Cart userCart = cartWithItems.get();
-                    model.addAttribute("cartItemCount", userCart.getTotalQuantity());
-                    model.addAttribute("cartTotalPrice", userCart.getTotalPrice());
-                    
-                    // 현금 잔액 검증
-                    if (user.getCashBalance() != null && 
-                        userCart.getTotalPrice().compareTo(java.math.BigDecimal.valueOf(user.getCashBalance())) > 0) {
-                        model.addAttribute("balanceWarning", true);
-                        model.addAttribute("shortAmount", 
-                            userCart.getTotalPrice().subtract(java.math.BigDecimal.valueOf(user.getCashBalance())));
-                    }
-                } else {
-                    // 장바구니는 있지만 아이템이 없는 경우
-                    model.addAttribute("cartItemCount", 0);
-                    model.addAttribute("cartTotalPrice", 0);
-                }
-            } catch (Exception e) {
-                // 장바구니 아이템 조회 실패 시 기본값 설정
-                model.addAttribute("cartItemCount", 0);
-                model.addAttribute("cartTotalPrice", 0);
+            CartSummary cartSummary = cartService.getCartSummary(user.getId());
+            model.addAttribute("cartItemCount", cartSummary.itemCount());
+            model.addAttribute("cartTotalPrice", cartSummary.totalPrice());
+            
+            // 현금 잔액 검증
+            if (cartSummary.exceeds(user.getCashBalance())) {
+                model.addAttribute("balanceWarning", true);
+                model.addAttribute("shortAmount", 
+                    cartSummary.totalPrice().subtract(java.math.BigDecimal.valueOf(user.getCashBalance())));
             }
         } catch (Exception e) {
-            // 장바구니 자체를 찾을 수 없는 경우 기본값 설정
+            // 장바구니 요약 조회 실패 시 기본값 설정
             model.addAttribute("cartItemCount", 0);
             model.addAttribute("cartTotalPrice", 0);
         }
@@ -0,0 +1,142 @@
+package com.jacob.testapp.common.money;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * 금액 값 타입 (1/100원 단위 long)
+ * - 불변 객체이며 모든 연산은 long 정수 연산이라 소수 오차가 없음 (넘치면 ArithmeticException)
+ * - 반복 계산이 많은 곳은 객체를 만들지 않도록 static 헬퍼로 long 값(minor)을 직접 다룸
+ * - BigDecimal/Double/원 단위 Long 값과는 경계에서만 변환함
+ */
+public final class Money implements Comparable<Money>, Serializable {
+
+    public static final int SCALE = 2;
+    public static final long MINOR_PER_WON = 100L;
+    public static final Money ZERO = new Money(0L);
+
+    private final long minor;
+
+    private Money(long minor) {
+        this.minor = minor;
+    }
+
+    public static Money ofMinor(long minor) {
+        return minor == 0L ? ZERO : new Money(minor);
+    }
+
+    public static Money of(BigDecimal amount) {
+        return ofMinor(toMinor(amount));
+    }
+
+    public static Money ofWon(long won) {
+        return ofMinor(wonToMinor(won));
+    }
+
+    public long getMinor() {
+        return minor;
+    }
+
+    public Money plus(Money other) {
+        return ofMinor(Math.addExact(minor, other.minor));
+    }
+
+    public Money minus(Money other) {
+        return ofMinor(Math.subtractExact(minor, other.minor));
+    }
+
+    public Money times(long quantity) {
+        return ofMinor(Math.multiplyExact(minor, quantity));
+    }
+
+    public boolean isGreaterThan(Money other) {
+        return minor > other.minor;
+    }
+
+    public BigDecimal toBigDecimal() {
+        return toBigDecimal(minor);
+    }
+
+    public double toDouble() {
+        return toDouble(minor);
+    }
+
+    @Override
+    public int compareTo(Money other) {
+        return Long.compare(minor, other.minor);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof Money other && minor == other.minor;
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(minor);
+    }
+
+    @Override
+    public String toString() {
+        return toBigDecimal().toPlainString();
+    }
+
+    // ========== long(minor) 헬퍼 ==========
+
+    /**
+     * BigDecimal 금액을 minor 단위로 변환 (소수 셋째 자리에서 반올림, null은 0)
+     */
+    public static long toMinor(BigDecimal amount) {
+        if (amount == null) {
+            return 0L;
+        }
+        return amount.setScale(SCALE, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+    }
+
+    /**
+     * Double 금액(기존 주문 금액 컬럼)을 minor 단위로 변환 (null은 0)
+     */
+    public static long toMinor(Double amount) {
+        return amount == null ? 0L : Math.round(amount * MINOR_PER_WON);
+    }
+
+    /**
+     * 원 단위 금액(현금 잔액)을 minor 단위로 변환 (null은 0)
+     */
+    public static long wonToMinor(Long won) {
+        return won == null ? 0L : Math.multiplyExact(won.longValue(), MINOR_PER_WON);
+    }
+
+    /**
+     * 단가 * 수량
+     */
+    public static long multiply(long unitMinor, long quantity) {
+        return Math.multiplyExact(unitMinor, quantity);
+    }
+
+    /**
+     * minor 단위를 원 단위로 변환 (1원 미만은 반올림, 음수도 toMinor와 같이 0에서 먼 쪽으로 - 환불액과 차감액이 대칭)
+     */
+    public static long toWon(long minor) {
+        if (minor < 0) {
+            return -toWon(Math.negateExact(minor));
+        }
+        return Math.addExact(minor, MINOR_PER_WON / 2) / MINOR_PER_WON;
+    }
+
+    /**
+     * minor 단위를 원 단위로 변환 (1원 미만은 올림)
+     */
+    public static long toWonCeil(long minor) {
+        return -Math.floorDiv(-minor, MINOR_PER_WON);
+    }
+
+    public static BigDecimal toBigDecimal(long minor) {
+        return BigDecimal.valueOf(minor, SCALE);
+    }
+
+    public static double toDouble(long minor) {
+        return (double) minor / MINOR_PER_WON;
+    }
+}
@@ -0,0 +1,23 @@
+package com.jacob.testapp.common.money;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+import java.math.BigDecimal;
+
+/**
+ * Money ↔ DECIMAL(원 단위, 소수 2자리) 컬럼 변환 (기존 컬럼 값을 그대로 사용)
+ */
+@Converter
+public class MoneyDecimalConverter implements AttributeConverter<Money, BigDecimal> {
+
+    @Override
+    public BigDecimal convertToDatabaseColumn(Money money) {
+        return money == null ? null : money.toBigDecimal();
+    }
+
+    @Override
+    public Money convertToEntityAttribute(BigDecimal amount) {
+        return amount == null ? null : Money.of(amount);
+    }
+}
@@ -1,23 +1,45 @@
 package com.jacob.testapp.common.security;
 
+import com.jacob.testapp.cart.service.CartLine;
+import com.jacob.testapp.cart.service.CartLineResult;
+import com.jacob.testapp.cart.service.CartService;
+import com.jacob.testapp.cart.service.GuestCartCookie;
+import com.jacob.testapp.user.service.UserService;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.authority.AuthorityUtils;
 import org.springframework.security.web.authentication.AuthenticationSuccessHandler;
 
 import java.io.IOException;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
+@Slf4j
 public class CustomAuthenticationSuccessHandler implements AuthenticationSuccessHandler {
 
+    private final GuestCartCookie guestCartCookie;
+    private final CartService cartService;
+    private final UserService userService;
+
+    public CustomAuthenticationSuccessHandler(GuestCartCookie guestCartCookie, CartService cartService,
+                                              UserService userService) {
+        this.guestCartCookie = guestCartCookie;
+        this.cartService = cartService;
+        this.userService = userService;
+    }
+
     @Override
     public void onAuthenticationSuccess(HttpServletRequest request, HttpServletResponse response,
                                         Authentication authentication) throws IOException, ServletException {
-        
+
+        mergeGuestCart(request, response, authentication.getName());
+
         Set<String> roles = AuthorityUtils.authorityListToSet(authentication.getAuthorities());
-        
+
         // 권한에 따라 다른 페이지로 리다이렉트
         if (roles.contains("ROLE_ADMIN")) {
             response.sendRedirect("/admin");
@@ -25,4 +47,28 @@ public class CustomAuthenticationSuccessHandler implements AuthenticationSuccess
             response.sendRedirect("/home");
         }
     }
-} 
\ No newline at end of file
+
+    /**
+     * 비회원 쿠키 장바구니를 회원 장바구니에 한 번에 합치고 쿠키 삭제 (실패해도 로그인은 진행)
+     * - 잔액 부족 등으로 병합하지 못하면 쿠키를 남겨 다음 로그인 때 다시 시도함
+     */
+    private void mergeGuestCart(HttpServletRequest request, HttpServletResponse response, String username) {
+        Map<Long, Integer> items = guestCartCookie.read(request);
+        if (items.isEmpty()) {
+            return;
+        }
+        try {
+            userService.findByUsername(username).ifPresent(user -> {
+                List<CartLine> lines = items.entrySet().stream()
+                        .map(entry -> new CartLine(entry.getKey(), entry.getValue()))
+                        .toList();
+                List<CartLineResult> results = cartService.addProductsToCart(user, lines);
+                long rejected = results.stream().filter(result -> !result.added()).count();
+                log.info("비회원 장바구니 병합: 사용자={}, {}개 상품 중 {}개 제외", username, results.size(), rejected);
+                guestCartCookie.clear(response);
+            });
+        } catch (RuntimeException e) {
+            log.warn("비회원 장바구니 병합 실패: 사용자={}, {}", username, e.getMessage());
+        }
+    }
+}
@@ -2,8 +2,12 @@ package com.jacob.testapp.order.controller;
 
 import com.jacob.testapp.cart.entity.Cart;
 import com.jacob.testapp.cart.service.CartService;
+import com.jacob.testapp.common.money.Money;
 import com.jacob.testapp.order.entity.Order;
+import com.jacob.testapp.order.service.OrderIntakePipeline;
+import com.jacob.testapp.order.service.OrderIntakeResult;
 import com.jacob.testapp.order.service.OrderService;
+import com.jacob.testapp.product.service.StockReservationService;
 import com.jacob.testapp.user.entity.User;
 import com.jacob.testapp.user.service.UserService;
 import lombok.RequiredArgsConstructor;
@@ -33,6 +37,7 @@ public class OrderController {
     private final OrderService orderService;
     private final UserService userService;
     private final CartService cartService;
+    private final OrderIntakePipeline orderIntakePipeline;
 
     @GetMapping
     public String listOrders(
@@ -65,7 +70,7 @@ public class OrderController {
     }
 
     @GetMapping("/checkout")
-    public String checkout(Model model, Principal principal) {
+    public String checkout(Model model, Principal principal, RedirectAttributes redirectAttributes) {
         return handleOrderOperation(() -> {
             User user = getCurrentUser(principal);
             
@@ -75,13 +80,17 @@ public class OrderController {
             if (cart.getCartItems().isEmpty()) {
                 return "redirect:/cart";
             }
+
+            // 결제하는 동안 재고 예약 (부족하면 장바구니로 돌아감)
+            StockReservationService.Reservation reservation = orderService.reserveCheckout(user);
             
             model.addAttribute("cart", cart);
             model.addAttribute("user", user);
-            model.addAttribute("totalAmount", cart.getTotalPrice());
+            model.addAttribute("totalAmount", cart.getTotalPrice().toBigDecimal());
+            model.addAttribute("reservationExpiresAt", reservation.expiresAt());
             
             return "order/checkout";
-        }, "redirect:/cart");
+        }, redirectAttributes, "redirect:/cart");
     }
     
     @PostMapping("/create-and-pay")
@@ -93,6 +102,13 @@ public class OrderController {
             String shippingAddress = (user.getAddress() != null && !user.getAddress().isEmpty()) 
                 ? user.getAddress() : "테스트 주문 (배송 없음)";
             
+            // 주문 접수 파이프라인 사용 시 다른 주문과 함께 한 트랜잭션으로 생성/결제
+            if (orderIntakePipeline.isEnabled()) {
+                OrderIntakeResult result = orderIntakePipeline.placeCashOrder(user, shippingAddress);
+                setOrderCompleteAttributes(redirectAttributes, result);
+                return "redirect:/orders/complete";
+            }
+            
             // 주문 생성
             Order order = orderService.createOrder(user, shippingAddress, "현금결제");
             
@@ -254,7 +270,7 @@ public class OrderController {
     private void processCashRefundIfNeeded(Order order) {
         if ("현금결제".equals(order.getPaymentMethod()) && order.getUser() != null) {
             User user = order.getUser();
-            user.setCashBalance(user.getCashBalance() + Math.round(order.getTotalAmount()));
+            user.setCashBalance(user.getCashBalance() + Money.toWon(order.getTotalMinor()));
         }
     }
     
@@ -278,6 +294,14 @@ public class OrderController {
         redirectAttributes.addFlashAttribute("orderDate", order.getCreatedAt());
     }
     
+    private void setOrderCompleteAttributes(RedirectAttributes redirectAttributes, OrderIntakeResult result) {
+        redirectAttributes.addFlashAttribute("orderId", result.orderId());
+        redirectAttributes.addFlashAttribute("orderNumber", result.orderNumber());
+        redirectAttributes.addFlashAttribute("totalAmount", result.totalAmount());
+        redirectAttributes.addFlashAttribute("remainingBalance", result.remainingBalance());
+        redirectAttributes.addFlashAttribute("orderDate", result.orderedAt());
+    }
+    
     /**
      * 주문 작업 처리 및 예외 처리
      */
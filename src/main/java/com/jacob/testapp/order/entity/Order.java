@@ -1,10 +1,12 @@
 package com.jacob.testapp.order.entity;
 
+import com.jacob.testapp.common.money.Money;
 import com.jacob.testapp.product.entity.Product;
 import com.jacob.testapp.user.entity.User;
 import jakarta.persistence.*;
 import lombok.*;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.DynamicUpdate;
 import org.hibernate.annotations.UpdateTimestamp;
 
 import java.math.BigDecimal;
@@ -16,9 +18,11 @@ import java.util.UUID;
 /**
  * 주문 엔티티
  * 사용자의 주문 정보와 주문 상품 목록을 관리
+ * 변경된 컬럼만 UPDATE함 (아웃박스 워커가 version 없이 채우는 송장 정보를 덮어쓰지 않도록)
  */
 @Entity
 @Table(name = "orders")
+@DynamicUpdate
 @Getter
 @Setter
 @Builder
@@ -185,17 +189,25 @@ public class Order extends BaseEntity {
      * 주문 총액 다시 계산
      */
     public void recalculateTotalAmount() {
+        // 금액 계산은 minor 단위 정수로 하고 컬럼에는 원 단위로 저장
+        long subtotalMinor = Money.toMinor(subtotalAmount);
         if (items != null && !items.isEmpty()) {
-            double itemsTotal = items.stream()
-                    .mapToDouble(OrderItem::getTotalPrice)
-                    .sum();
-            
-            this.subtotalAmount = itemsTotal;
+            subtotalMinor = 0L;
+            for (OrderItem item : items) {
+                subtotalMinor = Math.addExact(subtotalMinor, item.getLineMinor());
+            }
+            this.subtotalAmount = Money.toDouble(subtotalMinor);
         }
         
         // 배송비와 할인액 적용
-        this.totalAmount = (subtotalAmount != null ? subtotalAmount : 0.0) 
-                         + (shippingAmount != null ? shippingAmount : 0.0) 
-                         - (discountAmount != null ? discountAmount : 0.0);
+        long totalMinor = subtotalMinor + Money.toMinor(shippingAmount) - Money.toMinor(discountAmount);
+        this.totalAmount = Money.toDouble(totalMinor);
+    }
+
+    /**
+     * 주문 총액 (minor 단위)
+     */
+    public long getTotalMinor() {
+        return Money.toMinor(totalAmount);
     }
 } 
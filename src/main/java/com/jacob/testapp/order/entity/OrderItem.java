@@ -1,5 +1,6 @@
 package com.jacob.testapp.order.entity;
 
+import com.jacob.testapp.common.money.Money;
 import com.jacob.testapp.product.entity.Product;
 import jakarta.persistence.*;
 import lombok.Getter;
@@ -39,7 +40,14 @@ public class OrderItem extends BaseEntity {
      * @return 단가 × 수량
      */
     public double getTotalPrice() {
-        return price * quantity;
+        return Money.toDouble(getLineMinor());
+    }
+
+    /**
+     * 주문 항목 금액 (minor 단위)
+     */
+    public long getLineMinor() {
+        return Money.multiply(Money.toMinor(price), quantity);
     }
     
     /**
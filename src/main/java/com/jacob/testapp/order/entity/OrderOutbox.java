@@ -0,0 +1,114 @@
+package com.jacob.testapp.order.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * 주문 후속 작업 아웃박스
+ * - 주문 생성/상태 변경과 같은 트랜잭션에 기록하고, OrderOutboxWorker가 비동기로 처리한 뒤 삭제함
+ * - 처리 중인 행은 claimed_by/claimed_until로 표시하고, 실패하면 재시도 시각을 늦추며 한도를 넘으면 failed로 남김
+ */
+@Entity
+@Table(name = "order_outbox", indexes = {
+        @Index(name = "idx_order_outbox_pending", columnList = "failed, next_attempt_at, id"),
+        @Index(name = "idx_order_outbox_order", columnList = "order_id, id")
+})
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderOutbox {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "order_id", nullable = false)
+    private Long orderId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "event_type", nullable = false)
+    private EventType eventType;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status_from")
+    private Order.OrderStatus statusFrom;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status_to")
+    private Order.OrderStatus statusTo;
+
+    @Column
+    private String actor;
+
+    @Column
+    private String memo;
+
+    @Builder.Default
+    @Column(nullable = false)
+    private int attempts = 0;
+
+    @Builder.Default
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt = LocalDateTime.now();
+
+    @Column(name = "claimed_by")
+    private String claimedBy;
+
+    @Column(name = "claimed_until")
+    private LocalDateTime claimedUntil;
+
+    @Builder.Default
+    @Column(nullable = false)
+    private boolean failed = false;
+
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    @CreationTimestamp
+    @Column(name = "created_at", updatable = false)
+    private LocalDateTime createdAt;
+
+    /**
+     * 후속 작업 종류
+     */
+    public enum EventType {
+        // 주문 생성 - 송장/택배사 배정, 생성 이력, 알림
+        ORDER_PLACED,
+        // 상태 변경 - 변경 이력, 알림
+        STATUS_CHANGED
+    }
+
+    /**
+     * 주문 생성 작업
+     */
+    public static OrderOutbox orderPlaced(Long orderId, Order.OrderStatus status, String actor) {
+        return OrderOutbox.builder()
+                .orderId(orderId)
+                .eventType(EventType.ORDER_PLACED)
+                .statusTo(status)
+                .actor(actor)
+                .build();
+    }
+
+    /**
+     * 상태 변경 작업
+     */
+    public static OrderOutbox statusChanged(Long orderId, Order.OrderStatus statusFrom, Order.OrderStatus statusTo,
+                                            String actor, String memo) {
+        return OrderOutbox.builder()
+                .orderId(orderId)
+                .eventType(EventType.STATUS_CHANGED)
+                .statusFrom(statusFrom)
+                .statusTo(statusTo)
+                .actor(actor)
+                .memo(memo)
+                .build();
+    }
+}
@@ -8,6 +8,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
 
@@ -41,4 +42,22 @@ public interface OrderItemRepository extends JpaRepository<OrderItem, Long> {
            "WHERE oi.product.id IN :productIds " +
            "GROUP BY oi.product.id")
     List<Object[]> findSalesByProductIds(@Param("productIds") List<Long> productIds);
-} 
\ No newline at end of file
+
+    /**
+     * 상품별 누적 판매량 조회 (특정 상태의 주문 제외)
+     */
+    @Query("SELECT oi.product.id, SUM(oi.quantity) " +
+           "FROM OrderItem oi " +
+           "WHERE oi.order.status <> :excludedStatus " +
+           "GROUP BY oi.product.id")
+    List<Object[]> findSalesTotalsExcludingStatus(@Param("excludedStatus") Order.OrderStatus excludedStatus);
+
+    /**
+     * 특정 시각 이후 주문된 항목의 상품 ID, 수량, 주문 시각 조회 (특정 상태의 주문 제외)
+     */
+    @Query("SELECT oi.product.id, oi.quantity, o.createdAt " +
+           "FROM OrderItem oi JOIN oi.order o " +
+           "WHERE o.createdAt >= :since AND o.status <> :excludedStatus")
+    List<Object[]> findSalesSinceExcludingStatus(@Param("since") LocalDateTime since,
+                                                 @Param("excludedStatus") Order.OrderStatus excludedStatus);
+}
@@ -0,0 +1,29 @@
+package com.jacob.testapp.order.repository;
+
+import com.jacob.testapp.order.entity.OrderOutbox;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+@Repository
+public interface OrderOutboxRepository extends JpaRepository<OrderOutbox, Long> {
+
+    /**
+     * 처리 대기 중인 작업 수 (실패로 남은 작업 제외)
+     */
+    long countByFailedFalse();
+
+    /**
+     * 처리 한도를 넘겨 실패로 남은 작업 수
+     */
+    long countByFailedTrue();
+
+    /**
+     * 가장 오래된 대기 작업의 생성 시각 (처리 지연 확인용)
+     */
+    @Query("SELECT MIN(o.createdAt) FROM OrderOutbox o WHERE o.failed = false")
+    Optional<LocalDateTime> findOldestPendingCreatedAt();
+}
@@ -0,0 +1,238 @@
+package com.jacob.testapp.order.service;
+
+import com.jacob.testapp.user.entity.User;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAccumulator;
+
+/**
+ * 주문 접수 파이프라인 (선택 기능, app.order.intake.enabled)
+ * - 요청 스레드는 주문 요청을 제한된 큐에 넣고 결과를 기다림 (큐가 가득 차면 즉시 거절)
+ * - 소수의 기록 스레드가 큐에 쌓인 요청을 max-batch개까지 모아 한 트랜잭션(OrderService.placeCashOrders)으로 처리하고,
+ *   커밋이 끝난 뒤 각 요청의 결과를 완료함 (주문마다 커밋하지 않고 여러 주문이 커밋 한 번을 나눠 씀)
+ * - 묶음 트랜잭션이 실패하면(교착 상태 등) 같은 묶음의 요청을 한 건씩 다시 처리함
+ * - 처리 통계는 getStats로 조회
+ */
+@Slf4j
+@Component
+public class OrderIntakePipeline {
+
+    private final OrderService orderService;
+    private final boolean enabled;
+    private final int writers;
+    private final int maxBatch;
+    private final long timeoutMs;
+    private final BlockingQueue<Command> queue;
+    private final ExecutorService executor;
+    private volatile boolean running;
+
+    private final AtomicLong submitted = new AtomicLong();
+    private final AtomicLong rejectedFull = new AtomicLong();
+    private final AtomicLong batches = new AtomicLong();
+    private final AtomicLong placedOrders = new AtomicLong();
+    private final AtomicLong rejectedOrders = new AtomicLong();
+    private final AtomicLong batchRetries = new AtomicLong();
+    private final LongAccumulator largestBatch = new LongAccumulator(Math::max, 0L);
+
+    public OrderIntakePipeline(OrderService orderService,
+                               @Value("${app.order.intake.enabled:false}") boolean enabled,
+                               @Value("${app.order.intake.writers:2}") int writers,
+                               @Value("${app.order.intake.queue-capacity:1000}") int queueCapacity,
+                               @Value("${app.order.intake.max-batch:32}") int maxBatch,
+                               @Value("${app.order.intake.timeout-ms:10000}") long timeoutMs) {
+        this.orderService = orderService;
+        this.enabled = enabled;
+        this.writers = writers;
+        this.maxBatch = maxBatch;
+        this.timeoutMs = timeoutMs;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.executor = enabled ? Executors.newFixedThreadPool(writers) : null;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 애플리케이션 시작 후 기록 스레드 시작
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        running = true;
+        for (int i = 0; i < writers; i++) {
+            executor.execute(this::writeLoop);
+        }
+        log.info("주문 접수 파이프라인 시작: 기록 스레드 {}개, 묶음 최대 {}건", writers, maxBatch);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (executor == null) {
+            return;
+        }
+        running = false;
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(timeoutMs, TimeUnit.MILLISECONDS)) {
+                executor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+        // 처리하지 못한 요청은 실패로 완료
+        List<Command> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        remaining.forEach(command -> command.future.completeExceptionally(
+                new IllegalStateException("서버가 종료 중입니다. 잠시 후 다시 시도해주세요.")));
+    }
+
+    /**
+     * 장바구니 전체를 보유 현금으로 주문 (묶음 커밋이 끝날 때까지 대기, 거절되면 예외)
+     */
+    public OrderIntakeResult placeCashOrder(User user, String shippingAddress) {
+        if (!running) {
+            throw new IllegalStateException("주문 접수가 준비되지 않았습니다. 잠시 후 다시 시도해주세요.");
+        }
+        Command command = new Command(new OrderIntakeRequest(user, shippingAddress));
+        submitted.incrementAndGet();
+        if (!queue.offer(command)) {
+            rejectedFull.incrementAndGet();
+            throw new IllegalStateException("주문이 많아 처리하지 못했습니다. 잠시 후 다시 시도해주세요.");
+        }
+
+        OrderIntakeResult result;
+        try {
+            result = command.future.get(timeoutMs, TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("주문 처리 중 오류가 발생했습니다", cause);
+        } catch (TimeoutException e) {
+            log.warn("주문 접수 대기 시간 초과: 사용자 ID={}, {}ms", user.getId(), timeoutMs);
+            throw new IllegalStateException("주문 처리가 지연되고 있습니다. 주문 내역을 확인해주세요.");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("주문 처리가 중단되었습니다.");
+        }
+        if (!result.isPlaced()) {
+            throw new IllegalStateException(result.errorMessage());
+        }
+        return result;
+    }
+
+    /**
+     * 처리 통계
+     */
+    public Stats getStats() {
+        long batchCount = batches.get();
+        long processed = placedOrders.get() + rejectedOrders.get();
+        double averageBatch = batchCount == 0 ? 0 : (double) processed / batchCount;
+        return new Stats(enabled, queue.size(), submitted.get(), rejectedFull.get(), batchCount,
+                placedOrders.get(), rejectedOrders.get(), batchRetries.get(), averageBatch, largestBatch.get());
+    }
+
+    private void writeLoop() {
+        List<Command> batch = new ArrayList<>(maxBatch);
+        while (running || !queue.isEmpty()) {
+            try {
+                Command first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, maxBatch - 1);
+                process(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.error("주문 접수 처리 오류", e);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void process(List<Command> batch) {
+        List<OrderIntakeRequest> requests = batch.stream().map(command -> command.request).toList();
+        List<OrderIntakeResult> results;
+        try {
+            results = orderService.placeCashOrders(requests);
+        } catch (RuntimeException e) {
+            if (batch.size() > 1) {
+                // 묶음 전체가 롤백됨 - 한 건씩 다시 처리해 실패 원인을 해당 주문으로 한정
+                log.warn("주문 묶음 처리 실패, 한 건씩 재처리: {}건, {}", batch.size(), e.getMessage());
+                batchRetries.incrementAndGet();
+                batch.forEach(command -> process(List.of(command)));
+            } else if (e instanceof IllegalArgumentException || e instanceof IllegalStateException) {
+                // 다른 서비스 안에서 거절되어 트랜잭션이 롤백된 경우 - 거절 사유를 그대로 전달
+                log.info("주문 거절: 사용자 ID={}, {}", requests.get(0).user().getId(), e.getMessage());
+                rejectedOrders.incrementAndGet();
+                batch.get(0).future.complete(OrderIntakeResult.rejected(e.getMessage()));
+            } else {
+                log.warn("주문 처리 실패: 사용자 ID={}, {}", requests.get(0).user().getId(), e.getMessage());
+                rejectedOrders.incrementAndGet();
+                batch.get(0).future.completeExceptionally(
+                        new IllegalStateException("주문 처리 중 오류가 발생했습니다. 다시 시도해주세요."));
+            }
+            return;
+        }
+
+        batches.incrementAndGet();
+        largestBatch.accumulate(batch.size());
+        for (int i = 0; i < batch.size(); i++) {
+            OrderIntakeResult result = results.get(i);
+            if (result.isPlaced()) {
+                placedOrders.incrementAndGet();
+            } else {
+                rejectedOrders.incrementAndGet();
+            }
+            batch.get(i).future.complete(result);
+        }
+    }
+
+    /**
+     * 대기 중인 주문 요청
+     */
+    private static final class Command {
+        private final OrderIntakeRequest request;
+        private final CompletableFuture<OrderIntakeResult> future = new CompletableFuture<>();
+
+        private Command(OrderIntakeRequest request) {
+            this.request = request;
+        }
+    }
+
+    /**
+     * 파이프라인 처리 통계
+     *
+     * @param rejectedFull 큐가 가득 차 거절한 요청 수
+     * @param batchRetries 묶음 실패로 한 건씩 재처리한 횟수
+     */
+    public record Stats(boolean enabled, int queued, long submitted, long rejectedFull, long batches,
+                        long placedOrders, long rejectedOrders, long batchRetries,
+                        double averageBatchSize, long largestBatch) {
+    }
+}
@@ -0,0 +1,12 @@
+package com.jacob.testapp.order.service;
+
+import com.jacob.testapp.user.entity.User;
+
+/**
+ * 주문 접수 요청 (장바구니 전체를 보유 현금으로 주문)
+ *
+ * @param user 주문자
+ * @param shippingAddress 배송지
+ */
+public record OrderIntakeRequest(User user, String shippingAddress) {
+}
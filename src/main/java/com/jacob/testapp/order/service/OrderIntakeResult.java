@@ -0,0 +1,30 @@
+package com.jacob.testapp.order.service;
+
+import java.time.LocalDateTime;
+
+/**
+ * 주문 접수 결과
+ *
+ * @param orderId 주문 ID (거절되면 null)
+ * @param orderNumber 주문번호
+ * @param totalAmount 결제 금액
+ * @param remainingBalance 결제 후 현금 잔액
+ * @param orderedAt 주문 시각
+ * @param errorMessage 거절 사유 (성공하면 null)
+ */
+public record OrderIntakeResult(Long orderId, String orderNumber, Double totalAmount, Long remainingBalance,
+                                LocalDateTime orderedAt, String errorMessage) {
+
+    public static OrderIntakeResult placed(Long orderId, String orderNumber, Double totalAmount,
+                                           Long remainingBalance, LocalDateTime orderedAt) {
+        return new OrderIntakeResult(orderId, orderNumber, totalAmount, remainingBalance, orderedAt, null);
+    }
+
+    public static OrderIntakeResult rejected(String errorMessage) {
+        return new OrderIntakeResult(null, null, null, null, null, errorMessage);
+    }
+
+    public boolean isPlaced() {
+        return errorMessage == null;
+    }
+}
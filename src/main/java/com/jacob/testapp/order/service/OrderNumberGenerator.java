@@ -0,0 +1,85 @@
+package com.jacob.testapp.order.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 주문번호 생성기 (Snowflake 방식, 잠금/DB 조회 없음)
+ * - 64비트 ID = 기준 시각 이후 밀리초(41비트) | 노드 ID(10비트) | 밀리초 내 순번(12비트)
+ * - 마지막 (시각, 순번)을 AtomicLong 하나에 담아 CAS로 증가시키므로 같은 노드에서는 항상 증가함
+ * - 한 밀리초에 순번을 다 쓰거나 시계가 뒤로 가면 기다리지 않고 마지막 시각 다음 밀리초로 넘어감
+ * - 여러 인스턴스는 app.order.number.node-id를 서로 다르게 설정해야 중복되지 않음
+ * - 주문번호 형식: ORD-{주문일자 yyyyMMdd}-{ID}
+ */
+@Slf4j
+@Component
+public class OrderNumberGenerator {
+
+    // 2024-01-01T00:00:00Z
+    private static final long EPOCH_MILLIS = 1_704_067_200_000L;
+    private static final int NODE_BITS = 10;
+    private static final int SEQUENCE_BITS = 12;
+    private static final long MAX_NODE_ID = (1L << NODE_BITS) - 1;
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd");
+
+    private final long nodeId;
+    private final ZoneId zoneId = ZoneId.systemDefault();
+    // (기준 시각 이후 밀리초 << SEQUENCE_BITS) | 순번
+    private final AtomicLong lastState = new AtomicLong();
+
+    public OrderNumberGenerator(@Value("${app.order.number.node-id:0}") long nodeId) {
+        if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+            throw new IllegalArgumentException("주문번호 노드 ID는 0~" + MAX_NODE_ID + " 사이여야 합니다: " + nodeId);
+        }
+        this.nodeId = nodeId;
+        log.info("주문번호 생성기 노드 ID: {}", nodeId);
+    }
+
+    /**
+     * 새 주문번호
+     */
+    public String nextOrderNumber() {
+        long id = nextId();
+        String date = DATE_FORMAT.format(Instant.ofEpochMilli(timestampOf(id)).atZone(zoneId));
+        return "ORD-" + date + "-" + id;
+    }
+
+    /**
+     * 새 ID (같은 노드에서는 항상 증가)
+     */
+    public long nextId() {
+        long now = System.currentTimeMillis() - EPOCH_MILLIS;
+        long next;
+        while (true) {
+            long last = lastState.get();
+            long lastMillis = last >>> SEQUENCE_BITS;
+            if (now > lastMillis) {
+                next = now << SEQUENCE_BITS;
+            } else if ((last & SEQUENCE_MASK) < SEQUENCE_MASK) {
+                next = last + 1;
+            } else {
+                // 순번 소진 - 다음 밀리초의 첫 순번
+                next = (lastMillis + 1) << SEQUENCE_BITS;
+            }
+            if (lastState.compareAndSet(last, next)) {
+                break;
+            }
+        }
+        long millis = next >>> SEQUENCE_BITS;
+        return (millis << (NODE_BITS + SEQUENCE_BITS)) | (nodeId << SEQUENCE_BITS) | (next & SEQUENCE_MASK);
+    }
+
+    /**
+     * ID에 담긴 생성 시각 (epoch 밀리초)
+     */
+    public static long timestampOf(long id) {
+        return (id >>> (NODE_BITS + SEQUENCE_BITS)) + EPOCH_MILLIS;
+    }
+}
@@ -0,0 +1,361 @@
+package com.jacob.testapp.order.service;
+
+import com.jacob.testapp.order.entity.Order;
+import com.jacob.testapp.order.entity.OrderOutbox;
+import com.jacob.testapp.order.repository.OrderOutboxRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 주문 아웃박스 처리기 (app.order.outbox.enabled)
+ * - 전용 폴링 스레드가 처리할 작업을 batch-size개까지 선점(claimed_by)하고, 주문별로 묶어 작업 스레드 풀에서 처리함 (공용 스케줄러 스레드를 막지 않음)
+ * - 같은 주문의 작업은 한 스레드에서 ID 순으로 처리하며, 처리 결과와 아웃박스 행 삭제를 한 트랜잭션으로 커밋함
+ * - 같은 주문에 재시도 대기/실패/다른 서버 처리 중인 앞선 작업이 있으면 뒤 작업은 선점하지 않아 주문 이력 순서를 지킴
+ * - 처리 내용: 송장번호/택배사/관리자 메모 배정, 주문 이력 기록, 알림(로그), 처리 통계
+ * - 실패한 작업은 점점 늦게 재시도하고, max-attempts를 넘으면 failed로 남김
+ * - 선점한 서버가 멈춰도 lease가 지나면 다른 서버가 다시 선점함
+ */
+@Slf4j
+@Component
+public class OrderOutboxWorker {
+
+    // 같은 주문의 앞선 작업이 지금 선점할 수 없는 상태(실패, 재시도 대기, 처리 중)이면 제외
+    private static final String SELECT_CLAIMABLE_SQL = "SELECT o.id FROM order_outbox o " +
+            "WHERE o.failed = 0 AND o.next_attempt_at <= ? AND (o.claimed_until IS NULL OR o.claimed_until < ?) " +
+            "AND NOT EXISTS (SELECT 1 FROM order_outbox p WHERE p.order_id = o.order_id AND p.id < o.id " +
+            "AND (p.failed = 1 OR p.next_attempt_at > ? OR p.claimed_until >= ?)) " +
+            "ORDER BY o.id LIMIT ?";
+    private static final String CLAIM_SQL_FORMAT = "UPDATE order_outbox SET claimed_by = ?, claimed_until = ? " +
+            "WHERE id IN (%s) AND failed = 0 AND (claimed_until IS NULL OR claimed_until < ?)";
+    private static final String SELECT_CLAIMED_SQL = "SELECT id, order_id, event_type, status_from, status_to, actor, memo, attempts " +
+            "FROM order_outbox WHERE claimed_by = ? ORDER BY id";
+    // 이번에 선점하지 못한 같은 주문의 작업 중 가장 앞선 ID
+    private static final String SELECT_OTHER_FIRST_IDS_SQL_FORMAT = "SELECT order_id, MIN(id) FROM order_outbox " +
+            "WHERE order_id IN (%s) AND (claimed_by IS NULL OR claimed_by <> ?) GROUP BY order_id";
+    private static final String RELEASE_SQL_FORMAT = "UPDATE order_outbox SET claimed_by = NULL, claimed_until = NULL " +
+            "WHERE claimed_by = ? AND order_id IN (%s)";
+    // 시스템이 채우는 컬럼이므로 version을 올리지 않음 (결제 등 진행 중인 주문 수정과 낙관적 잠금 충돌 방지,
+    // Order는 변경된 컬럼만 UPDATE하므로 덮어쓰지 않으며 tracking_number IS NULL 조건으로 관리자 입력값도 유지)
+    private static final String ASSIGN_SHIPPING_SQL = "UPDATE orders SET tracking_number = ?, carrier = ?, " +
+            "admin_memo = COALESCE(admin_memo, ?) WHERE id = ? AND tracking_number IS NULL";
+    private static final String INSERT_HISTORY_SQL = "INSERT INTO order_history (order_id, status_from, status_to, " +
+            "status_text, memo, created_by, created_at, updated_at, version) VALUES (?, ?, ?, ?, ?, ?, ?, ?, 0)";
+    // failed를 attempts보다 먼저 계산해 증가 전 값 기준으로 판단
+    private static final String FAIL_SQL_FORMAT = "UPDATE order_outbox SET failed = (attempts + 1 >= ?), " +
+            "attempts = attempts + 1, claimed_by = NULL, claimed_until = NULL, next_attempt_at = ?, last_error = ? " +
+            "WHERE id IN (%s)";
+
+    private static final String[] CARRIERS = {"대한통운", "로젠택배", "한진택배", "롯데택배", "우체국택배", "CJ대한통운", "KGB택배", "합동택배", "일양로지스"};
+
+    private final JdbcTemplate jdbcTemplate;
+    private final OrderOutboxRepository outboxRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final int batchSize;
+    private final int maxBatchesPerPoll;
+    private final int maxAttempts;
+    private final Duration lease;
+    private final long pollIntervalMs;
+    private final ExecutorService executor;
+    private final ExecutorService poller;
+    private volatile boolean running;
+
+    private final AtomicLong claimedEvents = new AtomicLong();
+    private final AtomicLong placedProcessed = new AtomicLong();
+    private final AtomicLong statusChangesProcessed = new AtomicLong();
+    private final AtomicLong trackingAssigned = new AtomicLong();
+    private final AtomicLong notificationsSent = new AtomicLong();
+    private final AtomicLong failures = new AtomicLong();
+    private final AtomicLong deferredEvents = new AtomicLong();
+
+    public OrderOutboxWorker(JdbcTemplate jdbcTemplate,
+                             OrderOutboxRepository outboxRepository,
+                             PlatformTransactionManager transactionManager,
+                             @Value("${app.order.outbox.enabled:true}") boolean enabled,
+                             @Value("${app.order.outbox.workers:4}") int workers,
+                             @Value("${app.order.outbox.batch-size:200}") int batchSize,
+                             @Value("${app.order.outbox.max-batches-per-poll:5}") int maxBatchesPerPoll,
+                             @Value("${app.order.outbox.max-attempts:5}") int maxAttempts,
+                             @Value("${app.order.outbox.lease:60s}") Duration lease,
+                             @Value("${app.order.outbox.poll-interval-ms:200}") long pollIntervalMs) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.outboxRepository = outboxRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.maxBatchesPerPoll = maxBatchesPerPoll;
+        this.maxAttempts = maxAttempts;
+        this.lease = lease;
+        this.pollIntervalMs = pollIntervalMs;
+        this.executor = enabled ? Executors.newFixedThreadPool(workers) : null;
+        this.poller = enabled ? Executors.newSingleThreadExecutor() : null;
+    }
+
+    /**
+     * 애플리케이션 시작 후 폴링 스레드 시작
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        running = true;
+        poller.execute(this::pollLoop);
+    }
+
+    /**
+     * poll-interval-ms마다 대기 중인 작업 처리 (작업 스레드 풀이 끝날 때까지 이 스레드만 기다림)
+     */
+    private void pollLoop() {
+        while (running) {
+            drain();
+            try {
+                Thread.sleep(pollIntervalMs);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    /**
+     * 대기 중인 작업 처리 (한 번에 가득 찬 배치면 max-batches-per-poll까지 이어서 처리)
+     */
+    private void drain() {
+        try {
+            for (int i = 0; i < maxBatchesPerPoll; i++) {
+                if (drainBatch() < batchSize) {
+                    return;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (RuntimeException e) {
+            log.warn("주문 아웃박스 처리 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 처리 통계
+     */
+    public Stats getStats() {
+        long pending = outboxRepository.countByFailedFalse();
+        long failed = outboxRepository.countByFailedTrue();
+        long oldestPendingSeconds = outboxRepository.findOldestPendingCreatedAt()
+                .map(createdAt -> Duration.between(createdAt, LocalDateTime.now()).toSeconds())
+                .orElse(0L);
+        return new Stats(enabled, pending, failed, oldestPendingSeconds, claimedEvents.get(), placedProcessed.get(),
+                statusChangesProcessed.get(), trackingAssigned.get(), notificationsSent.get(), failures.get(),
+                deferredEvents.get());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        running = false;
+        if (poller != null) {
+            poller.shutdownNow();
+        }
+        if (executor != null) {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * 배치 하나 선점 후 처리
+     *
+     * @return 선점 대상으로 고른 작업 수 (batch-size보다 적으면 더 처리할 작업이 없음)
+     */
+    private int drainBatch() throws InterruptedException {
+        String token = UUID.randomUUID().toString();
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Long> candidateIds = jdbcTemplate.queryForList(SELECT_CLAIMABLE_SQL, Long.class,
+                now, now, now, now, batchSize);
+        if (candidateIds.isEmpty()) {
+            return 0;
+        }
+        List<Object> claimArgs = new ArrayList<>(candidateIds.size() + 3);
+        claimArgs.add(token);
+        claimArgs.add(Timestamp.valueOf(now.toLocalDateTime().plus(lease)));
+        claimArgs.addAll(candidateIds);
+        claimArgs.add(now);
+        // 고른 뒤 다른 서버가 먼저 선점한 작업은 건너뜀
+        int claimed = jdbcTemplate.update(String.format(CLAIM_SQL_FORMAT, placeholders(candidateIds.size())),
+                claimArgs.toArray());
+        if (claimed == 0) {
+            return candidateIds.size();
+        }
+        claimedEvents.addAndGet(claimed);
+
+        // 주문별로 묶어 같은 주문의 작업 순서를 유지
+        Map<Long, List<OrderOutbox>> byOrder = new LinkedHashMap<>();
+        jdbcTemplate.query(SELECT_CLAIMED_SQL, rs -> {
+            OrderOutbox event = OrderOutbox.builder()
+                    .id(rs.getLong(1))
+                    .orderId(rs.getLong(2))
+                    .eventType(OrderOutbox.EventType.valueOf(rs.getString(3)))
+                    .statusFrom(toStatus(rs.getString(4)))
+                    .statusTo(toStatus(rs.getString(5)))
+                    .actor(rs.getString(6))
+                    .memo(rs.getString(7))
+                    .attempts(rs.getInt(8))
+                    .build();
+            byOrder.computeIfAbsent(event.getOrderId(), orderId -> new ArrayList<>()).add(event);
+        }, token);
+        releaseOutOfOrderGroups(token, byOrder);
+
+        List<Callable<Void>> tasks = new ArrayList<>(byOrder.size());
+        byOrder.values().forEach(events -> tasks.add(() -> {
+            processOrderEvents(events);
+            return null;
+        }));
+        executor.invokeAll(tasks);
+        return candidateIds.size();
+    }
+
+    /**
+     * 고른 뒤 같은 주문의 앞선 작업을 다른 서버가 선점해 순서가 어긋난 주문은 선점을 풀고 다음 주기로 미룸
+     */
+    private void releaseOutOfOrderGroups(String token, Map<Long, List<OrderOutbox>> byOrder) {
+        if (byOrder.isEmpty()) {
+            return;
+        }
+        List<Object> args = new ArrayList<>(byOrder.keySet());
+        args.add(token);
+        List<Long> deferredOrderIds = new ArrayList<>();
+        jdbcTemplate.query(String.format(SELECT_OTHER_FIRST_IDS_SQL_FORMAT, placeholders(byOrder.size())), rs -> {
+            long orderId = rs.getLong(1);
+            if (rs.getLong(2) < byOrder.get(orderId).get(0).getId()) {
+                deferredOrderIds.add(orderId);
+            }
+        }, args.toArray());
+        if (deferredOrderIds.isEmpty()) {
+            return;
+        }
+
+        List<Object> releaseArgs = new ArrayList<>(deferredOrderIds.size() + 1);
+        releaseArgs.add(token);
+        releaseArgs.addAll(deferredOrderIds);
+        jdbcTemplate.update(String.format(RELEASE_SQL_FORMAT, placeholders(deferredOrderIds.size())), releaseArgs.toArray());
+        deferredOrderIds.forEach(orderId -> deferredEvents.addAndGet(byOrder.remove(orderId).size()));
+    }
+
+    /**
+     * 한 주문의 작업 처리 (처리 결과와 아웃박스 삭제를 한 트랜잭션으로 커밋)
+     */
+    private void processOrderEvents(List<OrderOutbox> events) {
+        List<Long> ids = events.stream().map(OrderOutbox::getId).toList();
+        String placeholders = placeholders(ids.size());
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                for (OrderOutbox event : events) {
+                    handle(event);
+                }
+                jdbcTemplate.update("DELETE FROM order_outbox WHERE id IN (" + placeholders + ")", ids.toArray());
+            });
+        } catch (RuntimeException e) {
+            failures.incrementAndGet();
+            log.warn("주문 후속 작업 실패: 주문 ID={}, {}", events.get(0).getOrderId(), e.getMessage());
+            List<Object> args = new ArrayList<>(ids.size() + 3);
+            args.add(maxAttempts);
+            args.add(Timestamp.valueOf(LocalDateTime.now().plus(retryDelay(events))));
+            String message = e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName();
+            args.add(message.length() > 500 ? message.substring(0, 500) : message);
+            args.addAll(ids);
+            jdbcTemplate.update(String.format(FAIL_SQL_FORMAT, placeholders), args.toArray());
+        }
+    }
+
+    private void handle(OrderOutbox event) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        switch (event.getEventType()) {
+            case ORDER_PLACED -> {
+                // 송장번호/택배사 배정 (이미 관리자가 입력했으면 유지)
+                if (jdbcTemplate.update(ASSIGN_SHIPPING_SQL, generateTrackingNumber(), randomCarrier(),
+                        "시스템 자동 생성 데이터 #" + ThreadLocalRandom.current().nextInt(10000), event.getOrderId()) > 0) {
+                    trackingAssigned.incrementAndGet();
+                }
+                jdbcTemplate.update(INSERT_HISTORY_SQL, event.getOrderId(), null, statusName(event.getStatusTo()),
+                        "주문 생성", "주문 접수", event.getActor(), now, now);
+                placedProcessed.incrementAndGet();
+            }
+            case STATUS_CHANGED -> {
+                jdbcTemplate.update(INSERT_HISTORY_SQL, event.getOrderId(), statusName(event.getStatusFrom()),
+                        statusName(event.getStatusTo()), event.getStatusTo().getDisplayName(), event.getMemo(),
+                        event.getActor(), now, now);
+                statusChangesProcessed.incrementAndGet();
+            }
+        }
+        notify(event);
+    }
+
+    /**
+     * 주문 알림 (알림 채널이 없어 로그로 남김)
+     */
+    private void notify(OrderOutbox event) {
+        log.info("주문 알림: 주문 ID={}, {} → {}", event.getOrderId(),
+                event.getStatusFrom() != null ? event.getStatusFrom().getDisplayName() : "신규",
+                event.getStatusTo() != null ? event.getStatusTo().getDisplayName() : "-");
+        notificationsSent.incrementAndGet();
+    }
+
+    /**
+     * 재시도 간격 (1초부터 두 배씩, 최대 5분)
+     */
+    private static Duration retryDelay(List<OrderOutbox> events) {
+        int attempts = events.stream().mapToInt(OrderOutbox::getAttempts).max().orElse(0);
+        return Duration.ofSeconds(Math.min(300L, 1L << Math.min(attempts, 9)));
+    }
+
+    private static String placeholders(int count) {
+        return String.join(",", Collections.nCopies(count, "?"));
+    }
+
+    private static String generateTrackingNumber() {
+        return String.format("TRACK-%d-%d", System.currentTimeMillis(), ThreadLocalRandom.current().nextInt(10000));
+    }
+
+    private static String randomCarrier() {
+        return CARRIERS[ThreadLocalRandom.current().nextInt(CARRIERS.length)];
+    }
+
+    private static Order.OrderStatus toStatus(String value) {
+        return value != null ? Order.OrderStatus.valueOf(value) : null;
+    }
+
+    private static String statusName(Order.OrderStatus status) {
+        return status != null ? status.name() : null;
+    }
+
+    /**
+     * 아웃박스 처리 통계
+     *
+     * @param oldestPendingSeconds 가장 오래 대기 중인 작업의 대기 시간 (초)
+     * @param deferredEvents 같은 주문의 앞선 작업이 남아 있어 선점을 풀고 미룬 작업 수
+     */
+    public record Stats(boolean enabled, long pending, long failed, long oldestPendingSeconds, long claimedEvents,
+                        long placedProcessed, long statusChangesProcessed, long trackingAssigned,
+                        long notificationsSent, long failures, long deferredEvents) {
+    }
+}
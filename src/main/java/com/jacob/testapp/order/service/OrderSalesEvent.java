@@ -0,0 +1,65 @@
+package com.jacob.testapp.order.service;
+
+import com.jacob.testapp.order.entity.Order;
+import com.jacob.testapp.order.entity.OrderItem;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 주문 판매량 변경 이벤트
+ * - 주문 생성 시 판매량 증가, 주문 취소 시 원래 주문 시각 기준으로 판매량 차감
+ * - 벌크 쿼리로 주문 항목이 삭제된 경우 전체 재집계 요청
+ */
+@Getter
+public class OrderSalesEvent {
+
+    private final Map<Long, Integer> quantities;
+    private final LocalDateTime orderedAt;
+    private final boolean cancelled;
+    private final boolean reset;
+
+    private OrderSalesEvent(Map<Long, Integer> quantities, LocalDateTime orderedAt, boolean cancelled, boolean reset) {
+        this.quantities = quantities;
+        this.orderedAt = orderedAt;
+        this.cancelled = cancelled;
+        this.reset = reset;
+    }
+
+    /**
+     * 주문 생성 이벤트
+     */
+    public static OrderSalesEvent placed(Order order) {
+        return new OrderSalesEvent(collectQuantities(order), orderedAt(order), false, false);
+    }
+
+    /**
+     * 주문 취소 이벤트
+     */
+    public static OrderSalesEvent cancelled(Order order) {
+        return new OrderSalesEvent(collectQuantities(order), orderedAt(order), true, false);
+    }
+
+    /**
+     * 전체 재집계 이벤트 (벌크 삭제 등)
+     */
+    public static OrderSalesEvent reset() {
+        return new OrderSalesEvent(Map.of(), LocalDateTime.now(), false, true);
+    }
+
+    private static Map<Long, Integer> collectQuantities(Order order) {
+        Map<Long, Integer> quantities = new HashMap<>();
+        for (OrderItem item : order.getItems()) {
+            if (item.getProduct() != null && item.getQuantity() != null) {
+                quantities.merge(item.getProduct().getId(), item.getQuantity(), Integer::sum);
+            }
+        }
+        return quantities;
+    }
+
+    private static LocalDateTime orderedAt(Order order) {
+        return order.getCreatedAt() != null ? order.getCreatedAt() : LocalDateTime.now();
+    }
+}
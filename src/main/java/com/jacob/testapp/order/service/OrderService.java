@@ -3,24 +3,39 @@ package com.jacob.testapp.order.service;
 import com.jacob.testapp.cart.entity.Cart;
 import com.jacob.testapp.cart.entity.CartItem;
 import com.jacob.testapp.cart.service.CartService;
+import com.jacob.testapp.common.money.Money;
 import com.jacob.testapp.order.entity.Order;
 import com.jacob.testapp.order.entity.OrderItem;
+import com.jacob.testapp.order.entity.OrderOutbox;
 import com.jacob.testapp.order.repository.OrderItemRepository;
+import com.jacob.testapp.order.repository.OrderOutboxRepository;
 import com.jacob.testapp.order.repository.OrderRepository;
 import com.jacob.testapp.product.entity.Product;
 import com.jacob.testapp.product.service.ProductService;
+import com.jacob.testapp.product.service.StockReservationService;
+import com.jacob.testapp.product.service.StockShortfall;
 import com.jacob.testapp.user.entity.User;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.interceptor.TransactionAspectSupport;
 
 import java.math.BigDecimal;
+import java.sql.Timestamp;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Random;
+import java.util.SortedMap;
+import java.util.TreeMap;
 import java.util.stream.Collectors;
 
 @Service
@@ -30,10 +45,31 @@ public class OrderService {
 
     private final OrderRepository orderRepository;
     private final OrderItemRepository orderItemRepository;
+    private final OrderOutboxRepository orderOutboxRepository;
     private final CartService cartService;
     private final ProductService productService;
+    private final StockReservationService stockReservationService;
+    private final OrderNumberGenerator orderNumberGenerator;
+    private final ApplicationEventPublisher eventPublisher;
+    private final JdbcTemplate jdbcTemplate;
     private final Random random = new Random();
 
+    private static final String CASH_PAYMENT = "현금결제";
+    private static final String ACTOR_USER = "사용자";
+    private static final String ACTOR_SYSTEM = "시스템";
+    private static final String INSERT_ORDER_SQL = "INSERT INTO orders (order_number, user_id, status, payment_method, " +
+            "email, phone_number, receiver_name, receiver_phone, receiver_zipcode, receiver_address1, receiver_address2, " +
+            "delivery_message, tracking_number, carrier, admin_memo, total_amount, subtotal_amount, shipping_amount, " +
+            "discount_amount, created_at, updated_at, version) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, 0)";
+    private static final String INSERT_ORDER_ITEM_SQL = "INSERT INTO order_items (order_id, product_id, price, quantity, " +
+            "created_at, updated_at, version) VALUES (?, ?, ?, ?, ?, ?, 0)";
+    private static final String DEDUCT_BALANCE_SQL = "UPDATE users SET cash_balance = cash_balance - ? " +
+            "WHERE id = ? AND cash_balance >= ?";
+    private static final String REFUND_BALANCE_SQL = "UPDATE users SET cash_balance = cash_balance + ? WHERE id = ?";
+    private static final String INSERT_OUTBOX_SQL = "INSERT INTO order_outbox (order_id, event_type, status_to, actor, " +
+            "attempts, next_attempt_at, failed, created_at) VALUES (?, ?, ?, ?, 0, ?, 0, ?)";
+
     // 조회 관련 메서드
     public List<Order> findAll() {
         return orderRepository.findAll();
@@ -114,22 +150,82 @@ public class OrderService {
         // 주문 생성
         Order order = createOrderFromCart(user, cart, shippingAddress, paymentMethod);
         
-        // 장바구니 아이템을 주문 아이템으로 변환
-        processCartItemsToOrderItems(order, cart);
+        // 주문 상품 재고 소진
+        consumeStock(order, cart);
         
         // 장바구니 비우기
         cartService.clearCart(user);
 
+        // 송장 배정/이력/알림은 아웃박스로 넘겨 커밋 이후 처리
+        orderOutboxRepository.save(OrderOutbox.orderPlaced(order.getId(), order.getStatus(), ACTOR_USER));
+
+        eventPublisher.publishEvent(OrderSalesEvent.placed(order));
         return orderRepository.save(order);
     }
 
+    /**
+     * 여러 사용자의 장바구니 주문을 한 트랜잭션으로 생성하고 보유 현금으로 결제 (주문 접수 파이프라인용)
+     * - 주문마다 잔액 차감(조건부 UPDATE) → 재고 차감 순으로 확인하고, 실패한 주문은 잔액을 되돌리고 거절함
+     * - 거절 사유는 다른 서비스(@Transactional 프록시)를 부르기 전에 확인함. 프록시 안에서 난 예외는 공유 트랜잭션을
+     *   롤백 전용으로 만들어 다른 주문도 커밋할 수 없으므로 거절하지 않고 그대로 던짐 (호출 측에서 한 건씩 재처리)
+     * - 통과한 주문과 주문 상품은 JDBC 배치 INSERT로 한 번에 기록함
+     * - 결과는 요청과 같은 순서
+     */
+    @Transactional
+    public List<OrderIntakeResult> placeCashOrders(List<OrderIntakeRequest> requests) {
+        OrderIntakeResult[] results = new OrderIntakeResult[requests.size()];
+        List<Order> placed = new ArrayList<>(requests.size());
+        List<Integer> placedIndexes = new ArrayList<>(requests.size());
+
+        for (int i = 0; i < requests.size(); i++) {
+            OrderIntakeRequest request = requests.get(i);
+            try {
+                placed.add(placeCashOrder(request.user(), request.shippingAddress()));
+                placedIndexes.add(i);
+            } catch (IllegalArgumentException | IllegalStateException e) {
+                if (TransactionAspectSupport.currentTransactionStatus().isRollbackOnly()) {
+                    throw e;
+                }
+                results[i] = OrderIntakeResult.rejected(e.getMessage());
+            }
+        }
+
+        if (!placed.isEmpty()) {
+            insertOrders(placed);
+            insertPlacedOutbox(placed);
+            Map<Long, Long> balances = findCashBalances(placed);
+            for (int i = 0; i < placed.size(); i++) {
+                Order order = placed.get(i);
+                eventPublisher.publishEvent(OrderSalesEvent.placed(order));
+                results[placedIndexes.get(i)] = OrderIntakeResult.placed(order.getId(), order.getOrderNumber(),
+                        order.getTotalAmount(), balances.get(order.getUser().getId()), order.getCreatedAt());
+            }
+        }
+        return List.of(results);
+    }
+
+    /**
+     * 결제 화면 진입 시 장바구니 수량만큼 재고 예약 (부족하면 예외)
+     */
+    public StockReservationService.Reservation reserveCheckout(User user) {
+        Cart cart = validateAndGetCart(user);
+        StockReservationService.ReservationResult result = stockReservationService.reserve(user.getId(), quantitiesOf(cart));
+        if (!result.isReserved()) {
+            throw new IllegalStateException(describeShortfalls(result.shortfalls(), cart));
+        }
+        return result.reservation();
+    }
+
     /**
      * 주문 상태 변경
      */
     @Transactional
     public Order updateOrderStatus(Long orderId, Order.OrderStatus status) {
         Order order = getOrderOrThrow(orderId);
-        order.setStatus(status);
+        if (status == Order.OrderStatus.CANCELLED && order.getStatus() != Order.OrderStatus.CANCELLED) {
+            eventPublisher.publishEvent(OrderSalesEvent.cancelled(order));
+        }
+        changeStatus(order, status, ACTOR_SYSTEM, null);
         return orderRepository.save(order);
     }
 
@@ -147,8 +243,13 @@ public class OrderService {
         
         // 재고 복원 및 장바구니에 상품 복원
         restoreOrderItemsToCartAndInventory(order);
+
+        // 판매량 순위 차감 (이미 취소된 주문은 중복 차감하지 않음)
+        if (order.getStatus() != Order.OrderStatus.CANCELLED) {
+            eventPublisher.publishEvent(OrderSalesEvent.cancelled(order));
+        }
         
-        order.setStatus(Order.OrderStatus.CANCELLED);
+        changeStatus(order, Order.OrderStatus.CANCELLED, ACTOR_USER, "사용자 주문 취소");
         return orderRepository.save(order);
     }
 
@@ -166,7 +267,7 @@ public class OrderService {
     @Transactional
     public Order markOrderAsDeleted(Long orderId) {
         Order order = getOrderOrThrow(orderId);
-        order.setStatus(Order.OrderStatus.DELETED);
+        changeStatus(order, Order.OrderStatus.DELETED, ACTOR_USER, "사용자 주문 내역 삭제");
         return orderRepository.save(order);
     }
 
@@ -180,7 +281,7 @@ public class OrderService {
         
         // 실제로는 외부 결제 API 연동 로직이 들어갈 자리
         
-        order.setStatus(Order.OrderStatus.PAID);
+        changeStatus(order, Order.OrderStatus.PAID, ACTOR_SYSTEM, "결제 승인: " + transactionId);
         return orderRepository.save(order);
     }
 
@@ -196,11 +297,11 @@ public class OrderService {
         validateSufficientBalance(user, order);
         
         // 현금 잔액 차감
-        deductUserBalance(user, order.getTotalAmount());
+        deductUserBalance(user, order.getTotalMinor());
         
         // 주문 상태 변경
-        order.setStatus(Order.OrderStatus.PAID);
-        order.setPaymentMethod("현금결제");
+        changeStatus(order, Order.OrderStatus.PAID, ACTOR_USER, CASH_PAYMENT);
+        order.setPaymentMethod(CASH_PAYMENT);
         
         return orderRepository.save(order);
     }
@@ -210,7 +311,7 @@ public class OrderService {
      * 장바구니 조회 및 검증
      */
     private Cart validateAndGetCart(User user) {
-        Cart cart = cartService.findByUserWithItems(user.getId())
+        Cart cart = cartService.findPersistedCartWithItems(user.getId())
                 .orElseThrow(() -> new IllegalStateException("장바구니가 비어 있습니다"));
 
         if (cart.getCartItems() == null || cart.getCartItems().isEmpty()) {
@@ -224,12 +325,19 @@ public class OrderService {
      * 장바구니 정보로 주문 엔티티 생성
      */
     private Order createOrderFromCart(User user, Cart cart, String shippingAddress, String paymentMethod) {
+        return orderRepository.save(buildOrderFromCart(user, cart, shippingAddress, paymentMethod));
+    }
+
+    /**
+     * 장바구니 정보로 저장하지 않은 주문 엔티티 구성
+     * - 주문 금액은 장바구니 합계가 아니라 주문 상품(현재 가격)으로 계산하고, 결제/환불도 이 금액을 사용함
+     */
+    private Order buildOrderFromCart(User user, Cart cart, String shippingAddress, String paymentMethod) {
         // 주문 기본 정보 설정
         Order order = new Order();
         order.setUser(user);
-        order.setOrderNumber(generateOrderNumber());
-        order.setTotalAmount(cart.getTotalPrice().doubleValue());
-        order.setSubtotalAmount(cart.getTotalPrice().doubleValue());
+        order.setOrderNumber(orderNumberGenerator.nextOrderNumber());
+        order.setSubtotalAmount(0.0);
         order.setShippingAmount(0.0);
         order.setDiscountAmount(0.0);
         order.setStatus(Order.OrderStatus.PENDING);
@@ -237,8 +345,136 @@ public class OrderService {
         
         // 배송 정보 설정
         setOrderShippingInfo(order, user, shippingAddress);
+
+        // 주문 아이템 생성 후 금액 계산
+        for (CartItem cartItem : cart.getCartItems()) {
+            createOrderItem(order, cartItem.getProduct(), cartItem.getQuantity());
+        }
+        order.recalculateTotalAmount();
         
-        return orderRepository.save(order);
+        return order;
+    }
+
+    /**
+     * 주문 접수 파이프라인의 주문 한 건 처리 (주문 엔티티는 저장하지 않고 반환)
+     * - 검증에 실패하면 이 주문이 바꾼 잔액을 되돌린 뒤 예외를 던지므로 같은 트랜잭션의 다른 주문에 영향이 없음
+     */
+    private Order placeCashOrder(User user, String shippingAddress) {
+        Cart cart = validateAndGetCart(user);
+        validateQuantities(cart);
+        Order order = buildOrderFromCart(user, cart, shippingAddress, CASH_PAYMENT);
+        // 환불(cancelOrder)과 같은 주문 총액 기준으로 차감
+        long amountWon = Money.toWon(order.getTotalMinor());
+
+        // 잔액 차감 (부족하면 아무것도 바꾸지 않음)
+        if (jdbcTemplate.update(DEDUCT_BALANCE_SQL, amountWon, user.getId(), amountWon) == 0) {
+            throw new IllegalStateException("현금 잔액이 부족합니다");
+        }
+
+        try {
+            consumeStock(order, cart);
+        } catch (IllegalArgumentException | IllegalStateException e) {
+            jdbcTemplate.update(REFUND_BALANCE_SQL, amountWon, user.getId());
+            throw e;
+        }
+
+        order.setStatus(Order.OrderStatus.PAID);
+        LocalDateTime now = LocalDateTime.now();
+        order.setCreatedAt(now);
+        order.setUpdatedAt(now);
+        cartService.clearCart(user);
+        return order;
+    }
+
+    /**
+     * 주문과 주문 상품 배치 INSERT 후 주문 ID 설정
+     */
+    private void insertOrders(List<Order> orders) {
+        jdbcTemplate.batchUpdate(INSERT_ORDER_SQL, orders, orders.size(), (ps, order) -> {
+            Timestamp createdAt = Timestamp.valueOf(order.getCreatedAt());
+            ps.setString(1, order.getOrderNumber());
+            ps.setLong(2, order.getUser().getId());
+            ps.setString(3, order.getStatus().name());
+            ps.setString(4, order.getPaymentMethod());
+            ps.setString(5, order.getEmail());
+            ps.setString(6, order.getPhoneNumber());
+            ps.setString(7, order.getReceiverName());
+            ps.setString(8, order.getReceiverPhone());
+            ps.setString(9, order.getReceiverZipcode());
+            ps.setString(10, order.getReceiverAddress1());
+            ps.setString(11, order.getReceiverAddress2());
+            ps.setString(12, order.getDeliveryMessage());
+            ps.setString(13, order.getTrackingNumber());
+            ps.setString(14, order.getCarrier());
+            ps.setString(15, order.getAdminMemo());
+            ps.setDouble(16, order.getTotalAmount());
+            ps.setDouble(17, order.getSubtotalAmount());
+            ps.setDouble(18, order.getShippingAmount());
+            ps.setDouble(19, order.getDiscountAmount());
+            ps.setTimestamp(20, createdAt);
+            ps.setTimestamp(21, createdAt);
+        });
+
+        // 생성된 ID는 주문번호로 한 번에 조회
+        Map<String, Order> byNumber = new HashMap<>();
+        orders.forEach(order -> byNumber.put(order.getOrderNumber(), order));
+        String placeholders = String.join(",", Collections.nCopies(orders.size(), "?"));
+        jdbcTemplate.query("SELECT id, order_number FROM orders WHERE order_number IN (" + placeholders + ")",
+                rs -> {
+                    byNumber.get(rs.getString(2)).setId(rs.getLong(1));
+                }, byNumber.keySet().toArray());
+
+        List<OrderItem> items = new ArrayList<>();
+        orders.forEach(order -> items.addAll(order.getItems()));
+        jdbcTemplate.batchUpdate(INSERT_ORDER_ITEM_SQL, items, items.size(), (ps, item) -> {
+            Timestamp createdAt = Timestamp.valueOf(item.getOrder().getCreatedAt());
+            ps.setLong(1, item.getOrder().getId());
+            ps.setLong(2, item.getProduct().getId());
+            ps.setDouble(3, item.getPrice());
+            ps.setInt(4, item.getQuantity());
+            ps.setTimestamp(5, createdAt);
+            ps.setTimestamp(6, createdAt);
+        });
+    }
+
+    /**
+     * 접수된 주문의 아웃박스 작업 배치 INSERT
+     */
+    private void insertPlacedOutbox(List<Order> orders) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(INSERT_OUTBOX_SQL, orders, orders.size(), (ps, order) -> {
+            ps.setLong(1, order.getId());
+            ps.setString(2, OrderOutbox.EventType.ORDER_PLACED.name());
+            ps.setString(3, order.getStatus().name());
+            ps.setString(4, ACTOR_USER);
+            ps.setTimestamp(5, now);
+            ps.setTimestamp(6, now);
+        });
+    }
+
+    /**
+     * 주문 상태 변경 (이력/알림은 아웃박스로 넘겨 커밋 이후 처리)
+     */
+    private void changeStatus(Order order, Order.OrderStatus newStatus, String actor, String memo) {
+        Order.OrderStatus oldStatus = order.getStatus();
+        order.setStatus(newStatus);
+        if (oldStatus != newStatus) {
+            orderOutboxRepository.save(OrderOutbox.statusChanged(order.getId(), oldStatus, newStatus, actor, memo));
+        }
+    }
+
+    /**
+     * 주문자별 결제 후 현금 잔액
+     */
+    private Map<Long, Long> findCashBalances(List<Order> orders) {
+        List<Long> userIds = orders.stream().map(order -> order.getUser().getId()).distinct().toList();
+        String placeholders = String.join(",", Collections.nCopies(userIds.size(), "?"));
+        Map<Long, Long> balances = new HashMap<>();
+        jdbcTemplate.query("SELECT id, cash_balance FROM users WHERE id IN (" + placeholders + ")",
+                rs -> {
+                    balances.put(rs.getLong(1), rs.getLong(2));
+                }, userIds.toArray());
+        return balances;
     }
     
     /**
@@ -261,28 +497,64 @@ public class OrderService {
         order.setEmail(user.getEmail() != null ? user.getEmail() : randomEmail);
         order.setDeliveryMessage(generateRandomDeliveryMessage());
         
-        // 배송 추적 정보
-        order.setTrackingNumber(generateRandomTrackingNumber());
-        order.setCarrier(generateRandomCarrier());
-        order.setAdminMemo("시스템 자동 생성 데이터 #" + (int)(Math.random() * 10000));
+        // 송장번호/택배사/관리자 메모는 커밋 이후 OrderOutboxWorker가 배정
     }
     
     /**
-     * 장바구니 상품을 주문 상품으로 변환
+     * 주문 상품 재고 소진
+     * - 결제 화면에서 잡은 예약을 소진하고, 재고는 주문 전체를 상품 ID 순으로 한 번에 차감함
+     * - 부족한 상품이 있으면 주문을 중단함
+     */
+    private void consumeStock(Order order, Cart cart) {
+        SortedMap<Long, Integer> quantities = quantitiesOf(cart);
+
+        // 예약 소진 (다른 사용자가 예약한 재고는 사용할 수 없음)
+        List<StockShortfall> shortfalls = stockReservationService.consume(order.getUser().getId(), quantities);
+        if (shortfalls.isEmpty()) {
+            // 재고 일괄 차감
+            shortfalls = productService.decreaseStocks(quantities);
+        }
+        if (!shortfalls.isEmpty()) {
+            throw new IllegalStateException(describeShortfalls(shortfalls, cart));
+        }
+        // 재고 차감까지 성공한 경우에만 커밋 이후 예약 해제
+        stockReservationService.releaseAfterCommit(order.getUser().getId());
+    }
+
+    /**
+     * 주문 수량 확인 (재고 차감 전에 확인해 ProductService 안에서 거절되지 않도록 함)
      */
-    private void processCartItemsToOrderItems(Order order, Cart cart) {
+    private void validateQuantities(Cart cart) {
         for (CartItem cartItem : cart.getCartItems()) {
-            Product product = cartItem.getProduct();
-            
-            // 재고 확인
-            validateProductStock(product, cartItem.getQuantity());
-            
-            // 재고 감소
-            productService.decreaseStock(product.getId(), cartItem.getQuantity());
-            
-            // 주문 아이템 생성
-            createOrderItem(order, product, cartItem.getQuantity());
+            if (cartItem.getQuantity() <= 0) {
+                throw new IllegalArgumentException("주문 수량은 1 이상이어야 합니다: " + cartItem.getProduct().getName());
+            }
+        }
+    }
+
+    /**
+     * 장바구니 상품별 수량 (상품 ID 순)
+     */
+    private SortedMap<Long, Integer> quantitiesOf(Cart cart) {
+        SortedMap<Long, Integer> quantities = new TreeMap<>();
+        for (CartItem cartItem : cart.getCartItems()) {
+            quantities.merge(cartItem.getProduct().getId(), cartItem.getQuantity(), Integer::sum);
+        }
+        return quantities;
+    }
+
+    /**
+     * 재고 부족 메시지 생성
+     */
+    private String describeShortfalls(List<StockShortfall> shortfalls, Cart cart) {
+        Map<Long, String> productNames = new HashMap<>();
+        for (CartItem cartItem : cart.getCartItems()) {
+            productNames.put(cartItem.getProduct().getId(), cartItem.getProduct().getName());
         }
+        return "상품 재고 부족: " + shortfalls.stream()
+                .map(shortfall -> productNames.get(shortfall.productId())
+                        + "(요청 " + shortfall.requested() + ", 재고 " + shortfall.available() + ")")
+                .collect(Collectors.joining(", "));
     }
     
     /**
@@ -311,9 +583,9 @@ public class OrderService {
      * 현금 결제 환불 처리
      */
     private void refundCashPaymentIfNeeded(Order order) {
-        if ("현금결제".equals(order.getPaymentMethod()) && order.getUser() != null) {
+        if (CASH_PAYMENT.equals(order.getPaymentMethod()) && order.getUser() != null) {
             User user = order.getUser();
-            user.setCashBalance(user.getCashBalance() + Math.round(order.getTotalAmount()));
+            user.setCashBalance(user.getCashBalance() + Money.toWon(order.getTotalMinor()));
         }
     }
     
@@ -366,38 +638,23 @@ public class OrderService {
         }
     }
     
-    /**
-     * 상품 재고 확인
-     */
-    private void validateProductStock(Product product, int quantity) {
-        if (product.getStock() < quantity) {
-            throw new IllegalStateException("상품 재고 부족: " + product.getName());
-        }
-    }
-    
     /**
      * 사용자 잔액 충분한지 확인
      */
     private void validateSufficientBalance(User user, Order order) {
-        if (user.getCashBalance() < order.getTotalAmount()) {
+        if (Money.wonToMinor(user.getCashBalance()) < order.getTotalMinor()) {
             throw new IllegalStateException("현금 잔액이 부족합니다");
         }
     }
     
     /**
-     * 사용자 잔액 차감
+     * 사용자 잔액 차감 (잔액은 원 단위, 1원 미만은 환불과 같은 방식으로 반올림)
      */
-    private void deductUserBalance(User user, double amount) {
-        user.setCashBalance(user.getCashBalance() - Math.round(amount));
+    private void deductUserBalance(User user, long amountMinor) {
+        user.setCashBalance(user.getCashBalance() - Money.toWon(amountMinor));
     }
 
     // 헬퍼 메서드 - 랜덤 데이터 생성
-    /**
-     * 주문 번호 생성
-     */
-    private String generateOrderNumber() {
-        return "ORD-" + System.currentTimeMillis() + "-" + (int)(Math.random() * 1000);
-    }
     
     /**
      * 랜덤 전화번호 생성 (010-XXXX-XXXX 형식)
@@ -440,21 +697,6 @@ public class OrderService {
         return baseUsername.toLowerCase() + "_" + (random.nextInt(9000) + 1000) + "@" + randomDomain;
     }
 
-    /**
-     * 랜덤 택배사 생성
-     */
-    private String generateRandomCarrier() {
-        String[] carriers = {"대한통운", "로젠택배", "한진택배", "롯데택배", "우체국택배", "CJ대한통운", "KGB택배", "합동택배", "일양로지스"};
-        return carriers[random.nextInt(carriers.length)];
-    }
-
-    /**
-     * 랜덤 송장번호 생성
-     */
-    private String generateRandomTrackingNumber() {
-        return String.format("TRACK-%d-%d", System.currentTimeMillis(), random.nextInt(10000));
-    }
-
     /**
      * 랜덤 배송 메시지 생성
      */
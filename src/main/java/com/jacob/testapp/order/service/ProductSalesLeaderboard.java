@@ -0,0 +1,236 @@
+package com.jacob.testapp.order.service;
+
+import com.jacob.testapp.order.entity.Order;
+import com.jacob.testapp.order.repository.OrderItemRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 상품 판매량 순위 (Top-K)
+ * - 전체 기간 누적 판매량과 1시간 단위 버킷(최근 7일)을 메모리에 유지함
+ * - 주문 생성/취소 이벤트로 갱신되고, 애플리케이션 시작 시 DB 기준으로 다시 계산함
+ * - 순위 조회는 DB에 접근하지 않으며, 계산된 순위를 짧게 재사용함
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProductSalesLeaderboard {
+
+    private static final int BUCKET_COUNT = 24 * 7;
+    private static final int MAX_LIMIT = 100;
+    private static final long SNAPSHOT_MIN_AGE_NANOS = 1_000_000_000L;
+    private static final long SNAPSHOT_MAX_AGE_NANOS = 60_000_000_000L;
+    private static final Comparator<ProductSales> BY_QUANTITY =
+            Comparator.comparingLong(ProductSales::quantity).thenComparing(ProductSales::productId, Comparator.reverseOrder());
+
+    /**
+     * 순위 기간
+     */
+    public enum Window {
+        ALL_TIME(0),
+        LAST_24_HOURS(24),
+        LAST_7_DAYS(24 * 7);
+
+        private final int hours;
+
+        Window(int hours) {
+            this.hours = hours;
+        }
+    }
+
+    /**
+     * 상품별 판매량
+     */
+    public record ProductSales(Long productId, long quantity) {
+    }
+
+    private final OrderItemRepository orderItemRepository;
+
+    private volatile Map<Long, LongAdder> allTime = new ConcurrentHashMap<>();
+    private volatile AtomicReferenceArray<HourBucket> buckets = new AtomicReferenceArray<>(BUCKET_COUNT);
+    private final Map<Window, Snapshot> snapshots = new ConcurrentHashMap<>();
+    private final AtomicLong modifications = new AtomicLong();
+
+    /**
+     * 애플리케이션 시작 시 판매량 집계
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        rebuild();
+    }
+
+    /**
+     * DB 기준으로 판매량 전체 재집계 (취소 주문 제외)
+     */
+    public synchronized void rebuild() {
+        long startTime = System.currentTimeMillis();
+        Map<Long, LongAdder> newAllTime = new ConcurrentHashMap<>();
+        AtomicReferenceArray<HourBucket> newBuckets = new AtomicReferenceArray<>(BUCKET_COUNT);
+
+        for (Object[] row : orderItemRepository.findSalesTotalsExcludingStatus(Order.OrderStatus.CANCELLED)) {
+            newAllTime.computeIfAbsent((Long) row[0], key -> new LongAdder()).add(((Number) row[1]).longValue());
+        }
+
+        LocalDateTime since = LocalDateTime.now().minusHours(BUCKET_COUNT);
+        List<Object[]> recentRows = orderItemRepository.findSalesSinceExcludingStatus(since, Order.OrderStatus.CANCELLED);
+        for (Object[] row : recentRows) {
+            addToBucket(newBuckets, hourOf((LocalDateTime) row[2]), (Long) row[0], ((Number) row[1]).longValue());
+        }
+
+        this.allTime = newAllTime;
+        this.buckets = newBuckets;
+        modifications.incrementAndGet();
+        snapshots.clear();
+        log.info("상품 판매량 순위 집계 완료: 상품 {}개, 최근 주문 항목 {}개, 소요 시간: {}ms",
+                newAllTime.size(), recentRows.size(), System.currentTimeMillis() - startTime);
+    }
+
+    /**
+     * 주문 판매량 이벤트 반영 (커밋 이후)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onOrderSales(OrderSalesEvent event) {
+        if (event.isReset()) {
+            rebuild();
+            return;
+        }
+        long sign = event.isCancelled() ? -1 : 1;
+        long hour = hourOf(event.getOrderedAt());
+        Map<Long, LongAdder> currentAllTime = this.allTime;
+        AtomicReferenceArray<HourBucket> currentBuckets = this.buckets;
+
+        event.getQuantities().forEach((productId, quantity) -> {
+            long delta = sign * quantity;
+            currentAllTime.computeIfAbsent(productId, key -> new LongAdder()).add(delta);
+            addToBucket(currentBuckets, hour, productId, delta);
+        });
+        modifications.incrementAndGet();
+    }
+
+    /**
+     * 판매량 상위 상품 조회
+     *
+     * @param window 집계 기간
+     * @param limit 조회 개수 (최대 100)
+     * @return 판매량 내림차순 목록 (판매량이 같으면 상품 ID 순)
+     */
+    public List<ProductSales> getTopProducts(Window window, int limit) {
+        if (limit <= 0) {
+            return List.of();
+        }
+        long currentModification = modifications.get();
+        Snapshot snapshot = snapshots.get(window);
+        if (snapshot == null || !snapshot.isFresh(currentModification)) {
+            snapshot = new Snapshot(currentModification, computeTop(window));
+            snapshots.put(window, snapshot);
+        }
+        List<ProductSales> ranking = snapshot.ranking;
+        return ranking.subList(0, Math.min(limit, ranking.size()));
+    }
+
+    /**
+     * 기간별 판매량을 합산해 상위 MAX_LIMIT개 계산
+     */
+    private List<ProductSales> computeTop(Window window) {
+        Map<Long, Long> totals = new HashMap<>();
+        if (window == Window.ALL_TIME) {
+            allTime.forEach((productId, quantity) -> totals.put(productId, quantity.sum()));
+        } else {
+            long currentHour = hourOf(LocalDateTime.now());
+            AtomicReferenceArray<HourBucket> currentBuckets = this.buckets;
+            for (int i = 0; i < BUCKET_COUNT; i++) {
+                HourBucket bucket = currentBuckets.get(i);
+                if (bucket != null && bucket.hour > currentHour - window.hours && bucket.hour <= currentHour) {
+                    bucket.quantities.forEach((productId, quantity) ->
+                            totals.merge(productId, quantity.sum(), Long::sum));
+                }
+            }
+        }
+
+        PriorityQueue<ProductSales> heap = new PriorityQueue<>(MAX_LIMIT + 1, BY_QUANTITY);
+        totals.forEach((productId, quantity) -> {
+            if (quantity <= 0) {
+                return;
+            }
+            heap.offer(new ProductSales(productId, quantity));
+            if (heap.size() > MAX_LIMIT) {
+                heap.poll();
+            }
+        });
+
+        List<ProductSales> ranking = new ArrayList<>(heap);
+        ranking.sort(BY_QUANTITY.reversed());
+        return List.copyOf(ranking);
+    }
+
+    /**
+     * 시간 버킷에 판매량 반영 (7일보다 오래된 주문은 기간별 순위에서 제외)
+     */
+    private static void addToBucket(AtomicReferenceArray<HourBucket> target, long hour, Long productId, long delta) {
+        int index = (int) Math.floorMod(hour, (long) BUCKET_COUNT);
+        while (true) {
+            HourBucket bucket = target.get(index);
+            if (bucket != null && bucket.hour == hour) {
+                bucket.quantities.computeIfAbsent(productId, key -> new LongAdder()).add(delta);
+                return;
+            }
+            if (bucket != null && bucket.hour > hour) {
+                return;
+            }
+            target.compareAndSet(index, bucket, new HourBucket(hour));
+        }
+    }
+
+    private static long hourOf(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toEpochSecond() / 3600;
+    }
+
+    /**
+     * 1시간 단위 판매량 버킷
+     */
+    private static final class HourBucket {
+        private final long hour;
+        private final Map<Long, LongAdder> quantities = new ConcurrentHashMap<>();
+
+        private HourBucket(long hour) {
+            this.hour = hour;
+        }
+    }
+
+    /**
+     * 계산된 순위 (변경이 있어도 1초간, 변경이 없으면 1분간 재사용)
+     */
+    private static final class Snapshot {
+        private final long modification;
+        private final long computedAt = System.nanoTime();
+        private final List<ProductSales> ranking;
+
+        private Snapshot(long modification, List<ProductSales> ranking) {
+            this.modification = modification;
+            this.ranking = ranking;
+        }
+
+        private boolean isFresh(long currentModification) {
+            long age = System.nanoTime() - computedAt;
+            return age < SNAPSHOT_MIN_AGE_NANOS
+                    || (modification == currentModification && age < SNAPSHOT_MAX_AGE_NANOS);
+        }
+    }
+}
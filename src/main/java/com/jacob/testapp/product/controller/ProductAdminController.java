@@ -1,16 +1,24 @@
 package com.jacob.testapp.product.controller;
 
+import com.jacob.testapp.order.service.ProductSalesLeaderboard;
+import com.jacob.testapp.product.entity.InventoryMovement;
 import com.jacob.testapp.product.entity.Product;
+import com.jacob.testapp.product.service.BulkStockUpdater;
+import com.jacob.testapp.product.service.InventoryMovementLog;
+import com.jacob.testapp.product.service.ProductCache;
 import com.jacob.testapp.product.service.ProductManagementService;
+import com.jacob.testapp.product.service.ProductStockShardService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 @RestController
@@ -20,6 +28,11 @@ import java.util.Map;
 public class ProductAdminController {
 
     private final ProductManagementService productManagementService;
+    private final ProductCache productCache;
+    private final ProductSalesLeaderboard productSalesLeaderboard;
+    private final ProductStockShardService productStockShardService;
+    private final InventoryMovementLog inventoryMovementLog;
+    private final BulkStockUpdater bulkStockUpdater;
 
     /**
      * 관리자용 상품 검색 API - 다양한 필터링 조건 지원
@@ -71,4 +84,125 @@ public class ProductAdminController {
         
         return ResponseEntity.ok(statistics);
     }
-} 
\ No newline at end of file
+
+    /**
+     * 상품 캐시 통계 API (적중/미스/제거 수)
+     *
+     * @return 상품 near cache 통계 정보
+     */
+    @GetMapping("/cache/statistics")
+    public ResponseEntity<Map<String, Object>> getCacheStatistics() {
+        return ResponseEntity.ok(productCache.getStatistics());
+    }
+
+    /**
+     * 판매량 상위 상품 API (메모리 집계 기준)
+     *
+     * @param window 집계 기간 (ALL_TIME, LAST_24_HOURS, LAST_7_DAYS)
+     * @param limit 조회 개수 (최대 100)
+     * @return 판매량 내림차순 상품 ID 및 판매 수량 목록
+     */
+    @GetMapping("/top-selling")
+    public ResponseEntity<List<ProductSalesLeaderboard.ProductSales>> getTopSellingProducts(
+            @RequestParam(defaultValue = "ALL_TIME") ProductSalesLeaderboard.Window window,
+            @RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(productSalesLeaderboard.getTopProducts(window, limit));
+    }
+
+    /**
+     * 상품 재고 샤드 분할 API (주문이 몰리는 상품용)
+     *
+     * @param id 상품 ID
+     * @param shards 샤드 수 (생략 시 설정된 기본값)
+     * @return 처리 결과
+     */
+    @PostMapping("/{id}/stock-shards")
+    public ResponseEntity<Map<String, Object>> enableStockShards(
+            @PathVariable Long id,
+            @RequestParam(required = false) Integer shards) {
+        productStockShardService.enableSharding(id, shards);
+        Map<String, Object> response = new HashMap<>();
+        response.put("success", true);
+        response.put("productId", id);
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * 상품 재고 샤드 해제 API (샤드 합계를 상품 재고로 되돌림)
+     *
+     * @param id 상품 ID
+     * @return 처리 결과
+     */
+    @DeleteMapping("/{id}/stock-shards")
+    public ResponseEntity<Map<String, Object>> disableStockShards(@PathVariable Long id) {
+        productStockShardService.disableSharding(id);
+        Map<String, Object> response = new HashMap<>();
+        response.put("success", true);
+        response.put("productId", id);
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * 재고 부족 상품 API (메모리 집계 기준, 재고 오름차순)
+     *
+     * @return 재고 부족 상품 ID 및 재고 목록
+     */
+    @GetMapping("/low-stock")
+    public ResponseEntity<List<InventoryMovementLog.StockLevel>> getLowStockProducts() {
+        return ResponseEntity.ok(inventoryMovementLog.getLowStockProducts());
+    }
+
+    /**
+     * 상품 재고 이력 API (최신순)
+     *
+     * @param id 상품 ID
+     * @param pageable 페이징 정보
+     * @return 재고 이동 이력
+     */
+    @GetMapping("/{id}/stock-history")
+    public ResponseEntity<Page<InventoryMovement>> getStockHistory(
+            @PathVariable Long id,
+            @PageableDefault(size = 50) Pageable pageable) {
+        return ResponseEntity.ok(inventoryMovementLog.getHistory(id, pageable));
+    }
+
+    /**
+     * 카테고리 재고 일괄 변경 작업 시작 API (백그라운드 실행)
+     *
+     * @param category 상품 카테고리
+     * @param stock 변경할 재고
+     * @return 작업 정보 (진행 상황은 작업 ID로 조회)
+     */
+    @PostMapping("/bulk-stock")
+    public ResponseEntity<BulkStockUpdater.Job> startCategoryStockUpdate(
+            @RequestParam Product.Category category,
+            @RequestParam int stock) {
+        if (stock < 0) {
+            throw new IllegalArgumentException("재고 수량은 0 이상이어야 합니다.");
+        }
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(bulkStockUpdater.submitCategoryStock(category, stock));
+    }
+
+    /**
+     * 상품별 재고 일괄 변경 작업 시작 API (백그라운드 실행)
+     *
+     * @param stocks 상품 ID → 재고
+     * @return 작업 정보 (진행 상황은 작업 ID로 조회)
+     */
+    @PostMapping("/bulk-stock/values")
+    public ResponseEntity<BulkStockUpdater.Job> startProductStockUpdate(@RequestBody Map<Long, Integer> stocks) {
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(bulkStockUpdater.submitProductStocks(stocks));
+    }
+
+    /**
+     * 재고 일괄 변경 작업 진행 상황 API
+     *
+     * @param jobId 작업 ID
+     * @return 작업 정보 (처리 건수/전체 건수/상태)
+     */
+    @GetMapping("/bulk-stock/{jobId}")
+    public ResponseEntity<BulkStockUpdater.Job> getStockUpdateJob(@PathVariable String jobId) {
+        BulkStockUpdater.Job job = bulkStockUpdater.getJob(jobId);
+        return job != null ? ResponseEntity.ok(job) : ResponseEntity.notFound().build();
+    }
+}
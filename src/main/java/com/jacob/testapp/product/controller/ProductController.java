@@ -2,7 +2,11 @@ package com.jacob.testapp.product.controller;
 
 import com.jacob.testapp.cart.entity.Cart;
 import com.jacob.testapp.cart.service.CartService;
+import com.jacob.testapp.cart.service.CartSummary;
 import com.jacob.testapp.product.entity.Product;
+import com.jacob.testapp.product.repository.ProductSummary;
+import com.jacob.testapp.product.service.ProductCursorSlice;
+import com.jacob.testapp.product.service.ProductFacetCounter;
 import com.jacob.testapp.product.service.ProductService;
 import com.jacob.testapp.user.entity.User;
 import com.jacob.testapp.user.service.UserService;
@@ -25,12 +29,15 @@ import java.util.stream.Collectors;
 public class ProductController {
 
     private final ProductService productService;
+    private final ProductFacetCounter productFacetCounter;
     private final UserService userService;
     private final CartService cartService;
 
     @Autowired
-    public ProductController(ProductService productService, UserService userService, CartService cartService) {
+    public ProductController(ProductService productService, ProductFacetCounter productFacetCounter,
+                             UserService userService, CartService cartService) {
         this.productService = productService;
+        this.productFacetCounter = productFacetCounter;
         this.userService = userService;
         this.cartService = cartService;
     }
@@ -41,14 +48,25 @@ public class ProductController {
             @RequestParam(defaultValue = "12") int size,
             @RequestParam(required = false) String name,
             @RequestParam(required = false) Product.Category category,
+            @RequestParam(required = false) String cursor,
             Model model,
             Principal principal) {
         
-        // 페이징 객체 생성 (상품명으로 정렬)
-        Pageable pageable = PageRequest.of(page, size, Sort.by("name").ascending());
+        // 커서 모드 (cursor 파라미터가 있으면 OFFSET 대신 상품명/ID 기준 seek, 이름 검색은 인덱스를 사용하므로 제외)
+        boolean cursorMode = cursor != null && (name == null || name.isEmpty());
         
-        // 상품 검색 (이름 또는 카테고리 기준)
-        Page<Product> products = findProducts(name, category, pageable);
+        if (cursorMode) {
+            ProductCursorSlice products = productService.findProductsByCursor(cursor, category, size);
+            model.addAttribute("products", products);
+            model.addAttribute("nextCursor", products.getNextCursor());
+        } else {
+            // 페이징 객체 생성 (상품명으로 정렬)
+            Pageable pageable = PageRequest.of(page, size, Sort.by("name").ascending());
+            
+            // 상품 검색 (이름 또는 카테고리 기준, 목록 표시 컬럼만 조회)
+            Page<ProductSummary> products = productService.findProductSummaries(name, category, pageable);
+            model.addAttribute("products", products);
+        }
         
         // 카테고리 목록 가져오기
         List<Product.Category> categories = List.of(Product.Category.values());
@@ -57,11 +75,12 @@ public class ProductController {
         addCartInfoToModel(model, principal);
         
         // 모델에 데이터 추가
-        model.addAttribute("products", products);
+        model.addAttribute("cursorMode", cursorMode);
         model.addAttribute("currentPage", page);
         model.addAttribute("searchName", name);
         model.addAttribute("selectedCategory", category);
         model.addAttribute("categories", categories);
+        model.addAttribute("categoryCounts", productFacetCounter.getCategoryCounts());
         
         return "product/list";
     }
@@ -94,21 +113,6 @@ public class ProductController {
                 .orElseThrow(() -> new IllegalArgumentException("Invalid product ID: " + id));
     }
     
-    /**
-     * 주어진 조건에 맞는 상품 목록을 검색합니다.
-     */
-    private Page<Product> findProducts(String name, Product.Category category, Pageable pageable) {
-        if (name != null && !name.isEmpty() && category != null) {
-            return productService.findByNameContainingAndCategory(name, category, pageable);
-        } else if (name != null && !name.isEmpty()) {
-            return productService.findByNameContaining(name, pageable);
-        } else if (category != null) {
-            return productService.findByCategory(category, pageable);
-        } else {
-            return productService.findAll(pageable);
-        }
-    }
-    
     /**
      * 관련 상품 목록을 조회합니다.
      */
@@ -132,19 +136,13 @@ public class ProductController {
             User user = userService.findByUsername(principal.getName())
                     .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다"));
             
-            cartService.findByUserWithItems(user.getId())
-                    .ifPresentOrElse(
-                            cart -> {
-                                model.addAttribute("cartItemCount", cart.getTotalQuantity());
-                                
-                                // 현금 잔액 검증
-                                if (user.getCashBalance() != null && 
-                                    cart.getTotalPrice().compareTo(java.math.BigDecimal.valueOf(user.getCashBalance())) > 0) {
-                                    model.addAttribute("balanceWarning", true);
-                                }
-                            },
-                            () -> model.addAttribute("cartItemCount", 0)
-                    );
+            CartSummary cartSummary = cartService.getCartSummary(user.getId());
+            model.addAttribute("cartItemCount", cartSummary.itemCount());
+            
+            // 현금 잔액 검증
+            if (cartSummary.exceeds(user.getCashBalance())) {
+                model.addAttribute("balanceWarning", true);
+            }
         } catch (Exception e) {
             model.addAttribute("cartItemCount", 0);
         }
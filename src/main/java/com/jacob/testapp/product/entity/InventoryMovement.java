@@ -0,0 +1,51 @@
+package com.jacob.testapp.product.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 재고 이동 이력 (추가만 하는 로그)
+ * - 재고 차감/증가/관리자 수정/일괄 변경이 커밋될 때마다 한 행씩 기록됨
+ */
+@Entity
+@Table(name = "inventory_movements", indexes = {
+        @Index(name = "idx_inventory_movements_product", columnList = "product_id, id")
+})
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class InventoryMovement {
+
+    public enum Type {
+        DECREASE,   // 주문 등으로 인한 재고 차감
+        INCREASE,   // 주문 취소/재입고 등으로 인한 재고 증가
+        ADJUST,     // 상품 등록/수정, 관리자 재고 수정
+        BULK        // 카테고리 일괄 변경
+    }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "product_id", nullable = false)
+    private Long productId;
+
+    @Column(nullable = false)
+    private Integer delta;
+
+    @Column(name = "stock_after", nullable = false)
+    private Integer stockAfter;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10)
+    private Type type;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+}
@@ -12,7 +12,10 @@ import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "products")
+@Table(name = "products", indexes = {
+        @Index(name = "idx_products_name_id", columnList = "name, id"),
+        @Index(name = "idx_products_category_name_id", columnList = "category, name, id")
+})
 @Data
 @Builder
 @NoArgsConstructor
@@ -32,6 +35,7 @@ public class Product {
     @Column(nullable = false, precision = 10, scale = 2)
     private BigDecimal price;
 
+    // 재고 샤드가 있는 상품은 샤드 합계를 주기적으로 동기화한 값 (정확한 값은 ProductStockShardService)
     @Column(nullable = false)
     private Integer stock;
 
@@ -130,7 +134,7 @@ public class Product {
      * @return 주문 가능 여부
      */
     public boolean hasStock(int quantity) {
-        return this.stock >= quantity;
+        return stock >= quantity;
     }
     
     /**
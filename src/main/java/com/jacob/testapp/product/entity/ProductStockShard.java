@@ -0,0 +1,36 @@
+package com.jacob.testapp.product.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 상품 재고 샤드
+ * - 주문이 몰리는 상품의 재고를 여러 행으로 나눠 한 행에 잠금 경합이 몰리지 않도록 함
+ * - 샤드가 있는 상품의 재고는 샤드 재고의 합계임
+ */
+@Entity
+@Table(name = "product_stock_shards", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_product_stock_shards_product_shard", columnNames = {"product_id", "shard_no"})
+})
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductStockShard {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "product_id", nullable = false)
+    private Long productId;
+
+    @Column(name = "shard_no", nullable = false)
+    private Integer shardNo;
+
+    @Column(nullable = false)
+    private Integer stock;
+}
@@ -0,0 +1,36 @@
+package com.jacob.testapp.product.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * 재고 원장 체크포인트
+ * - products.stock에 반영이 끝난 마지막 저널 순번을 재고 반영과 같은 트랜잭션에서 기록함
+ * - 이 순번 이하 레코드는 반영됐거나 롤백된 것이므로, 재시작 시 이 순번 이후 저널만 읽어 커밋 표시가 있는 레코드를 반영함
+ */
+@Entity
+@Table(name = "stock_ledger_checkpoints")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class StockLedgerCheckpoint {
+
+    public static final Long SINGLETON_ID = 1L;
+
+    @Id
+    private Long id;
+
+    @Column(name = "last_sequence", nullable = false)
+    private Long lastSequence;
+
+    @UpdateTimestamp
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,26 @@
+package com.jacob.testapp.product.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 재고 원장 커밋 표시
+ * - 재고를 바꾼 트랜잭션이 자기 트랜잭션 ID(저널의 첫 레코드 순번)를 같은 트랜잭션에 기록함
+ * - 행이 있으면 커밋되었지만 products.stock에 아직 반영되지 않은 트랜잭션이며, 반영할 때 같은 트랜잭션에서 삭제함
+ * - 재시작 시 행이 있는 트랜잭션의 저널 레코드만 다시 반영함 (저널 동기화 후 커밋 전에 멈춘 트랜잭션은 제외)
+ */
+@Entity
+@Table(name = "stock_ledger_commits")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class StockLedgerCommit {
+
+    @Id
+    @Column(name = "transaction_id")
+    private Long transactionId;
+}
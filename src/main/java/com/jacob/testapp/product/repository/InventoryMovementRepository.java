@@ -0,0 +1,16 @@
+package com.jacob.testapp.product.repository;
+
+import com.jacob.testapp.product.entity.InventoryMovement;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface InventoryMovementRepository extends JpaRepository<InventoryMovement, Long> {
+
+    /**
+     * 상품 재고 이력 (최신순)
+     */
+    Page<InventoryMovement> findByProductIdOrderByIdDesc(Long productId, Pageable pageable);
+}
@@ -13,6 +13,7 @@ import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
 import jakarta.persistence.LockModeType;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -56,6 +57,90 @@ public interface ProductRepository extends JpaRepository<Product, Long>, JpaSpec
      */
     Page<Product> findByStatusAndNameContainingAndCategory(Product.Status status, String name, Product.Category category, Pageable pageable);
 
+    // ========== 목록 화면용 projection 조회 메서드 ==========
+
+    /**
+     * 목록 projection 조회 컬럼 (설명은 앞부분만)
+     */
+    String SUMMARY_SELECT = "SELECT p.id AS id, p.name AS name, p.price AS price, p.stock AS stock, " +
+            "p.imageUrl AS imageUrl, p.category AS category, p.status AS status, " +
+            "SUBSTRING(p.description, 1, " + ProductSummary.DESCRIPTION_PREVIEW_LENGTH + ") AS description, " +
+            "p.createdAt AS createdAt FROM Product p ";
+
+    /**
+     * 관리자 목록 검색 조건 (null인 조건은 무시)
+     */
+    String SUMMARY_SEARCH_CONDITION = "WHERE (:keyword IS NULL OR LOWER(p.name) LIKE :keyword) " +
+            "AND (:category IS NULL OR p.category = :category) " +
+            "AND (:status IS NULL OR p.status = :status)";
+
+    /**
+     * 전체 상품 목록 조회
+     */
+    @Query(value = SUMMARY_SELECT, countQuery = "SELECT COUNT(p) FROM Product p")
+    Page<ProductSummary> findSummaries(Pageable pageable);
+
+    /**
+     * 카테고리별 상품 목록 조회
+     */
+    @Query(value = SUMMARY_SELECT + "WHERE p.category = :category",
+           countQuery = "SELECT COUNT(p) FROM Product p WHERE p.category = :category")
+    Page<ProductSummary> findSummariesByCategory(@Param("category") Product.Category category, Pageable pageable);
+
+    /**
+     * 상태별 상품 목록 조회
+     */
+    @Query(value = SUMMARY_SELECT + "WHERE p.status = :status",
+           countQuery = "SELECT COUNT(p) FROM Product p WHERE p.status = :status")
+    Page<ProductSummary> findSummariesByStatus(@Param("status") Product.Status status, Pageable pageable);
+
+    /**
+     * ID 목록으로 상품 목록 조회 (순서 보장 안 함)
+     */
+    @Query(SUMMARY_SELECT + "WHERE p.id IN :ids")
+    List<ProductSummary> findSummariesByIdIn(@Param("ids") List<Long> ids);
+
+    /**
+     * 상품명(소문자 LIKE 패턴), 카테고리, 상태 조건으로 목록 조회
+     */
+    @Query(value = SUMMARY_SELECT + SUMMARY_SEARCH_CONDITION,
+           countQuery = "SELECT COUNT(p) FROM Product p " + SUMMARY_SEARCH_CONDITION)
+    Page<ProductSummary> searchSummaries(@Param("keyword") String keyword,
+                                         @Param("category") Product.Category category,
+                                         @Param("status") Product.Status status,
+                                         Pageable pageable);
+
+    // ========== 커서(Keyset) 페이징 메서드 ==========
+    
+    /**
+     * 커서 페이징 첫 페이지 (상품명, ID 순)
+     */
+    @Query(SUMMARY_SELECT + "ORDER BY p.name ASC, p.id ASC")
+    List<ProductSummary> findFirstOrderByNameAndId(Pageable pageable);
+    
+    /**
+     * 커서 이후 상품 조회 (상품명, ID 순)
+     */
+    @Query(SUMMARY_SELECT + "WHERE p.name > :name OR (p.name = :name AND p.id > :id) " +
+           "ORDER BY p.name ASC, p.id ASC")
+    List<ProductSummary> findAfterOrderByNameAndId(@Param("name") String name, @Param("id") Long id, Pageable pageable);
+    
+    /**
+     * 카테고리별 커서 페이징 첫 페이지 (상품명, ID 순)
+     */
+    @Query(SUMMARY_SELECT + "WHERE p.category = :category ORDER BY p.name ASC, p.id ASC")
+    List<ProductSummary> findFirstByCategoryOrderByNameAndId(@Param("category") Product.Category category, Pageable pageable);
+    
+    /**
+     * 카테고리별 커서 이후 상품 조회 (상품명, ID 순)
+     */
+    @Query(SUMMARY_SELECT + "WHERE p.category = :category " +
+           "AND (p.name > :name OR (p.name = :name AND p.id > :id)) " +
+           "ORDER BY p.name ASC, p.id ASC")
+    List<ProductSummary> findAfterByCategoryOrderByNameAndId(@Param("category") Product.Category category,
+                                                             @Param("name") String name, @Param("id") Long id,
+                                                             Pageable pageable);
+
     // ========== 재고 관리 메서드 ==========
     
     /**
@@ -127,9 +212,9 @@ public interface ProductRepository extends JpaRepository<Product, Long>, JpaSpec
     List<Product> findTop10ByOrderByCreatedAtDesc();
     
     /**
-     * 최근 등록된 상품 5개 조회
+     * 최근 등록된 상품 조회 (개수 지정, 등록일이 같으면 ID 내림차순)
      */
-    List<Product> findTop5ByOrderByCreatedAtDesc();
+    List<Product> findByOrderByCreatedAtDescIdDesc(Pageable pageable);
     
     /**
      * 카테고리별 가격 오름차순 정렬 조회
@@ -151,6 +236,58 @@ public interface ProductRepository extends JpaRepository<Product, Long>, JpaSpec
      */
     List<Product> findByRemarks(String remarks);
     
+    /**
+     * 검색 인덱스 생성용 상품 정보 조회 (ID, 상품명, 카테고리, 상태)
+     */
+    @Query("SELECT p.id, p.name, p.category, p.status FROM Product p")
+    List<Object[]> findSearchIndexRows();
+    
+    /**
+     * 패싯 집계용 상품 정보 조회 (ID, 카테고리, 상태, 재고)
+     */
+    @Query("SELECT p.id, p.category, p.status, p.stock FROM Product p")
+    List<Object[]> findFacetRows();
+
+    /**
+     * 카테고리 상품 ID를 afterId 다음부터 순서대로 조회 (일괄 재고 변경 구간 계산용)
+     */
+    @Query("SELECT p.id FROM Product p WHERE p.category = :category AND p.id > :afterId ORDER BY p.id")
+    List<Long> findIdsByCategoryAfter(@Param("category") Product.Category category,
+                                      @Param("afterId") Long afterId, Pageable pageable);
+
+    /**
+     * 전체 상품 재고 조회 (ID, 재고 - 재고 샤드가 있는 상품은 ProductStockShardService.applyShardTotals로 보정)
+     */
+    @Query("SELECT p.id, p.stock FROM Product p")
+    List<Object[]> findStockRows();
+
+
+    /**
+     * 일괄 재고 차감용 재고 조회 (ID 순으로 행 잠금 - 잠금 순서를 고정해 교착 상태 방지)
+     */
+    @Query(value = "SELECT id, stock FROM products WHERE id IN (:ids) ORDER BY id FOR UPDATE", nativeQuery = true)
+    List<Object[]> findStockRowsForUpdate(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 지정한 상품들의 재고 조회 (ID, 재고)
+     */
+    @Query("SELECT p.id, p.stock FROM Product p WHERE p.id IN :ids")
+    List<Object[]> findStockRowsByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 상품 재고만 조회
+     */
+    @Query("SELECT p.stock FROM Product p WHERE p.id = :id")
+    Optional<Integer> findStockById(@Param("id") Long id);
+
+    /**
+     * 가격대 히스토그램용 집계 (가격, 카테고리, 상태, 품절 여부(1/0), 상품 수)
+     */
+    @Query("SELECT p.price, p.category, p.status, CASE WHEN p.stock <= 0 THEN 1 ELSE 0 END, COUNT(p) " +
+           "FROM Product p " +
+           "GROUP BY p.price, p.category, p.status, CASE WHEN p.stock <= 0 THEN 1 ELSE 0 END")
+    List<Object[]> findPriceHistogramRows();
+    
     /**
      * ID 범위 삭제 (테스트용)
      */
@@ -0,0 +1,90 @@
+package com.jacob.testapp.product.repository;
+
+import com.jacob.testapp.product.entity.ProductStockShard;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface ProductStockShardRepository extends JpaRepository<ProductStockShard, Long> {
+
+    /**
+     * 샤드가 있는 상품별 샤드 수 (상품 ID, 샤드 수)
+     */
+    @Query("SELECT s.productId, COUNT(s) FROM ProductStockShard s GROUP BY s.productId")
+    List<Object[]> findShardCounts();
+
+    /**
+     * 샤드가 있는 상품별 샤드 재고 합계 (상품 ID, 합계)
+     */
+    @Query("SELECT s.productId, SUM(s.stock) FROM ProductStockShard s GROUP BY s.productId")
+    List<Object[]> findStockTotals();
+
+    /**
+     * 지정한 상품들의 샤드 재고 합계 (상품 ID, 합계)
+     */
+    @Query("SELECT s.productId, SUM(s.stock) FROM ProductStockShard s WHERE s.productId IN :productIds GROUP BY s.productId")
+    List<Object[]> findStockTotalsByProductIdIn(@Param("productIds") Collection<Long> productIds);
+
+    /**
+     * 상품의 샤드 목록 (비관적 락, 샤드 번호 순으로 잠금)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM ProductStockShard s WHERE s.productId = :productId ORDER BY s.shardNo")
+    List<ProductStockShard> findByProductIdForUpdate(@Param("productId") Long productId);
+
+    /**
+     * 샤드 하나를 잠가서 조회 (다른 트랜잭션이 잠근 샤드면 기다리지 않고 빈 값, lock.timeout -2 = SKIP LOCKED)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT s FROM ProductStockShard s WHERE s.productId = :productId AND s.shardNo = :shardNo")
+    Optional<ProductStockShard> findByProductIdAndShardNoSkipLocked(@Param("productId") Long productId,
+                                                                    @Param("shardNo") int shardNo);
+
+    /**
+     * 다른 트랜잭션이 잠그지 않은 샤드만 잠가서 조회 (샤드 번호 순, 잠긴 샤드는 건너뜀)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT s FROM ProductStockShard s WHERE s.productId = :productId ORDER BY s.shardNo")
+    List<ProductStockShard> findByProductIdSkipLocked(@Param("productId") Long productId);
+
+    /**
+     * 샤드 재고 증가
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE ProductStockShard s SET s.stock = s.stock + :quantity " +
+           "WHERE s.productId = :productId AND s.shardNo = :shardNo")
+    int increaseStock(@Param("productId") Long productId, @Param("shardNo") int shardNo, @Param("quantity") int quantity);
+
+    /**
+     * 상품의 샤드 삭제
+     */
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM ProductStockShard s WHERE s.productId = :productId")
+    int deleteByProductId(@Param("productId") Long productId);
+
+    /**
+     * products.stock을 샤드 합계로 동기화 (목록/통계 쿼리용, 값이 다른 행만)
+     */
+    @Modifying
+    @Transactional
+    @Query(value = "UPDATE products p JOIN (SELECT product_id, SUM(stock) AS total FROM product_stock_shards " +
+                   "GROUP BY product_id) t ON p.id = t.product_id SET p.stock = t.total WHERE p.stock <> t.total",
+           nativeQuery = true)
+    int syncProductStock();
+}
@@ -0,0 +1,33 @@
+package com.jacob.testapp.product.repository;
+
+import com.jacob.testapp.product.entity.Product;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 상품 목록 화면용 projection
+ * - 목록에 표시하는 컬럼만 조회하며, 설명은 목록 요약에 필요한 앞부분(최대 101자)만 가져옴
+ */
+public interface ProductSummary {
+
+    int DESCRIPTION_PREVIEW_LENGTH = 101;
+
+    Long getId();
+
+    String getName();
+
+    BigDecimal getPrice();
+
+    Integer getStock();
+
+    String getImageUrl();
+
+    Product.Category getCategory();
+
+    Product.Status getStatus();
+
+    String getDescription();
+
+    LocalDateTime getCreatedAt();
+}
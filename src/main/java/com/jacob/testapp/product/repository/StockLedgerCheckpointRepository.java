@@ -0,0 +1,9 @@
+package com.jacob.testapp.product.repository;
+
+import com.jacob.testapp.product.entity.StockLedgerCheckpoint;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface StockLedgerCheckpointRepository extends JpaRepository<StockLedgerCheckpoint, Long> {
+}
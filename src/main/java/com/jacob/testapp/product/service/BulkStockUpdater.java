@@ -0,0 +1,242 @@
+package com.jacob.testapp.product.service;
+
+import com.jacob.testapp.product.entity.Product;
+import com.jacob.testapp.product.repository.ProductRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 상품 재고 일괄 변경 엔진
+ * - 카테고리 변경: ID 구간 단위(chunk)로 나눠 구간마다 UPDATE 1회로 재고와 버전을 함께 변경함
+ * - 상품별 값 변경: chunk 단위 JDBC 배치 UPDATE, 샤딩된 상품은 같은 트랜잭션에서 샤드에도 재분배함
+ * - chunk마다 별도 트랜잭션으로 커밋해 잠금을 짧게 유지하고, 진행 상황을 작업 객체로 조회할 수 있음
+ * - 완료(또는 실패) 후 일괄 변경 이벤트를 한 번 발행해 캐시와 메모리 집계를 DB 기준으로 맞춤
+ *   (상품별 변경은 변경 대상 상품 ID로 한정한 이벤트)
+ */
+@Slf4j
+@Component
+public class BulkStockUpdater {
+
+    private static final String CATEGORY_CHUNK_SQL = "UPDATE products SET stock = ?, version = version + 1, updated_at = ? " +
+            "WHERE category = ? AND id > ? AND id <= ?";
+    private static final String PRODUCT_STOCK_SQL = "UPDATE products SET stock = ?, version = version + 1, updated_at = ? " +
+            "WHERE id = ?";
+    private static final int MAX_RETAINED_JOBS = 100;
+
+    private final ProductRepository productRepository;
+    private final ProductStockShardService stockShardService;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate chunkTransaction;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int chunkSize;
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor();
+    // 최근 작업 (오래된 작업부터 제거)
+    private final Map<String, Job> jobs = Collections.synchronizedMap(new LinkedHashMap<>() {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Job> eldest) {
+            return size() > MAX_RETAINED_JOBS;
+        }
+    });
+
+    public BulkStockUpdater(ProductRepository productRepository,
+                            ProductStockShardService stockShardService,
+                            JdbcTemplate jdbcTemplate,
+                            PlatformTransactionManager transactionManager,
+                            ApplicationEventPublisher eventPublisher,
+                            @Value("${app.inventory.bulk-update.chunk-size:5000}") int chunkSize) {
+        this.productRepository = productRepository;
+        this.stockShardService = stockShardService;
+        this.jdbcTemplate = jdbcTemplate;
+        this.chunkTransaction = new TransactionTemplate(transactionManager);
+        this.chunkTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.eventPublisher = eventPublisher;
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * 카테고리 재고 일괄 변경 (호출한 스레드에서 실행, 변경된 상품 수 반환)
+     */
+    public int updateCategoryStock(Product.Category category, int stock) {
+        Job job = register("카테고리 " + category + " 재고 " + stock, productRepository.countByCategory(category));
+        run(job, () -> updateCategoryChunks(job, category, stock), ProductChangedEvent.bulkChanged(category));
+        return (int) job.getProcessed();
+    }
+
+    /**
+     * 카테고리 재고 일괄 변경 작업 시작 (백그라운드 실행, 진행 상황은 getJob으로 조회)
+     */
+    public Job submitCategoryStock(Product.Category category, int stock) {
+        Job job = register("카테고리 " + category + " 재고 " + stock, productRepository.countByCategory(category));
+        executor.submit(() -> run(job, () -> updateCategoryChunks(job, category, stock),
+                ProductChangedEvent.bulkChanged(category)));
+        return job;
+    }
+
+    /**
+     * 상품별 재고 일괄 변경 작업 시작 (상품 ID → 재고)
+     */
+    public Job submitProductStocks(Map<Long, Integer> stocks) {
+        Map<Long, Integer> values = new LinkedHashMap<>(stocks);
+        values.forEach((productId, stock) -> {
+            if (stock == null || stock < 0) {
+                throw new IllegalArgumentException("재고 수량은 0 이상이어야 합니다: " + productId);
+            }
+        });
+        Job job = register("상품 " + values.size() + "개 재고", values.size());
+        executor.submit(() -> run(job, () -> updateProductChunks(job, values),
+                ProductChangedEvent.stocksChanged(values.keySet())));
+        return job;
+    }
+
+    /**
+     * 작업 조회 (없으면 null)
+     */
+    public Job getJob(String jobId) {
+        return jobs.get(jobId);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private void updateCategoryChunks(Job job, Product.Category category, int stock) {
+        long afterId = 0L;
+        while (true) {
+            List<Long> ids = productRepository.findIdsByCategoryAfter(category, afterId, PageRequest.of(0, chunkSize));
+            if (ids.isEmpty()) {
+                return;
+            }
+            long fromId = afterId;
+            long toId = ids.get(ids.size() - 1);
+            Integer updated = chunkTransaction.execute(status -> jdbcTemplate.update(CATEGORY_CHUNK_SQL,
+                    stock, Timestamp.valueOf(LocalDateTime.now()), category.name(), fromId, toId));
+            job.advance(updated != null ? updated : 0);
+            afterId = toId;
+        }
+    }
+
+    private void updateProductChunks(Job job, Map<Long, Integer> values) {
+        List<Map.Entry<Long, Integer>> chunk = new ArrayList<>(Math.min(chunkSize, values.size()));
+        for (Map.Entry<Long, Integer> entry : values.entrySet()) {
+            chunk.add(entry);
+            if (chunk.size() == chunkSize) {
+                applyBatch(job, chunk);
+                chunk = new ArrayList<>(chunkSize);
+            }
+        }
+        if (!chunk.isEmpty()) {
+            applyBatch(job, chunk);
+        }
+    }
+
+    /**
+     * chunk 반영 - 샤딩된 상품은 샤드에 재분배하고 products.stock도 같은 값으로 맞춤 (같은 트랜잭션)
+     */
+    private void applyBatch(Job job, List<Map.Entry<Long, Integer>> chunk) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> arguments = new ArrayList<>(chunk.size());
+        chunk.forEach(entry -> arguments.add(new Object[]{entry.getValue(), now, entry.getKey()}));
+
+        chunkTransaction.executeWithoutResult(status -> {
+            for (Map.Entry<Long, Integer> entry : chunk) {
+                if (stockShardService.isSharded(entry.getKey())) {
+                    stockShardService.rebalance(entry.getKey(), entry.getValue());
+                }
+            }
+            jdbcTemplate.batchUpdate(PRODUCT_STOCK_SQL, arguments);
+        });
+        job.advance(chunk.size());
+    }
+
+    /**
+     * 작업 실행 후 일괄 변경 이벤트 발행 (일부 chunk만 반영되고 실패해도 발행)
+     * 이벤트 처리(샤드 재분배)가 끝날 때까지 샤드 합계 동기화가 새 재고를 덮어쓰지 않도록 막음
+     */
+    private void run(Job job, Runnable work, ProductChangedEvent event) {
+        Runnable unlock = stockShardService.lockForBulkChange();
+        try {
+            work.run();
+            job.finish(Job.Status.COMPLETED, null);
+            log.info("재고 일괄 변경 완료: {} ({}건)", job.getDescription(), job.getProcessed());
+        } catch (RuntimeException e) {
+            job.finish(Job.Status.FAILED, e.getMessage());
+            log.error("재고 일괄 변경 실패: {} ({}/{}건 반영)", job.getDescription(), job.getProcessed(), job.getTotal(), e);
+            throw e;
+        } finally {
+            try {
+                eventPublisher.publishEvent(event);
+            } finally {
+                unlock.run();
+            }
+        }
+    }
+
+    private Job register(String description, long total) {
+        Job job = new Job(UUID.randomUUID().toString(), description, total);
+        jobs.put(job.getId(), job);
+        return job;
+    }
+
+    /**
+     * 재고 일괄 변경 작업 진행 상황
+     */
+    @Getter
+    public static class Job {
+
+        public enum Status {
+            RUNNING, COMPLETED, FAILED
+        }
+
+        private final String id;
+        private final String description;
+        private final long total;
+        private final LocalDateTime startedAt = LocalDateTime.now();
+        private volatile Status status = Status.RUNNING;
+        private volatile LocalDateTime finishedAt;
+        private volatile String error;
+        private final AtomicLong processed = new AtomicLong();
+
+        private Job(String id, String description, long total) {
+            this.id = id;
+            this.description = description;
+            this.total = total;
+        }
+
+        public long getProcessed() {
+            return processed.get();
+        }
+
+        private void advance(int count) {
+            processed.addAndGet(count);
+        }
+
+        private void finish(Status status, String error) {
+            this.error = error;
+            this.finishedAt = LocalDateTime.now();
+            this.status = status;
+        }
+    }
+}
@@ -0,0 +1,258 @@
+package com.jacob.testapp.product.service;
+
+import com.jacob.testapp.product.entity.InventoryMovement;
+import com.jacob.testapp.product.repository.InventoryMovementRepository;
+import com.jacob.testapp.product.repository.ProductRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.ContextClosedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.UnaryOperator;
+
+/**
+ * 재고 이동 로그
+ * - 커밋된 상품 변경 이벤트를 재고 이동 행으로 바꿔 메모리 큐에 쌓고, 주기적으로 JDBC 배치 INSERT로 기록함
+ * - 큐는 queue-capacity건까지만 쌓고(가득 차면 바로 기록을 시도한 뒤 그래도 넘치면 버리고 개수를 셈),
+ *   기록에 실패한 배치는 순서를 유지한 채 다음 주기에 가장 먼저 다시 기록함
+ * - 메모리 큐이므로 기록 전에 서버가 비정상 종료되면 그 사이 이동 기록은 남지 않음 (재고 자체는 DB 기준)
+ * - 같은 이벤트 흐름으로 상품별 재고와 재고 부족 상품 집합을 갱신하므로 재고 부족 조회 시 테이블을 스캔하지 않음
+ * - 재고 값은 이벤트 반영 시점 기준이며, 일괄 변경이 있으면 DB에서 다시 적재함
+ */
+@Slf4j
+@Component
+public class InventoryMovementLog {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO inventory_movements (product_id, delta, stock_after, type, created_at) VALUES (?, ?, ?, ?, ?)";
+    private static final int INSERT_BATCH_SIZE = 1000;
+    private static final Comparator<StockLevel> LOWEST_FIRST = Comparator
+            .comparingInt(StockLevel::stock)
+            .thenComparing(StockLevel::productId);
+
+    private final ProductRepository productRepository;
+    private final ProductStockShardService stockShardService;
+    private final InventoryMovementRepository movementRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final int lowStockThreshold;
+
+    // 상품 ID → 재고, 재고 부족 상품 ID → 재고 (stockLevels.compute 안에서 함께 갱신)
+    private final Map<Long, Integer> stockLevels = new ConcurrentHashMap<>();
+    private final Map<Long, Integer> lowStock = new ConcurrentHashMap<>();
+    private final BlockingQueue<InventoryMovement> pending;
+    private final ReentrantLock flushLock = new ReentrantLock();
+    // 기록에 실패해 다음 주기에 먼저 다시 기록할 배치 (flushLock으로 보호)
+    private List<InventoryMovement> retryBatch = List.of();
+    private final AtomicLong droppedMovements = new AtomicLong();
+
+    private volatile boolean ready = false;
+
+    public InventoryMovementLog(ProductRepository productRepository,
+                                ProductStockShardService stockShardService,
+                                InventoryMovementRepository movementRepository,
+                                JdbcTemplate jdbcTemplate,
+                                @Value("${app.inventory.low-stock.threshold:10}") int lowStockThreshold,
+                                @Value("${app.inventory.movements.queue-capacity:100000}") int queueCapacity) {
+        this.productRepository = productRepository;
+        this.stockShardService = stockShardService;
+        this.movementRepository = movementRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.lowStockThreshold = lowStockThreshold;
+        this.pending = new LinkedBlockingQueue<>(queueCapacity);
+    }
+
+    /**
+     * 애플리케이션 시작 시 상품별 재고 적재
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        reload(false);
+        ready = true;
+        log.info("재고 이동 로그 활성화: 상품 {}개, 재고 부족 {}개", stockLevels.size(), lowStock.size());
+    }
+
+    /**
+     * 재고 부족 상품 목록 (재고 오름차순)
+     */
+    public List<StockLevel> getLowStockProducts() {
+        List<StockLevel> levels = new ArrayList<>(lowStock.size());
+        lowStock.forEach((productId, stock) -> levels.add(new StockLevel(productId, stock)));
+        levels.sort(LOWEST_FIRST);
+        return levels;
+    }
+
+    /**
+     * 재고가 threshold 이하인 상품 수 (설정된 기준보다 큰 값은 메모리로 답할 수 없어 빈 값)
+     */
+    public OptionalLong countLowStock(int threshold) {
+        if (!ready || threshold > lowStockThreshold) {
+            return OptionalLong.empty();
+        }
+        return OptionalLong.of(lowStock.values().stream().filter(stock -> stock <= threshold).count());
+    }
+
+    /**
+     * 상품 재고 이력 (최신순, 아직 기록되지 않은 이동은 제외)
+     */
+    public Page<InventoryMovement> getHistory(Long productId, Pageable pageable) {
+        return movementRepository.findByProductIdOrderByIdDesc(productId, pageable);
+    }
+
+    /**
+     * 쌓인 이동 기록을 배치 INSERT (실패한 배치가 있으면 그것부터)
+     */
+    @Scheduled(fixedDelayString = "${app.inventory.movements.flush-interval-ms:1000}")
+    public void flush() {
+        if (!flushLock.tryLock()) {
+            return;
+        }
+        try {
+            if (!retryBatch.isEmpty()) {
+                insert(retryBatch);
+                retryBatch = List.of();
+            }
+            List<InventoryMovement> batch = new ArrayList<>(INSERT_BATCH_SIZE);
+            while (pending.drainTo(batch, INSERT_BATCH_SIZE) > 0) {
+                try {
+                    insert(batch);
+                } catch (RuntimeException e) {
+                    // 다음 주기에 큐보다 먼저 같은 순서로 다시 기록
+                    retryBatch = List.copyOf(batch);
+                    throw e;
+                }
+                batch.clear();
+            }
+        } catch (RuntimeException e) {
+            log.warn("재고 이동 기록 실패, 다음 주기에 재시도: {}", e.getMessage());
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    private void insert(List<InventoryMovement> batch) {
+        List<Object[]> arguments = new ArrayList<>(batch.size());
+        for (InventoryMovement movement : batch) {
+            arguments.add(new Object[]{movement.getProductId(), movement.getDelta(), movement.getStockAfter(),
+                    movement.getType().name(), Timestamp.valueOf(movement.getCreatedAt())});
+        }
+        jdbcTemplate.batchUpdate(INSERT_SQL, arguments);
+    }
+
+    /**
+     * 종료 시 남은 이동 기록 저장
+     */
+    @EventListener(ContextClosedEvent.class)
+    public void shutdown() {
+        flush();
+    }
+
+    /**
+     * 상품 변경 이벤트 반영 (커밋 이후)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProductChanged(ProductChangedEvent event) {
+        if (!ready) {
+            return;
+        }
+        switch (event.getType()) {
+            case STOCK_CHANGED -> {
+                int delta = event.getStockDelta();
+                if (delta != 0) {
+                    int stockAfter = update(event.getProductId(), current -> (current != null ? current : 0) + delta);
+                    record(event.getProductId(), delta, stockAfter,
+                            delta < 0 ? InventoryMovement.Type.DECREASE : InventoryMovement.Type.INCREASE);
+                }
+            }
+            case SAVED -> {
+                Integer stock = stockShardService.getStock(event.getProduct());
+                Integer previous = stockLevels.get(event.getProductId());
+                update(event.getProductId(), current -> stock);
+                if (previous == null || !previous.equals(stock)) {
+                    record(event.getProductId(), stock - (previous != null ? previous : 0), stock,
+                            InventoryMovement.Type.ADJUST);
+                }
+            }
+            case DELETED -> {
+                stockLevels.remove(event.getProductId());
+                lowStock.remove(event.getProductId());
+            }
+            case BULK_CHANGED -> reload(true);
+        }
+    }
+
+    /**
+     * DB 기준으로 상품별 재고 다시 적재 (recordChanges가 true면 달라진 재고를 일괄 변경으로 기록)
+     */
+    private synchronized void reload(boolean recordChanges) {
+        Map<Long, Integer> loaded = new HashMap<>();
+        for (Object[] row : productRepository.findStockRows()) {
+            loaded.put((Long) row[0], ((Number) row[1]).intValue());
+        }
+        stockShardService.applyShardTotals(loaded);
+        stockLevels.keySet().retainAll(loaded.keySet());
+        lowStock.keySet().retainAll(loaded.keySet());
+        loaded.forEach((productId, stock) -> {
+            Integer previous = stockLevels.get(productId);
+            update(productId, current -> stock);
+            if (recordChanges && previous != null && !previous.equals(stock)) {
+                record(productId, stock - previous, stock, InventoryMovement.Type.BULK);
+            }
+        });
+    }
+
+    private int update(Long productId, UnaryOperator<Integer> function) {
+        return stockLevels.compute(productId, (id, current) -> {
+            Integer stock = function.apply(current);
+            if (stock <= lowStockThreshold) {
+                lowStock.put(id, stock);
+            } else {
+                lowStock.remove(id);
+            }
+            return stock;
+        });
+    }
+
+    private void record(Long productId, int delta, int stockAfter, InventoryMovement.Type type) {
+        InventoryMovement movement = InventoryMovement.builder()
+                .productId(productId)
+                .delta(delta)
+                .stockAfter(stockAfter)
+                .type(type)
+                .createdAt(LocalDateTime.now())
+                .build();
+        if (pending.offer(movement)) {
+            return;
+        }
+        // 큐가 가득 차면 바로 기록을 시도하고, 그래도 자리가 없으면 버림
+        flush();
+        if (!pending.offer(movement) && droppedMovements.incrementAndGet() % 1000 == 1) {
+            log.warn("재고 이동 기록 큐가 가득 차 기록을 버림: 누적 {}건", droppedMovements.get());
+        }
+    }
+
+    /**
+     * 상품 재고 수준
+     */
+    public record StockLevel(Long productId, int stock) {
+    }
+}
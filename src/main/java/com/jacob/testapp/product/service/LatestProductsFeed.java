@@ -0,0 +1,118 @@
+package com.jacob.testapp.product.service;
+
+import com.jacob.testapp.product.entity.Product;
+import com.jacob.testapp.product.repository.ProductRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 최신 상품 피드 (홈 화면 최신 상품 영역)
+ * - 등록일 내림차순 상위 N개를 메모리에 유지하며, 조회 시 DB에 접근하지 않음
+ * - 상품 저장 시 저장된 값을 바로 반영(write-through)하고, 피드에 있던 상품이 삭제되면 DB에서 다시 채움
+ * - 반환 목록은 읽기 전용이며 공유되는 복사본이므로 수정하지 않아야 함
+ */
+@Slf4j
+@Component
+public class LatestProductsFeed {
+
+    private static final Comparator<Product> LATEST_FIRST = Comparator
+            .comparing(Product::getCreatedAt, Comparator.nullsLast(Comparator.reverseOrder()))
+            .thenComparing(Product::getId, Comparator.reverseOrder());
+
+    private final ProductRepository productRepository;
+    private final int size;
+
+    private volatile List<Product> latest;
+
+    public LatestProductsFeed(ProductRepository productRepository,
+                              @Value("${app.product.latest.size:5}") int size) {
+        this.productRepository = productRepository;
+        this.size = size;
+    }
+
+    /**
+     * 애플리케이션 시작 시 피드 적재
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        reload();
+    }
+
+    /**
+     * 최신 상품 목록 조회
+     */
+    public List<Product> getLatestProducts() {
+        List<Product> current = latest;
+        if (current == null) {
+            return reload();
+        }
+        return current;
+    }
+
+    /**
+     * DB 기준으로 피드 다시 적재
+     */
+    public synchronized List<Product> reload() {
+        List<Product> loaded = new ArrayList<>(size);
+        for (Product product : productRepository.findByOrderByCreatedAtDescIdDesc(PageRequest.of(0, size))) {
+            loaded.add(ProductCache.copyOf(product));
+        }
+        latest = List.copyOf(loaded);
+        log.debug("최신 상품 피드 적재: {}개", loaded.size());
+        return latest;
+    }
+
+    /**
+     * 상품 변경 이벤트 반영 (커밋 이후)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProductChanged(ProductChangedEvent event) {
+        switch (event.getType()) {
+            case SAVED -> apply(event.getProduct());
+            case DELETED -> {
+                if (contains(event.getProductId())) {
+                    reload();
+                }
+            }
+            case BULK_CHANGED -> reload();
+            default -> {
+                // 재고는 홈 화면 최신 상품 영역에 표시하지 않음
+            }
+        }
+    }
+
+    /**
+     * 저장된 상품 반영 - 피드에 있던 상품이면 교체하고, 더 최신 상품이면 끼워 넣음
+     */
+    private synchronized void apply(Product product) {
+        List<Product> current = latest;
+        if (current == null || product == null || product.getId() == null || product.getCreatedAt() == null) {
+            reload();
+            return;
+        }
+
+        List<Product> updated = new ArrayList<>(current.size() + 1);
+        for (Product existing : current) {
+            if (!existing.getId().equals(product.getId())) {
+                updated.add(existing);
+            }
+        }
+        updated.add(ProductCache.copyOf(product));
+        updated.sort(LATEST_FIRST);
+        latest = List.copyOf(updated.subList(0, Math.min(size, updated.size())));
+    }
+
+    private boolean contains(Long productId) {
+        List<Product> current = latest;
+        return current == null || current.stream().anyMatch(product -> product.getId().equals(productId));
+    }
+}
@@ -0,0 +1,228 @@
+package com.jacob.testapp.product.service;
+
+import com.jacob.testapp.product.entity.Product;
+import com.jacob.testapp.product.repository.ProductRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 상품 단건 조회용 near cache
+ * - 상품 ID를 키로 하는 크기 제한 캐시 (초과 시 최근 조회되지 않은 항목부터 제거)
+ * - 상품 저장(@Version 증가), 삭제, 재고 UPDATE 쿼리 시 무효화되며, 더 낮은 버전으로는 덮어쓰지 않음
+ * - 조회 도중 무효화가 발생하면 읽어 온 값은 캐시에 저장하지 않음
+ * - 호출자가 값을 수정해도 캐시가 오염되지 않도록 항상 복사본을 반환함
+ */
+@Slf4j
+@Component
+public class ProductCache {
+
+    private static final int INVALIDATION_STRIPES = 64;
+
+    private final ProductRepository productRepository;
+    private final int maxSize;
+    private final long ttlNanos;
+
+    private final Map<Long, CacheEntry> entries = new ConcurrentHashMap<>();
+    private final ReentrantLock evictionLock = new ReentrantLock();
+
+    // 조회 중 무효화가 일어났는지 판단하기 위한 세대 번호 (ID 해시 기준 스트라이프)
+    private final AtomicLongArray invalidationGenerations = new AtomicLongArray(INVALIDATION_STRIPES);
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder invalidations = new LongAdder();
+
+    public ProductCache(ProductRepository productRepository,
+                        @Value("${app.product.cache.max-size:10000}") int maxSize,
+                        @Value("${app.product.cache.ttl:60s}") Duration ttl) {
+        this.productRepository = productRepository;
+        this.maxSize = maxSize;
+        this.ttlNanos = ttl.toNanos();
+    }
+
+    /**
+     * ID로 상품 조회 (캐시에 없으면 DB 조회 후 저장)
+     */
+    public Optional<Product> findById(Long id) {
+        CacheEntry entry = entries.get(id);
+        if (entry != null && !entry.isExpired(ttlNanos)) {
+            entry.referenced = true;
+            hits.increment();
+            return Optional.of(copyOf(entry.product));
+        }
+
+        misses.increment();
+        long generation = invalidationGenerations.get(stripe(id));
+        Optional<Product> loaded = productRepository.findById(id);
+        loaded.ifPresent(product -> putIfNotInvalidated(product, generation));
+        return loaded;
+    }
+
+    /**
+     * 캐시 저장 (이미 더 높은 버전이 저장되어 있으면 유지)
+     */
+    private void store(Product product) {
+        CacheEntry newEntry = new CacheEntry(copyOf(product));
+        entries.merge(product.getId(), newEntry,
+                (current, candidate) -> candidate.isNewerThan(current) ? candidate : current);
+        evictIfNecessary();
+    }
+
+    /**
+     * 상품 캐시 무효화
+     */
+    public void evict(Long id) {
+        invalidationGenerations.incrementAndGet(stripe(id));
+        if (entries.remove(id) != null) {
+            invalidations.increment();
+        }
+    }
+
+    /**
+     * 카테고리 단위 무효화 (category가 null이면 전체)
+     */
+    public void evictCategory(Product.Category category) {
+        for (int i = 0; i < INVALIDATION_STRIPES; i++) {
+            invalidationGenerations.incrementAndGet(i);
+        }
+        entries.entrySet().removeIf(e -> {
+            boolean matched = category == null || e.getValue().product.getCategory() == category;
+            if (matched) {
+                invalidations.increment();
+            }
+            return matched;
+        });
+    }
+
+    /**
+     * 상품 변경 이벤트 반영 (커밋 이후)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProductChanged(ProductChangedEvent event) {
+        switch (event.getType()) {
+            case SAVED, DELETED, STOCK_CHANGED -> evict(event.getProductId());
+            case BULK_CHANGED -> {
+                if (event.getProductIds() != null) {
+                    event.getProductIds().forEach(this::evict);
+                } else {
+                    evictCategory(event.getCategory());
+                }
+            }
+        }
+    }
+
+    /**
+     * 캐시 통계 (적중/미스/제거 수)
+     */
+    public Map<String, Object> getStatistics() {
+        long hitCount = hits.sum();
+        long missCount = misses.sum();
+        long requestCount = hitCount + missCount;
+
+        Map<String, Object> statistics = new HashMap<>();
+        statistics.put("size", entries.size());
+        statistics.put("maxSize", maxSize);
+        statistics.put("hits", hitCount);
+        statistics.put("misses", missCount);
+        statistics.put("evictions", evictions.sum());
+        statistics.put("invalidations", invalidations.sum());
+        statistics.put("hitRate", requestCount == 0 ? 0.0 : (double) hitCount / requestCount);
+        return statistics;
+    }
+
+    /**
+     * DB에서 읽은 상품 저장 - 조회하는 동안 무효화가 있었다면 저장하지 않음
+     */
+    private void putIfNotInvalidated(Product product, long generation) {
+        if (invalidationGenerations.get(stripe(product.getId())) != generation) {
+            return;
+        }
+        store(product);
+    }
+
+    /**
+     * 크기 초과 시 제거 (최근 조회된 항목은 한 번 더 기회를 줌)
+     */
+    private void evictIfNecessary() {
+        if (entries.size() <= maxSize || !evictionLock.tryLock()) {
+            return;
+        }
+        try {
+            Iterator<Map.Entry<Long, CacheEntry>> iterator = entries.entrySet().iterator();
+            while (entries.size() > maxSize) {
+                if (!iterator.hasNext()) {
+                    iterator = entries.entrySet().iterator();
+                }
+                CacheEntry entry = iterator.next().getValue();
+                if (entry.referenced) {
+                    entry.referenced = false;
+                } else {
+                    iterator.remove();
+                    evictions.increment();
+                }
+            }
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    private static int stripe(Long id) {
+        return (int) (id & (INVALIDATION_STRIPES - 1));
+    }
+
+    /**
+     * 캐시 저장/반환용 상품 복사
+     */
+    static Product copyOf(Product product) {
+        return Product.builder()
+                .id(product.getId())
+                .name(product.getName())
+                .description(product.getDescription())
+                .price(product.getPrice())
+                .stock(product.getStock())
+                .imageUrl(product.getImageUrl())
+                .category(product.getCategory())
+                .status(product.getStatus())
+                .remarks(product.getRemarks())
+                .createdAt(product.getCreatedAt())
+                .updatedAt(product.getUpdatedAt())
+                .version(product.getVersion())
+                .build();
+    }
+
+    /**
+     * 캐시 항목
+     */
+    private static final class CacheEntry {
+        private final Product product;
+        private final long loadedAt = System.nanoTime();
+        private volatile boolean referenced = true;
+
+        private CacheEntry(Product product) {
+            this.product = product;
+        }
+
+        private boolean isExpired(long ttlNanos) {
+            return System.nanoTime() - loadedAt > ttlNanos;
+        }
+
+        private boolean isNewerThan(CacheEntry other) {
+            long version = product.getVersion() == null ? -1 : product.getVersion();
+            long otherVersion = other.product.getVersion() == null ? -1 : other.product.getVersion();
+            return version >= otherVersion;
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.jacob.testapp.product.service;
+
+import com.jacob.testapp.product.entity.Product;
+import lombok.Getter;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 상품 변경 이벤트
+ * - 상품 저장/삭제/재고 변경 시 발행되며, 메모리 인덱스와 캐시가 이 이벤트로 갱신됨
+ * - 리스너는 트랜잭션 커밋 이후에 실행되므로 롤백된 변경은 반영되지 않음
+ */
+@Getter
+public class ProductChangedEvent {
+
+    public enum Type {
+        SAVED,          // 상품 생성/수정
+        DELETED,        // 상품 삭제
+        STOCK_CHANGED,  // 재고 증감 (UPDATE 쿼리)
+        BULK_CHANGED    // 벌크 쿼리 등으로 여러 상품이 한 번에 변경됨
+    }
+
+    private final Type type;
+    private final Long productId;
+    private final Product product;
+    private final int stockDelta;
+    private final Product.Category category;
+    // 벌크 변경 대상 상품 ID (null이면 category 기준)
+    private final List<Long> productIds;
+
+    private ProductChangedEvent(Type type, Long productId, Product product, int stockDelta, Product.Category category,
+                                List<Long> productIds) {
+        this.type = type;
+        this.productId = productId;
+        this.product = product;
+        this.stockDelta = stockDelta;
+        this.category = category;
+        this.productIds = productIds;
+    }
+
+    /**
+     * 상품 생성/수정 이벤트
+     */
+    public static ProductChangedEvent saved(Product product) {
+        return new ProductChangedEvent(Type.SAVED, product.getId(), product, 0, product.getCategory(), null);
+    }
+
+    /**
+     * 상품 삭제 이벤트
+     */
+    public static ProductChangedEvent deleted(Long productId) {
+        return new ProductChangedEvent(Type.DELETED, productId, null, 0, null, null);
+    }
+
+    /**
+     * 재고 증감 이벤트 (delta: 증가는 양수, 감소는 음수)
+     */
+    public static ProductChangedEvent stockChanged(Long productId, int stockDelta) {
+        return new ProductChangedEvent(Type.STOCK_CHANGED, productId, null, stockDelta, null, null);
+    }
+
+    /**
+     * 벌크 변경 이벤트 (category가 null이면 전체 상품 대상)
+     */
+    public static ProductChangedEvent bulkChanged(Product.Category category) {
+        return new ProductChangedEvent(Type.BULK_CHANGED, null, null, 0, category, null);
+    }
+
+    /**
+     * 지정한 상품들의 재고가 한 번에 바뀐 벌크 변경 이벤트 (샤딩된 상품은 샤드에 이미 반영됨)
+     */
+    public static ProductChangedEvent stocksChanged(Collection<Long> productIds) {
+        return new ProductChangedEvent(Type.BULK_CHANGED, null, null, 0, null, List.copyOf(productIds));
+    }
+}
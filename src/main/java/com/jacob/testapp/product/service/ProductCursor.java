@@ -0,0 +1,61 @@
+package com.jacob.testapp.product.service;
+
+import com.jacob.testapp.product.repository.ProductSummary;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Optional;
+
+/**
+ * 상품 목록 커서 (상품명, ID)
+ * - 클라이언트에는 Base64 URL 인코딩된 불투명 문자열로 전달함
+ */
+@Getter
+public class ProductCursor {
+
+    private static final char SEPARATOR = ':';
+
+    private final String name;
+    private final Long id;
+
+    private ProductCursor(String name, Long id) {
+        this.name = name;
+        this.id = id;
+    }
+
+    /**
+     * 마지막으로 조회된 상품 기준 커서 생성
+     */
+    public static ProductCursor of(ProductSummary product) {
+        return new ProductCursor(product.getName(), product.getId());
+    }
+
+    /**
+     * 커서 문자열 해석 (형식이 잘못된 경우 빈 값)
+     */
+    public static Optional<ProductCursor> decode(String cursor) {
+        if (cursor == null || cursor.isEmpty()) {
+            return Optional.empty();
+        }
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separatorIndex = decoded.indexOf(SEPARATOR);
+            if (separatorIndex <= 0) {
+                return Optional.empty();
+            }
+            Long id = Long.valueOf(decoded.substring(0, separatorIndex));
+            return Optional.of(new ProductCursor(decoded.substring(separatorIndex + 1), id));
+        } catch (IllegalArgumentException e) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 커서 문자열 생성
+     */
+    public String encode() {
+        String raw = id + String.valueOf(SEPARATOR) + name;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
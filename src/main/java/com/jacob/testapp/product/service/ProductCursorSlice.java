@@ -0,0 +1,29 @@
+package com.jacob.testapp.product.service;
+
+import com.jacob.testapp.product.repository.ProductSummary;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+
+import java.util.List;
+
+/**
+ * 커서 기반 상품 목록 결과 (다음 페이지 커서 포함)
+ */
+public class ProductCursorSlice extends SliceImpl<ProductSummary> {
+
+    private final String nextCursor;
+
+    public ProductCursorSlice(List<ProductSummary> content, Pageable pageable, boolean hasNext) {
+        super(content, pageable, hasNext);
+        this.nextCursor = hasNext && !content.isEmpty()
+                ? ProductCursor.of(content.get(content.size() - 1)).encode()
+                : null;
+    }
+
+    /**
+     * 다음 페이지 조회용 커서 (마지막 페이지면 null)
+     */
+    public String getNextCursor() {
+        return nextCursor;
+    }
+}
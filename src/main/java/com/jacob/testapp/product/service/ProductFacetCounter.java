@@ -0,0 +1,249 @@
+package com.jacob.testapp.product.service;
+
+import com.jacob.testapp.product.entity.Product;
+import com.jacob.testapp.product.repository.ProductRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 상품 패싯 카운터
+ * - 카테고리별, 상태별, 품절 상품 수를 메모리에 유지하여 통계 조회를 O(1)로 처리함
+ * - 상품 변경 이벤트로 증분 갱신하고, 주기적으로 DB 기준으로 다시 맞춤
+ * - 재집계 중에는 이벤트 반영을 막아 교체될 집계에 반영되고 사라지는 일이 없도록 함 (이벤트끼리는 동시에 반영)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProductFacetCounter {
+
+    private final ProductRepository productRepository;
+
+    // 이벤트 반영(읽기 잠금)과 재집계(쓰기 잠금)를 서로 배제
+    private final ReentrantReadWriteLock rebuildLock = new ReentrantReadWriteLock();
+
+    private volatile Counts counts = new Counts();
+    private volatile boolean ready = false;
+
+    /**
+     * 애플리케이션 시작 시 집계
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        reconcile();
+    }
+
+    /**
+     * 주기적 보정 (서비스를 거치지 않은 변경 반영)
+     */
+    @Scheduled(fixedDelayString = "${app.product.facets.reconcile-interval-ms:300000}",
+               initialDelayString = "${app.product.facets.reconcile-interval-ms:300000}")
+    public void scheduledReconcile() {
+        reconcile();
+    }
+
+    /**
+     * DB 기준으로 전체 재집계
+     */
+    public synchronized void reconcile() {
+        long startTime = System.currentTimeMillis();
+        Counts newCounts = new Counts();
+        Counts previous;
+        rebuildLock.writeLock().lock();
+        try {
+            for (Object[] row : productRepository.findFacetRows()) {
+                newCounts.apply((Long) row[0], new FacetState(
+                        (Product.Category) row[1], (Product.Status) row[2], (Integer) row[3]));
+            }
+            previous = this.counts;
+            this.counts = newCounts;
+            this.ready = true;
+        } finally {
+            rebuildLock.writeLock().unlock();
+        }
+
+        if (previous.total.get() != newCounts.total.get() || previous.outOfStock.get() != newCounts.outOfStock.get()) {
+            log.info("상품 패싯 보정: 전체 {} → {}, 품절 {} → {}",
+                    previous.total.get(), newCounts.total.get(), previous.outOfStock.get(), newCounts.outOfStock.get());
+        }
+        log.debug("상품 패싯 집계 완료: 상품 {}개, 소요 시간: {}ms", newCounts.total.get(), System.currentTimeMillis() - startTime);
+    }
+
+    /**
+     * 상품 변경 이벤트 반영 (커밋 이후)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProductChanged(ProductChangedEvent event) {
+        if (!ready) {
+            return;
+        }
+        if (event.getType() == ProductChangedEvent.Type.BULK_CHANGED) {
+            reconcile();
+            return;
+        }
+        rebuildLock.readLock().lock();
+        try {
+            Counts current = this.counts;
+            switch (event.getType()) {
+                case SAVED -> {
+                    Product product = event.getProduct();
+                    current.apply(product.getId(),
+                            new FacetState(product.getCategory(), product.getStatus(), product.getStock()));
+                }
+                case DELETED -> current.apply(event.getProductId(), null);
+                case STOCK_CHANGED -> current.applyStockDelta(event.getProductId(), event.getStockDelta());
+                default -> {
+                    // 벌크 변경은 위에서 재집계함
+                }
+            }
+        } finally {
+            rebuildLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 전체 상품 수
+     */
+    public long countAll() {
+        return loadedCounts().total.get();
+    }
+
+    /**
+     * 상태별 상품 수
+     */
+    public long countByStatus(Product.Status status) {
+        return loadedCounts().byStatus.get(status.ordinal());
+    }
+
+    /**
+     * 카테고리별 상품 수
+     */
+    public long countByCategory(Product.Category category) {
+        return loadedCounts().byCategory.get(category.ordinal());
+    }
+
+    /**
+     * 품절(재고 0 이하) 상품 수
+     */
+    public long countOutOfStock() {
+        return loadedCounts().outOfStock.get();
+    }
+
+    /**
+     * 카테고리별 상품 수 (카테고리 선언 순서)
+     */
+    public Map<Product.Category, Long> getCategoryCounts() {
+        Counts current = loadedCounts();
+        Map<Product.Category, Long> categoryCounts = new EnumMap<>(Product.Category.class);
+        for (Product.Category category : Product.Category.values()) {
+            categoryCounts.put(category, current.byCategory.get(category.ordinal()));
+        }
+        return categoryCounts;
+    }
+
+    /**
+     * 통계 화면용 집계 결과 (기존 통계 API와 같은 키 사용)
+     */
+    public Map<String, Object> getStatistics() {
+        Counts current = loadedCounts();
+        Map<String, Object> statistics = new HashMap<>();
+        statistics.put("totalProducts", current.total.get());
+        statistics.put("activeProducts", current.byStatus.get(Product.Status.ACTIVE.ordinal()));
+        statistics.put("inactiveProducts", current.byStatus.get(Product.Status.INACTIVE.ordinal()));
+        statistics.put("outOfStockProducts", current.outOfStock.get());
+
+        Map<String, Long> productsByCategory = new LinkedHashMap<>();
+        for (Product.Category category : Product.Category.values()) {
+            productsByCategory.put(category.name(), current.byCategory.get(category.ordinal()));
+        }
+        statistics.put("productsByCategory", productsByCategory);
+        return statistics;
+    }
+
+    /**
+     * 시작 이벤트 전에 호출된 경우 먼저 집계
+     */
+    private Counts loadedCounts() {
+        if (!ready) {
+            reconcile();
+        }
+        return counts;
+    }
+
+    /**
+     * 상품별 패싯 상태
+     */
+    private record FacetState(Product.Category category, Product.Status status, int stock) {
+
+        private FacetState(Product.Category category, Product.Status status, Integer stock) {
+            this(category, status, stock == null ? 0 : stock.intValue());
+        }
+
+        private boolean outOfStock() {
+            return stock <= 0;
+        }
+    }
+
+    /**
+     * 집계 값과 상품별 상태
+     */
+    private static final class Counts {
+        private final Map<Long, FacetState> states = new ConcurrentHashMap<>();
+        private final AtomicLongArray byCategory = new AtomicLongArray(Product.Category.values().length);
+        private final AtomicLongArray byStatus = new AtomicLongArray(Product.Status.values().length);
+        private final AtomicLong outOfStock = new AtomicLong();
+        private final AtomicLong total = new AtomicLong();
+
+        /**
+         * 상품 상태 교체 (newState가 null이면 삭제)
+         */
+        private void apply(Long productId, FacetState newState) {
+            if (productId == null) {
+                return;
+            }
+            states.compute(productId, (id, oldState) -> {
+                adjust(oldState, -1);
+                adjust(newState, 1);
+                return newState;
+            });
+        }
+
+        /**
+         * 재고 증감 반영 (품절 여부가 바뀌는 경우만 카운트 변경)
+         */
+        private void applyStockDelta(Long productId, int delta) {
+            states.computeIfPresent(productId, (id, oldState) -> {
+                FacetState newState = new FacetState(oldState.category(), oldState.status(), oldState.stock() + delta);
+                if (oldState.outOfStock() != newState.outOfStock()) {
+                    outOfStock.addAndGet(newState.outOfStock() ? 1 : -1);
+                }
+                return newState;
+            });
+        }
+
+        private void adjust(FacetState state, int sign) {
+            if (state == null) {
+                return;
+            }
+            total.addAndGet(sign);
+            byCategory.addAndGet(state.category().ordinal(), sign);
+            byStatus.addAndGet(state.status().ordinal(), sign);
+            if (state.outOfStock()) {
+                outOfStock.addAndGet(sign);
+            }
+        }
+    }
+}
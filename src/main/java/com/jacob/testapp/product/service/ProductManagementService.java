@@ -2,8 +2,10 @@ package com.jacob.testapp.product.service;
 
 import com.jacob.testapp.product.entity.Product;
 import com.jacob.testapp.product.repository.ProductRepository;
+import com.jacob.testapp.product.repository.ProductSummary;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
@@ -13,7 +15,6 @@ import org.springframework.util.StringUtils;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -23,6 +24,9 @@ import java.util.Map;
 public class ProductManagementService {
 
     private final ProductRepository productRepository;
+    private final ProductFacetCounter productFacetCounter;
+    private final InventoryMovementLog inventoryMovementLog;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 상품 저장 (생성/수정)
@@ -43,7 +47,9 @@ public class ProductManagementService {
         
         product.setUpdatedAt(LocalDateTime.now());
         log.info("상품 저장: {}", product.getName());
-        return productRepository.save(product);
+        Product savedProduct = productRepository.save(product);
+        eventPublisher.publishEvent(ProductChangedEvent.saved(savedProduct));
+        return savedProduct;
     }
 
     /**
@@ -54,54 +60,24 @@ public class ProductManagementService {
         productRepository.findById(id).ifPresent(product -> {
             log.info("상품 삭제: {} (ID: {})", product.getName(), product.getId());
             productRepository.delete(product);
+            eventPublisher.publishEvent(ProductChangedEvent.deleted(id));
         });
     }
 
     /**
-     * 상품 검색 (키워드, 카테고리, 상태 필터링)
+     * 상품 검색 (키워드, 카테고리, 상태 필터링) - 관리자 목록 화면용 projection
      */
     @Transactional(readOnly = true)
-    public Page<Product> searchProducts(String keyword, Product.Category category, Product.Status status, Pageable pageable) {
-        return findProductsWithSpecification(keyword, category, status, pageable);
+    public Page<ProductSummary> searchProducts(String keyword, Product.Category category, Product.Status status, Pageable pageable) {
+        String keywordPattern = StringUtils.hasText(keyword) ? "%" + keyword.toLowerCase() + "%" : null;
+        return productRepository.searchSummaries(keywordPattern, category, status, pageable);
     }
 
     /**
-     * 상품 통계 정보 조회
+     * 상품 통계 정보 조회 (메모리 패싯 카운터 사용)
      */
-    @Transactional(readOnly = true)
     public Map<String, Object> getProductStatistics() {
-        Map<String, Object> statistics = new HashMap<>();
-        
-        // 전체 상품 수
-        long totalProducts = productRepository.count();
-        statistics.put("totalProducts", totalProducts);
-        
-        // 활성 상품 수
-        Specification<Product> activeSpec = createStatusSpecification(Product.Status.ACTIVE);
-        long activeProducts = productRepository.count(activeSpec);
-        statistics.put("activeProducts", activeProducts);
-        
-        // 비활성 상품 수
-        Specification<Product> inactiveSpec = createStatusSpecification(Product.Status.INACTIVE);
-        long inactiveProducts = productRepository.count(inactiveSpec);
-        statistics.put("inactiveProducts", inactiveProducts);
-        
-        // 재고 없는 상품 수
-        Specification<Product> outOfStockSpec = (root, query, criteriaBuilder) -> 
-            criteriaBuilder.lessThanOrEqualTo(root.get("stock"), 0);
-        long outOfStockProducts = productRepository.count(outOfStockSpec);
-        statistics.put("outOfStockProducts", outOfStockProducts);
-        
-        // 카테고리별 상품 수
-        Map<String, Long> productsByCategory = new HashMap<>();
-        for (Product.Category category : Product.Category.values()) {
-            Specification<Product> categorySpec = createCategorySpecification(category);
-            long count = productRepository.count(categorySpec);
-            productsByCategory.put(category.name(), count);
-        }
-        statistics.put("productsByCategory", productsByCategory);
-        
-        return statistics;
+        return productFacetCounter.getStatistics();
     }
 
     /**
@@ -153,7 +129,9 @@ public class ProductManagementService {
      */
     @Transactional(readOnly = true)
     public long countProductsWithLowStock(int threshold) {
-        return productRepository.countByStockLessThanEqual(threshold);
+        // 재고 이동 로그가 유지하는 재고 부족 집합으로 답하고, 기준을 넘는 값만 DB에서 셈
+        return inventoryMovementLog.countLowStock(threshold)
+                .orElseGet(() -> productRepository.countByStockLessThanEqual(threshold));
     }
 
     /**
@@ -162,9 +140,8 @@ public class ProductManagementService {
      * @param status 상품 상태
      * @return 해당 상태의 상품 수
      */
-    @Transactional(readOnly = true)
     public long countProductsByStatus(Product.Status status) {
-        return productRepository.countByStatus(status);
+        return productFacetCounter.countByStatus(status);
     }
 
     /**
@@ -173,9 +150,8 @@ public class ProductManagementService {
      * @param category 상품 카테고리
      * @return 해당 카테고리의 상품 수
      */
-    @Transactional(readOnly = true)
     public long countProductsByCategory(Product.Category category) {
-        return productRepository.countByCategory(category);
+        return productFacetCounter.countByCategory(category);
     }
 
     /**
@@ -0,0 +1,120 @@
+package com.jacob.testapp.product.service;
+
+import com.jacob.testapp.common.money.Money;
+import com.jacob.testapp.product.entity.Product;
+import com.jacob.testapp.product.repository.ProductRepository;
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 상품 가격대 히스토그램
+ * - 가격은 최소 단위(1/100원) long 값으로 비교하며, 구간 경계는 설정으로 지정함
+ * - (가격, 카테고리, 상태, 품절 여부)로 그룹핑된 집계 행을 한 번만 순회해 가격대/카테고리/상태/품절 수를 함께 계산함
+ */
+@Component
+public class ProductPriceHistogram {
+
+    private final ProductRepository productRepository;
+    private final long[] edges;
+    private final String[] labels;
+
+    public ProductPriceHistogram(ProductRepository productRepository,
+                                 @Value("${app.product.price-histogram.edges:5000,10000,15000,20000,25000,30000,40000,50000}")
+                                 long[] edgesInWon) {
+        if (edgesInWon.length == 0) {
+            throw new IllegalArgumentException("가격대 구간 경계가 비어 있습니다");
+        }
+        long[] sorted = edgesInWon.clone();
+        Arrays.sort(sorted);
+        for (int i = 1; i < sorted.length; i++) {
+            if (sorted[i] == sorted[i - 1]) {
+                throw new IllegalArgumentException("가격대 구간 경계가 중복되었습니다: " + sorted[i]);
+            }
+        }
+
+        this.productRepository = productRepository;
+        this.edges = new long[sorted.length];
+        this.labels = new String[sorted.length + 1];
+        long lower = 0;
+        for (int i = 0; i < sorted.length; i++) {
+            edges[i] = Money.toMinor(BigDecimal.valueOf(sorted[i]));
+            labels[i] = lower + "-" + sorted[i];
+            lower = sorted[i];
+        }
+        labels[sorted.length] = lower + "+";
+    }
+
+    /**
+     * 전체 상품 히스토그램 계산 (집계 쿼리 1회 + 단일 순회)
+     */
+    public Result compute() {
+        long[] bucketCounts = new long[labels.length];
+        long[] categoryCounts = new long[Product.Category.values().length];
+        long total = 0;
+        long active = 0;
+        long outOfStock = 0;
+
+        for (Object[] row : productRepository.findPriceHistogramRows()) {
+            long count = ((Number) row[4]).longValue();
+            bucketCounts[bucketOf(Money.toMinor((BigDecimal) row[0]))] += count;
+            categoryCounts[((Product.Category) row[1]).ordinal()] += count;
+            if (row[2] == Product.Status.ACTIVE) {
+                active += count;
+            }
+            if (((Number) row[3]).intValue() == 1) {
+                outOfStock += count;
+            }
+            total += count;
+        }
+
+        Map<String, Long> priceRanges = new LinkedHashMap<>();
+        for (int i = 0; i < labels.length; i++) {
+            priceRanges.put(labels[i], bucketCounts[i]);
+        }
+        Map<Product.Category, Long> byCategory = new EnumMap<>(Product.Category.class);
+        for (Product.Category category : Product.Category.values()) {
+            if (categoryCounts[category.ordinal()] > 0) {
+                byCategory.put(category, categoryCounts[category.ordinal()]);
+            }
+        }
+        return new Result(total, active, outOfStock, priceRanges, byCategory);
+    }
+
+    /**
+     * 가격이 속한 구간 번호 (경계값은 위 구간에 포함)
+     */
+    private int bucketOf(long priceInMinorUnits) {
+        int index = Arrays.binarySearch(edges, priceInMinorUnits);
+        return index >= 0 ? index + 1 : -index - 1;
+    }
+
+    /**
+     * 히스토그램 계산 결과
+     */
+    @Getter
+    public static class Result {
+        private final long totalProducts;
+        private final long activeProducts;
+        private final long inactiveProducts;
+        private final long outOfStockProducts;
+        private final Map<String, Long> productsByPriceRange;
+        private final Map<Product.Category, Long> productsByCategory;
+
+        private Result(long totalProducts, long activeProducts, long outOfStockProducts,
+                       Map<String, Long> productsByPriceRange, Map<Product.Category, Long> productsByCategory) {
+            this.totalProducts = totalProducts;
+            this.activeProducts = activeProducts;
+            this.inactiveProducts = totalProducts - activeProducts;
+            this.outOfStockProducts = outOfStockProducts;
+            this.productsByPriceRange = productsByPriceRange;
+            this.productsByCategory = productsByCategory;
+        }
+    }
+}
@@ -0,0 +1,263 @@
+package com.jacob.testapp.product.service;
+
+import com.jacob.testapp.product.entity.Product;
+import com.jacob.testapp.product.repository.ProductRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 상품명 검색 인덱스
+ * - 상품명을 2글자 단위(bigram)로 잘라 역색인을 메모리에 유지함
+ * - 한글은 음절 단위로 자르며, NFC 정규화로 자모가 분리된 입력도 같은 음절로 매칭됨
+ * - 후보는 역색인으로 좁히고 실제 포함 여부로 검증하므로 LIKE '%name%'와 같은 결과를 반환함
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProductSearchIndex {
+
+    private static final int GRAM_SIZE = 2;
+    private static final Comparator<IndexedProduct> BY_ID = Comparator.comparing(document -> document.id);
+    private static final Comparator<IndexedProduct> BY_NAME =
+            Comparator.comparing(document -> document.name, String.CASE_INSENSITIVE_ORDER);
+
+    private final ProductRepository productRepository;
+
+    private volatile Map<String, Set<Long>> postings = new ConcurrentHashMap<>();
+    private volatile Map<Long, IndexedProduct> documents = new ConcurrentHashMap<>();
+    private volatile boolean ready = false;
+
+    /**
+     * 애플리케이션 시작 시 인덱스 생성
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        rebuild();
+    }
+
+    /**
+     * 상품 변경 이벤트 반영 (커밋 이후)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProductChanged(ProductChangedEvent event) {
+        switch (event.getType()) {
+            case SAVED -> index(event.getProduct());
+            case DELETED -> remove(event.getProductId());
+            case BULK_CHANGED -> rebuild();
+            default -> {
+                // 재고 변경은 검색 결과에 영향 없음
+            }
+        }
+    }
+
+    /**
+     * DB 기준으로 인덱스 전체 재생성
+     */
+    public synchronized void rebuild() {
+        long startTime = System.currentTimeMillis();
+        Map<String, Set<Long>> newPostings = new ConcurrentHashMap<>();
+        Map<Long, IndexedProduct> newDocuments = new ConcurrentHashMap<>();
+
+        for (Object[] row : productRepository.findSearchIndexRows()) {
+            IndexedProduct document = new IndexedProduct(
+                    (Long) row[0], (String) row[1], (Product.Category) row[2], (Product.Status) row[3]);
+            newDocuments.put(document.id, document);
+            addPostings(newPostings, document);
+        }
+
+        this.postings = newPostings;
+        this.documents = newDocuments;
+        this.ready = true;
+        log.info("상품 검색 인덱스 생성 완료: 상품 {}개, bigram {}개, 소요 시간: {}ms",
+                newDocuments.size(), newPostings.size(), System.currentTimeMillis() - startTime);
+    }
+
+    /**
+     * 상품 색인 (신규 또는 변경)
+     */
+    public synchronized void index(Product product) {
+        if (product == null || product.getId() == null) {
+            return;
+        }
+        remove(product.getId());
+        IndexedProduct document = new IndexedProduct(
+                product.getId(), product.getName(), product.getCategory(), product.getStatus());
+        documents.put(document.id, document);
+        addPostings(postings, document);
+    }
+
+    /**
+     * 상품 색인 제거
+     */
+    public synchronized void remove(Long productId) {
+        IndexedProduct removed = documents.remove(productId);
+        if (removed == null) {
+            return;
+        }
+        for (String gram : grams(removed.normalizedName)) {
+            Set<Long> ids = postings.get(gram);
+            if (ids != null) {
+                ids.remove(productId);
+                if (ids.isEmpty()) {
+                    postings.remove(gram, ids);
+                }
+            }
+        }
+    }
+
+    /**
+     * 인덱스 사용 가능 여부
+     */
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * 인덱스로 처리할 수 있는 정렬인지 확인 (상품명, ID 정렬만 지원)
+     */
+    public boolean supports(Sort sort) {
+        for (Sort.Order order : sort) {
+            if (!"name".equals(order.getProperty()) && !"id".equals(order.getProperty())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 상품명 검색
+     *
+     * @param keyword 검색어
+     * @param status 상품 상태 (null이면 전체)
+     * @param category 상품 카테고리 (null이면 전체)
+     * @param sort 정렬 조건 (상품명, ID)
+     * @return 정렬된 상품 ID 목록
+     */
+    public List<Long> search(String keyword, Product.Status status, Product.Category category, Sort sort) {
+        String query = normalize(keyword);
+        Map<Long, IndexedProduct> currentDocuments = this.documents;
+
+        List<IndexedProduct> matches = new ArrayList<>();
+        for (IndexedProduct document : findCandidates(query, currentDocuments)) {
+            if (document.normalizedName.contains(query)
+                    && (status == null || document.status == status)
+                    && (category == null || document.category == category)) {
+                matches.add(document);
+            }
+        }
+
+        matches.sort(comparator(sort));
+
+        List<Long> ids = new ArrayList<>(matches.size());
+        for (IndexedProduct document : matches) {
+            ids.add(document.id);
+        }
+        return ids;
+    }
+
+    /**
+     * 검색 후보 조회 - 검색어의 bigram 중 가장 적은 상품을 가진 목록을 기준으로 함
+     */
+    private Collection<IndexedProduct> findCandidates(String query, Map<Long, IndexedProduct> currentDocuments) {
+        if (query.length() < GRAM_SIZE) {
+            return currentDocuments.values();
+        }
+
+        Set<Long> smallest = null;
+        for (String gram : grams(query)) {
+            Set<Long> ids = postings.get(gram);
+            if (ids == null) {
+                return List.of();
+            }
+            if (smallest == null || ids.size() < smallest.size()) {
+                smallest = ids;
+            }
+        }
+
+        List<IndexedProduct> candidates = new ArrayList<>(smallest.size());
+        for (Long id : smallest) {
+            IndexedProduct document = currentDocuments.get(id);
+            if (document != null) {
+                candidates.add(document);
+            }
+        }
+        return candidates;
+    }
+
+    /**
+     * Sort 조건을 비교자로 변환 (동일 값은 ID 순)
+     */
+    private Comparator<IndexedProduct> comparator(Sort sort) {
+        Comparator<IndexedProduct> comparator = null;
+        for (Sort.Order order : sort) {
+            Comparator<IndexedProduct> next = "id".equals(order.getProperty()) ? BY_ID : BY_NAME;
+            if (order.isDescending()) {
+                next = next.reversed();
+            }
+            comparator = comparator == null ? next : comparator.thenComparing(next);
+        }
+        return comparator == null ? BY_ID : comparator.thenComparing(BY_ID);
+    }
+
+    private static void addPostings(Map<String, Set<Long>> target, IndexedProduct document) {
+        for (String gram : grams(document.normalizedName)) {
+            target.computeIfAbsent(gram, key -> ConcurrentHashMap.newKeySet()).add(document.id);
+        }
+    }
+
+    /**
+     * 문자열을 bigram 집합으로 분리
+     */
+    private static Set<String> grams(String text) {
+        Set<String> grams = new HashSet<>();
+        for (int i = 0; i + GRAM_SIZE <= text.length(); i++) {
+            grams.add(text.substring(i, i + GRAM_SIZE));
+        }
+        return grams;
+    }
+
+    /**
+     * 검색용 정규화 (NFC 결합 + 소문자)
+     */
+    private static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        return Normalizer.normalize(text, Normalizer.Form.NFC).toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * 인덱스에 보관하는 상품 정보
+     */
+    private static final class IndexedProduct {
+        private final Long id;
+        private final String name;
+        private final String normalizedName;
+        private final Product.Category category;
+        private final Product.Status status;
+
+        private IndexedProduct(Long id, String name, Product.Category category, Product.Status status) {
+            this.id = id;
+            this.name = name == null ? "" : name;
+            this.normalizedName = normalize(name);
+            this.category = category;
+            this.status = status;
+        }
+    }
+}
@@ -2,15 +2,29 @@ package com.jacob.testapp.product.service;
 
 import com.jacob.testapp.product.entity.Product;
 import com.jacob.testapp.product.repository.ProductRepository;
+import com.jacob.testapp.product.repository.ProductSummary;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.SortedMap;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 /**
  * 상품 서비스
@@ -19,11 +33,30 @@ import java.util.concurrent.TimeUnit;
 @Transactional(readOnly = true)
 public class ProductService {
 
+    private static final String BATCH_DECREASE_SQL = "UPDATE products SET stock = stock - ? WHERE id = ?";
+
     private final ProductRepository productRepository;
+    private final ProductSearchIndex productSearchIndex;
+    private final ProductCache productCache;
+    private final LatestProductsFeed latestProductsFeed;
+    private final StockLedger stockLedger;
+    private final ProductStockShardService stockShardService;
+    private final JdbcTemplate jdbcTemplate;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Autowired
-    public ProductService(ProductRepository productRepository) {
+    public ProductService(ProductRepository productRepository, ProductSearchIndex productSearchIndex,
+                          ProductCache productCache, LatestProductsFeed latestProductsFeed,
+                          StockLedger stockLedger, ProductStockShardService stockShardService,
+                          JdbcTemplate jdbcTemplate, ApplicationEventPublisher eventPublisher) {
         this.productRepository = productRepository;
+        this.productSearchIndex = productSearchIndex;
+        this.productCache = productCache;
+        this.latestProductsFeed = latestProductsFeed;
+        this.stockLedger = stockLedger;
+        this.stockShardService = stockShardService;
+        this.jdbcTemplate = jdbcTemplate;
+        this.eventPublisher = eventPublisher;
     }
 
     /**
@@ -41,17 +74,33 @@ public class ProductService {
     }
 
     /**
-     * 활성 상품 목록 조회
+     * 활성 상품 목록 조회 (목록 화면용 projection)
      */
-    public Page<Product> findActiveProducts(Pageable pageable) {
-        return productRepository.findByStatus(Product.Status.ACTIVE, pageable);
+    public Page<ProductSummary> findActiveProducts(Pageable pageable) {
+        return productRepository.findSummariesByStatus(Product.Status.ACTIVE, pageable);
+    }
+
+    /**
+     * 상품 목록 화면 조회 (목록 화면용 projection, 이름/카테고리 조건은 선택)
+     */
+    public Page<ProductSummary> findProductSummaries(String name, Product.Category category, Pageable pageable) {
+        if (name != null && !name.isEmpty()) {
+            return searchByName(name, null, category, pageable, this::findSummariesByIdInOrder,
+                    () -> productRepository.searchSummaries(
+                            "%" + name.toLowerCase() + "%", category, null, pageable));
+        }
+        if (category != null) {
+            return productRepository.findSummariesByCategory(category, pageable);
+        }
+        return productRepository.findSummaries(pageable);
     }
 
     /**
      * 이름으로 상품 검색
      */
     public Page<Product> findByNameContaining(String name, Pageable pageable) {
-        return productRepository.findByNameContaining(name, pageable);
+        return searchByName(name, null, null, pageable,
+                () -> productRepository.findByNameContaining(name, pageable));
     }
 
     /**
@@ -65,14 +114,16 @@ public class ProductService {
      * 이름과 카테고리로 상품 검색
      */
     public Page<Product> findByNameContainingAndCategory(String name, Product.Category category, Pageable pageable) {
-        return productRepository.findByNameContainingAndCategory(name, category, pageable);
+        return searchByName(name, null, category, pageable,
+                () -> productRepository.findByNameContainingAndCategory(name, category, pageable));
     }
 
     /**
      * 활성 상품만 검색 (이름 기준)
      */
     public Page<Product> searchActiveProducts(String name, Pageable pageable) {
-        return productRepository.findByStatusAndNameContaining(Product.Status.ACTIVE, name, pageable);
+        return searchByName(name, Product.Status.ACTIVE, null, pageable,
+                () -> productRepository.findByStatusAndNameContaining(Product.Status.ACTIVE, name, pageable));
     }
 
     /**
@@ -86,14 +137,106 @@ public class ProductService {
      * 활성 상품만 검색 (이름, 카테고리 기준)
      */
     public Page<Product> searchActiveProductsByNameAndCategory(String name, Product.Category category, Pageable pageable) {
-        return productRepository.findByStatusAndNameContainingAndCategory(Product.Status.ACTIVE, name, category, pageable);
+        return searchByName(name, Product.Status.ACTIVE, category, pageable,
+                () -> productRepository.findByStatusAndNameContainingAndCategory(Product.Status.ACTIVE, name, category, pageable));
+    }
+
+    /**
+     * 검색 인덱스를 이용한 상품명 검색
+     * - 인덱스에서 조건에 맞는 ID를 정렬된 순서로 구한 뒤 현재 페이지의 상품만 조회함
+     * - 인덱스가 준비되지 않았거나 지원하지 않는 정렬이면 DB 검색(fallback)을 사용함
+     */
+    private Page<Product> searchByName(String name, Product.Status status, Product.Category category,
+                                       Pageable pageable, Supplier<Page<Product>> fallback) {
+        return searchByName(name, status, category, pageable, this::findAllByIdInOrder, fallback);
+    }
+
+    private <T> Page<T> searchByName(String name, Product.Status status, Product.Category category, Pageable pageable,
+                                     Function<List<Long>, List<T>> loader, Supplier<Page<T>> fallback) {
+        if (!productSearchIndex.isReady() || !productSearchIndex.supports(pageable.getSort())) {
+            return fallback.get();
+        }
+
+        List<Long> ids = productSearchIndex.search(name, status, category, pageable.getSort());
+        List<Long> pageIds = ids;
+        if (pageable.isPaged()) {
+            int from = (int) Math.min(pageable.getOffset(), ids.size());
+            int to = Math.min(from + pageable.getPageSize(), ids.size());
+            pageIds = ids.subList(from, to);
+        }
+
+        return new PageImpl<>(loader.apply(pageIds), pageable, ids.size());
+    }
+
+    /**
+     * ID 목록 순서대로 상품 조회 (그 사이 삭제된 상품은 제외)
+     */
+    private List<Product> findAllByIdInOrder(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        return inIdOrder(ids, productRepository.findAllById(ids), Product::getId);
     }
 
     /**
-     * ID로 상품 조회
+     * ID 목록 순서대로 목록 projection 조회 (그 사이 삭제된 상품은 제외)
      */
+    private List<ProductSummary> findSummariesByIdInOrder(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        return inIdOrder(ids, productRepository.findSummariesByIdIn(ids), ProductSummary::getId);
+    }
+
+    private static <T> List<T> inIdOrder(List<Long> ids, List<T> rows, Function<T, Long> idOf) {
+        Map<Long, T> rowsById = rows.stream()
+                .collect(Collectors.toMap(idOf, Function.identity()));
+
+        List<T> ordered = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            T row = rowsById.get(id);
+            if (row != null) {
+                ordered.add(row);
+            }
+        }
+        return ordered;
+    }
+
+    /**
+     * 커서 기반 상품 목록 조회 (상품명, ID 기준 seek)
+     * - OFFSET/COUNT 없이 커서 이후 행만 읽으므로 깊은 페이지도 조회 비용이 같음
+     *
+     * @param cursor 이전 페이지의 다음 커서 (null 또는 빈 값이면 첫 페이지)
+     * @param category 상품 카테고리 (null이면 전체)
+     * @param size 페이지 크기
+     * @return 상품 목록과 다음 커서
+     */
+    public ProductCursorSlice findProductsByCursor(String cursor, Product.Category category, int size) {
+        Pageable pageable = PageRequest.of(0, size);
+        // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회
+        Pageable limit = PageRequest.of(0, size + 1);
+
+        List<ProductSummary> rows = ProductCursor.decode(cursor)
+                .map(position -> category == null
+                        ? productRepository.findAfterOrderByNameAndId(position.getName(), position.getId(), limit)
+                        : productRepository.findAfterByCategoryOrderByNameAndId(
+                                category, position.getName(), position.getId(), limit))
+                .orElseGet(() -> category == null
+                        ? productRepository.findFirstOrderByNameAndId(limit)
+                        : productRepository.findFirstByCategoryOrderByNameAndId(category, limit));
+
+        boolean hasNext = rows.size() > size;
+        List<ProductSummary> content = hasNext ? rows.subList(0, size) : rows;
+        return new ProductCursorSlice(content, pageable, hasNext);
+    }
+
+    /**
+     * ID로 상품 조회 (near cache 사용, 반환값은 준영속 복사본)
+     * - 캐시 적중 시 커넥션을 잡지 않도록 트랜잭션을 새로 시작하지 않음
+     */
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public Product findById(Long id) {
-        return productRepository.findById(id)
+        return productCache.findById(id)
                 .orElseThrow(() -> new IllegalArgumentException("상품을 찾을 수 없습니다. ID: " + id));
     }
 
@@ -126,10 +269,11 @@ public class ProductService {
     }
 
     /**
-     * 최근 추가된 상품 조회
+     * 최근 추가된 상품 조회 (메모리 피드, 읽기 전용)
      */
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public List<Product> findLatestProducts() {
-        return productRepository.findTop5ByOrderByCreatedAtDesc();
+        return latestProductsFeed.getLatestProducts();
     }
 
     /**
@@ -137,7 +281,9 @@ public class ProductService {
      */
     @Transactional
     public Product save(Product product) {
-        return productRepository.save(product);
+        Product savedProduct = productRepository.save(product);
+        eventPublisher.publishEvent(ProductChangedEvent.saved(savedProduct));
+        return savedProduct;
     }
 
     /**
@@ -145,14 +291,28 @@ public class ProductService {
      */
     @Transactional
     public boolean decreaseStock(Long productId, int quantity) {
-        // 먼저 최적화된 쿼리로 시도
-        int affected = productRepository.decreaseStock(productId, quantity);
-        if (affected > 0) {
-            return true;
+        // 재고 원장이 켜져 있으면 메모리 카운터에서 차감 (DB 반영은 원장이 일괄 처리)
+        if (stockLedger.isActive()) {
+            boolean decreased = stockLedger.tryDecrease(productId, quantity);
+            if (decreased) {
+                eventPublisher.publishEvent(ProductChangedEvent.stockChanged(productId, -quantity));
+            }
+            return decreased;
         }
-        
-        // 실패하면 비관적 락을 사용하여 재시도
-        return findAndDecreaseStock(productId, quantity);
+
+        boolean decreased;
+        if (stockShardService.isSharded(productId)) {
+            // 재고 샤드가 있는 상품은 샤드 행에서 차감
+            decreased = stockShardService.tryDecrease(productId, quantity);
+        } else {
+            // 먼저 최적화된 쿼리로 시도하고, 실패하면 비관적 락을 사용하여 재시도
+            decreased = productRepository.decreaseStock(productId, quantity) > 0
+                    || findAndDecreaseStock(productId, quantity);
+        }
+        if (decreased) {
+            eventPublisher.publishEvent(ProductChangedEvent.stockChanged(productId, -quantity));
+        }
+        return decreased;
     }
     
     /**
@@ -178,14 +338,156 @@ public class ProductService {
      */
     @Transactional
     public boolean increaseStock(Long productId, int quantity) {
-        try {
-            Product product = findById(productId);
-            product.increaseStock(quantity);
-            productRepository.save(product);
-            return true;
-        } catch (Exception e) {
+        if (quantity < 0) {
             return false;
         }
+        
+        // 조회 후 저장하지 않고 UPDATE 쿼리로 증가 (캐시된 재고 기준으로 덮어쓰지 않도록)
+        boolean increased;
+        if (stockLedger.isActive()) {
+            increased = stockLedger.increase(productId, quantity);
+        } else if (stockShardService.isSharded(productId)) {
+            increased = stockShardService.increase(productId, quantity);
+        } else {
+            increased = productRepository.increaseStock(productId, quantity) > 0;
+        }
+        if (increased) {
+            eventPublisher.publishEvent(ProductChangedEvent.stockChanged(productId, quantity));
+        }
+        return increased;
+    }
+
+    /**
+     * 주문 전체 재고 일괄 차감 (상품 ID 순으로 처리)
+     * - 일반 상품은 ID 순으로 한 번에 행을 잠가 재고를 확인한 뒤 JDBC 배치 UPDATE 1회로 차감함
+     * - 재고 원장/재고 샤드 대상 상품은 각각의 차감 경로를 사용함
+     * - 하나라도 부족하면 아무것도 차감하지 않고 부족한 상품 목록을 반환함 (빈 목록이면 전체 차감 성공)
+     */
+    @Transactional
+    public List<StockShortfall> decreaseStocks(SortedMap<Long, Integer> quantities) {
+        List<StockShortfall> shortfalls = new ArrayList<>();
+        Map<Long, Integer> rowQuantities = new HashMap<>();
+        Map<Long, Integer> routedQuantities = new HashMap<>();
+        for (Map.Entry<Long, Integer> entry : quantities.entrySet()) {
+            if (entry.getValue() <= 0) {
+                throw new IllegalArgumentException("차감 수량은 1 이상이어야 합니다: " + entry.getKey());
+            }
+            if (stockLedger.isActive() || stockShardService.isSharded(entry.getKey())) {
+                routedQuantities.put(entry.getKey(), entry.getValue());
+            } else {
+                rowQuantities.put(entry.getKey(), entry.getValue());
+            }
+        }
+
+        // 일반 상품: ID 순 행 잠금 후 재고 확인
+        if (!rowQuantities.isEmpty()) {
+            Map<Long, Integer> available = new HashMap<>();
+            for (Object[] row : productRepository.findStockRowsForUpdate(rowQuantities.keySet())) {
+                available.put(((Number) row[0]).longValue(), ((Number) row[1]).intValue());
+            }
+            rowQuantities.forEach((productId, quantity) -> {
+                int stock = available.getOrDefault(productId, 0);
+                if (stock < quantity) {
+                    shortfalls.add(new StockShortfall(productId, quantity, stock));
+                }
+            });
+        }
+
+        // 재고 원장/샤드 상품: 개별 차감 후 부족분이 생기면 되돌림
+        List<Long> decreased = new ArrayList<>();
+        List<Long> missing = new ArrayList<>();
+        if (shortfalls.isEmpty()) {
+            for (Map.Entry<Long, Integer> entry : quantities.entrySet()) {
+                Long productId = entry.getKey();
+                if (!routedQuantities.containsKey(productId)) {
+                    continue;
+                }
+                boolean taken = stockLedger.isActive()
+                        ? stockLedger.tryDecrease(productId, entry.getValue())
+                        : stockShardService.tryDecrease(productId, entry.getValue());
+                if (taken) {
+                    decreased.add(productId);
+                } else {
+                    missing.add(productId);
+                }
+            }
+        }
+        if (!missing.isEmpty()) {
+            for (Long productId : decreased) {
+                if (stockLedger.isActive()) {
+                    stockLedger.increase(productId, quantities.get(productId));
+                } else {
+                    stockShardService.increase(productId, quantities.get(productId));
+                }
+            }
+            shortfalls.addAll(toShortfalls(missing, quantities));
+        }
+        if (!shortfalls.isEmpty()) {
+            shortfalls.sort(Comparator.comparing(StockShortfall::productId));
+            return shortfalls;
+        }
+
+        // 잠근 행을 배치 UPDATE 1회로 차감
+        if (!rowQuantities.isEmpty()) {
+            List<Object[]> arguments = new ArrayList<>(rowQuantities.size());
+            quantities.forEach((productId, quantity) -> {
+                if (rowQuantities.containsKey(productId)) {
+                    arguments.add(new Object[]{quantity, productId});
+                }
+            });
+            jdbcTemplate.batchUpdate(BATCH_DECREASE_SQL, arguments);
+        }
+        quantities.forEach((productId, quantity) ->
+                eventPublisher.publishEvent(ProductChangedEvent.stockChanged(productId, -quantity)));
+        return shortfalls;
+    }
+
+    /**
+     * 재고 원장/샤드 차감 실패 상품의 부족 정보 (가용 재고는 조회 시점 기준)
+     */
+    private List<StockShortfall> toShortfalls(List<Long> productIds, Map<Long, Integer> quantities) {
+        Map<Long, Integer> available = new HashMap<>();
+        for (Object[] row : productRepository.findStockRowsByIdIn(productIds)) {
+            available.put((Long) row[0], ((Number) row[1]).intValue());
+        }
+        available.putAll(stockShardService.findShardTotals(productIds));
+        List<StockShortfall> shortfalls = new ArrayList<>(productIds.size());
+        for (Long productId : productIds) {
+            int stock = stockLedger.getAvailable(productId).orElse(available.getOrDefault(productId, 0));
+            shortfalls.add(new StockShortfall(productId, quantities.get(productId), stock));
+        }
+        return shortfalls;
+    }
+
+    /**
+     * 단일 상품 재고 변경 (재고 샤드가 있으면 샤드에 재분배)
+     */
+    @Transactional
+    public Product updateStock(Long productId, int stock) {
+        if (stock < 0) {
+            throw new IllegalArgumentException("재고는 0 이상이어야 합니다");
+        }
+        Product product = productRepository.findById(productId)
+                .orElseThrow(() -> new IllegalArgumentException("상품을 찾을 수 없습니다: " + productId));
+        if (stockShardService.isSharded(productId)) {
+            stockShardService.rebalance(productId, stock);
+        }
+        product.setStock(stock);
+        product = productRepository.save(product);
+        eventPublisher.publishEvent(ProductChangedEvent.saved(product));
+        return product;
+    }
+
+    /**
+     * 카테고리별 재고 일괄 변경
+     */
+    @Transactional
+    public int updateStockByCategory(Product.Category category, int stock) {
+        // 트랜잭션이 끝날 때(샤드 재분배 이후)까지 샤드 합계 동기화를 막음
+        stockShardService.lockForBulkChange();
+        int affected = productRepository.updateStockByCategory(category, stock);
+        eventPublisher.publishEvent(ProductChangedEvent.bulkChanged(category));
+        return affected;
     }
 
     /**
@@ -194,6 +496,7 @@ public class ProductService {
     @Transactional
     public void delete(Long id) {
         productRepository.deleteById(id);
+        eventPublisher.publishEvent(ProductChangedEvent.deleted(id));
     }
 
     /**
@@ -201,9 +504,12 @@ public class ProductService {
      */
     @Transactional
     public Product updateStatus(Long id, Product.Status status) {
-        Product product = findById(id);
+        Product product = productRepository.findById(id)
+                .orElseThrow(() -> new IllegalArgumentException("상품을 찾을 수 없습니다. ID: " + id));
         product.setStatus(status);
-        return productRepository.save(product);
+        Product savedProduct = productRepository.save(product);
+        eventPublisher.publishEvent(ProductChangedEvent.saved(savedProduct));
+        return savedProduct;
     }
 
     /**
@@ -0,0 +1,368 @@
+package com.jacob.testapp.product.service;
+
+import com.jacob.testapp.product.entity.Product;
+import com.jacob.testapp.product.entity.ProductStockShard;
+import com.jacob.testapp.product.repository.ProductRepository;
+import com.jacob.testapp.product.repository.ProductStockShardRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 상품 재고 샤드 서비스 (선택 기능, app.inventory.shards.enabled)
+ * - 샤딩된 상품의 재고는 product_stock_shards의 N개 행에 나눠 저장하고, 차감 시 임의의 샤드부터 시도함
+ * - 차감은 다른 트랜잭션이 잠근 샤드를 기다리지 않고 건너뜀 (SKIP LOCKED) - 잠금을 쥔 채 다른 샤드를 기다리지 않으므로
+ *   샤드 간 교착이 생기지 않음. 한 샤드로 부족하면 잠글 수 있는 샤드를 모두 잠가 나눠 차감하고,
+ *   그래도 부족하면 (남은 재고가 진행 중인 주문이 잡은 샤드에만 있는 경우 포함) 재고 부족으로 처리함
+ * - products.stock은 목록/통계 쿼리용으로 주기적으로 샤드 합계와 맞춤 (정확한 값은 getStock, applyShardTotals로 조회)
+ * - 재고 일괄 변경은 lockForBulkChange로 변경 커밋과 샤드 재분배가 끝날 때까지 products.stock 동기화를 막음
+ * - 샤딩된 상품의 재고는 재고 수정 API, 상품별 일괄 변경(호출 측에서 rebalance) 또는 카테고리 일괄 변경으로만 바꿀 수 있음
+ */
+@Slf4j
+@Service
+public class ProductStockShardService {
+
+    private final ProductStockShardRepository shardRepository;
+    private final ProductRepository productRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final int defaultShardCount;
+
+    // 상품 ID → 샤드 수
+    private final Map<Long, Integer> shardCounts = new ConcurrentHashMap<>();
+    // 일괄 변경(커밋 ~ 샤드 재분배)과 products.stock 동기화가 서로 덮어쓰지 않도록 함
+    private final ReentrantLock syncLock = new ReentrantLock();
+
+    public ProductStockShardService(ProductStockShardRepository shardRepository,
+                                    ProductRepository productRepository,
+                                    PlatformTransactionManager transactionManager,
+                                    @Value("${app.inventory.shards.enabled:false}") boolean enabled,
+                                    @Value("${app.inventory.shards.count:8}") int defaultShardCount,
+                                    @Value("${app.inventory.ledger.enabled:false}") boolean ledgerEnabled) {
+        if (enabled && ledgerEnabled) {
+            throw new IllegalStateException("재고 원장과 재고 샤드는 함께 사용할 수 없습니다");
+        }
+        this.shardRepository = shardRepository;
+        this.productRepository = productRepository;
+        // 커밋 이후 리스너에서 사용하므로 항상 새 트랜잭션
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.enabled = enabled;
+        this.defaultShardCount = defaultShardCount;
+    }
+
+    /**
+     * 애플리케이션 시작 시 샤딩된 상품 목록 적재
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        if (!enabled) {
+            return;
+        }
+        for (Object[] row : shardRepository.findShardCounts()) {
+            shardCounts.put((Long) row[0], ((Number) row[1]).intValue());
+        }
+        log.info("재고 샤드 모드 활성화: 샤딩된 상품 {}개", shardCounts.size());
+    }
+
+    /**
+     * 샤딩된 상품인지 확인
+     */
+    public boolean isSharded(Long productId) {
+        return enabled && shardCounts.containsKey(productId);
+    }
+
+    /**
+     * 상품의 정확한 재고 (샤딩된 상품은 샤드 합계, 아니면 products.stock 값)
+     */
+    public int getStock(Product product) {
+        if (!isSharded(product.getId())) {
+            return product.getStock();
+        }
+        return findShardTotals(List.of(product.getId())).getOrDefault(product.getId(), product.getStock());
+    }
+
+    /**
+     * 상품 재고 맵(상품 ID → products.stock)에서 샤딩된 상품의 값을 샤드 합계로 바꿈 (샤드 모드가 꺼져 있으면 그대로)
+     */
+    public Map<Long, Integer> applyShardTotals(Map<Long, Integer> stocks) {
+        if (!enabled || shardCounts.isEmpty()) {
+            return stocks;
+        }
+        for (Object[] row : shardRepository.findStockTotals()) {
+            stocks.computeIfPresent((Long) row[0], (productId, stock) -> ((Number) row[1]).intValue());
+        }
+        return stocks;
+    }
+
+    /**
+     * 지정한 상품들의 샤드 재고 합계 (샤딩된 상품만 포함)
+     */
+    public Map<Long, Integer> findShardTotals(Collection<Long> productIds) {
+        Map<Long, Integer> totals = new HashMap<>();
+        List<Long> sharded = productIds.stream().filter(this::isSharded).toList();
+        if (sharded.isEmpty()) {
+            return totals;
+        }
+        for (Object[] row : shardRepository.findStockTotalsByProductIdIn(sharded)) {
+            totals.put((Long) row[0], ((Number) row[1]).intValue());
+        }
+        return totals;
+    }
+
+    /**
+     * 재고 일괄 변경 시작 - 반환한 작업을 실행할 때까지 products.stock 동기화를 막음
+     * 트랜잭션 안에서 호출하면 트랜잭션이 끝날 때(커밋 이후 샤드 재분배 다음) 풀리고 반환한 작업은 아무것도 하지 않음
+     */
+    public Runnable lockForBulkChange() {
+        if (!enabled) {
+            return () -> { };
+        }
+        syncLock.lock();
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return syncLock::unlock;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                syncLock.unlock();
+            }
+        });
+        return () -> { };
+    }
+
+    /**
+     * 상품 재고를 샤드로 분할 (shardCount가 null이면 기본 샤드 수)
+     */
+    @Transactional
+    public void enableSharding(Long productId, Integer shardCount) {
+        if (!enabled) {
+            throw new IllegalStateException("재고 샤드 모드가 꺼져 있습니다");
+        }
+        int count = shardCount != null ? shardCount : defaultShardCount;
+        if (count < 2) {
+            throw new IllegalArgumentException("샤드 수는 2 이상이어야 합니다");
+        }
+        Product product = productRepository.findByIdWithPessimisticLock(productId)
+                .orElseThrow(() -> new IllegalArgumentException("상품을 찾을 수 없습니다: " + productId));
+        if (!shardRepository.findByProductIdForUpdate(productId).isEmpty()) {
+            throw new IllegalStateException("이미 재고 샤드가 있는 상품입니다: " + productId);
+        }
+
+        List<ProductStockShard> shards = new ArrayList<>(count);
+        int[] amounts = distribute(product.getStock(), count);
+        for (int i = 0; i < count; i++) {
+            shards.add(ProductStockShard.builder()
+                    .productId(productId)
+                    .shardNo(i)
+                    .stock(amounts[i])
+                    .build());
+        }
+        shardRepository.saveAll(shards);
+        afterCommit(() -> shardCounts.put(productId, count));
+        log.info("상품 재고 샤딩: 상품 ID={}, 샤드 {}개, 재고 {}", productId, count, product.getStock());
+    }
+
+    /**
+     * 샤드를 합쳐 products.stock 단일 행으로 되돌림
+     */
+    @Transactional
+    public void disableSharding(Long productId) {
+        Product product = productRepository.findByIdWithPessimisticLock(productId)
+                .orElseThrow(() -> new IllegalArgumentException("상품을 찾을 수 없습니다: " + productId));
+        List<ProductStockShard> shards = shardRepository.findByProductIdForUpdate(productId);
+        if (shards.isEmpty()) {
+            return;
+        }
+        int total = shards.stream().mapToInt(ProductStockShard::getStock).sum();
+        product.setStock(total);
+        productRepository.save(product);
+        shardRepository.deleteByProductId(productId);
+        afterCommit(() -> shardCounts.remove(productId));
+        log.info("상품 재고 샤드 해제: 상품 ID={}, 재고 {}", productId, total);
+    }
+
+    /**
+     * 샤드 재고 차감 (호출하는 트랜잭션 안에서 실행)
+     */
+    public boolean tryDecrease(Long productId, int quantity) {
+        Integer count = shardCounts.get(productId);
+        if (count == null || quantity <= 0) {
+            return false;
+        }
+
+        // 임의의 샤드부터 잠기지 않은 샤드 하나를 잡아 차감 가능한지 시도 (다른 트랜잭션이 잡은 샤드는 건너뜀)
+        int start = ThreadLocalRandom.current().nextInt(count);
+        for (int i = 0; i < count; i++) {
+            ProductStockShard shard = shardRepository.findByProductIdAndShardNoSkipLocked(productId, (start + i) % count)
+                    .orElse(null);
+            if (shard == null) {
+                continue;
+            }
+            if (shard.getStock() >= quantity) {
+                shard.setStock(shard.getStock() - quantity);
+                shardRepository.save(shard);
+                return true;
+            }
+            break;
+        }
+
+        // 한 샤드로는 부족하면 잠글 수 있는 샤드를 모두 잠그고 나눠서 차감 (이미 잡은 샤드 포함)
+        List<ProductStockShard> shards = shardRepository.findByProductIdSkipLocked(productId);
+        int total = shards.stream().mapToInt(ProductStockShard::getStock).sum();
+        if (total < quantity) {
+            return false;
+        }
+        int remaining = quantity;
+        for (ProductStockShard shard : shards) {
+            int taken = Math.min(shard.getStock(), remaining);
+            shard.setStock(shard.getStock() - taken);
+            remaining -= taken;
+            if (remaining == 0) {
+                break;
+            }
+        }
+        shardRepository.saveAll(shards);
+        return true;
+    }
+
+    /**
+     * 샤드 재고 증가 (임의의 샤드에 추가)
+     */
+    public boolean increase(Long productId, int quantity) {
+        Integer count = shardCounts.get(productId);
+        if (count == null || quantity < 0) {
+            return false;
+        }
+        int shardNo = ThreadLocalRandom.current().nextInt(count);
+        return shardRepository.increaseStock(productId, shardNo, quantity) > 0;
+    }
+
+    /**
+     * 전체 재고를 지정한 값으로 바꾸고 샤드에 고르게 재분배
+     */
+    @Transactional
+    public void rebalance(Long productId, int totalStock) {
+        if (totalStock < 0) {
+            throw new IllegalArgumentException("재고는 0 이상이어야 합니다");
+        }
+        List<ProductStockShard> shards = shardRepository.findByProductIdForUpdate(productId);
+        if (shards.isEmpty()) {
+            throw new IllegalStateException("재고 샤드가 없는 상품입니다: " + productId);
+        }
+        int[] amounts = distribute(totalStock, shards.size());
+        for (int i = 0; i < shards.size(); i++) {
+            shards.get(i).setStock(amounts[i]);
+        }
+        shardRepository.saveAll(shards);
+    }
+
+    /**
+     * products.stock을 샤드 합계로 동기화 (일괄 변경이 진행 중이면 이번 주기는 건너뜀)
+     */
+    @Scheduled(fixedDelayString = "${app.inventory.shards.sync-interval-ms:5000}")
+    public void syncProductStock() {
+        if (!enabled || shardCounts.isEmpty()) {
+            return;
+        }
+        if (!syncLock.tryLock()) {
+            return;
+        }
+        try {
+            int updated = shardRepository.syncProductStock();
+            if (updated > 0) {
+                log.debug("샤드 재고 합계 동기화: {}개 상품", updated);
+            }
+        } finally {
+            syncLock.unlock();
+        }
+    }
+
+    /**
+     * 상품 변경 이벤트 반영 (커밋 이후)
+     * - 카테고리 일괄 재고 변경은 products.stock에 기록되므로 그 값으로 샤드를 재분배함
+     * - 카테고리가 없는 벌크 변경(상품별 일괄 변경, 테스트 데이터 등)은 products.stock이 샤드보다 오래된 값일 수 있으므로 재분배하지 않음
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProductChanged(ProductChangedEvent event) {
+        if (!enabled || shardCounts.isEmpty()) {
+            return;
+        }
+        switch (event.getType()) {
+            case DELETED -> {
+                Long productId = event.getProductId();
+                if (shardCounts.remove(productId) != null) {
+                    transactionTemplate.executeWithoutResult(status -> shardRepository.deleteByProductId(productId));
+                }
+            }
+            case BULK_CHANGED -> {
+                if (event.getCategory() != null) {
+                    rebalanceFromProductStock(event.getCategory());
+                }
+            }
+            default -> {
+                // 단건 저장/재고 증감은 샤드에 이미 반영됨
+            }
+        }
+    }
+
+    private void rebalanceFromProductStock(Product.Category category) {
+        syncLock.lock();
+        try {
+            // 이벤트 리스너는 커밋 이후 실행되므로 새 트랜잭션에서 재분배
+            transactionTemplate.executeWithoutResult(status -> {
+                for (Product product : productRepository.findAllById(shardCounts.keySet())) {
+                    if (product.getCategory() == category) {
+                        productRepository.findStockById(product.getId())
+                                .ifPresent(stock -> rebalance(product.getId(), stock));
+                    }
+                }
+            });
+        } finally {
+            syncLock.unlock();
+        }
+    }
+
+    /**
+     * 재고를 샤드 수만큼 고르게 나눔 (나머지는 앞 샤드부터 1개씩)
+     */
+    private static int[] distribute(int total, int count) {
+        int[] amounts = new int[count];
+        for (int i = 0; i < count; i++) {
+            amounts[i] = total / count + (i < total % count ? 1 : 0);
+        }
+        return amounts;
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
@@ -0,0 +1,173 @@
+package com.jacob.testapp.product.service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.zip.CRC32;
+
+/**
+ * 재고 원장 저널 세그먼트 (고정 길이 레코드 append 파일)
+ * - 레코드: 순번(8) + 트랜잭션 ID(8) + 상품 ID(8) + 증감(4) + CRC32(4)
+ * - 쓰기 위치를 원자적으로 할당해 여러 스레드가 잠금 없이 동시에 기록함
+ * - 체크섬이 맞지 않거나 잘린 레코드는 복구 시 건너뜀
+ */
+class StockJournal {
+
+    static final int RECORD_SIZE = 32;
+    private static final String PREFIX = "stock-journal-";
+    private static final String SUFFIX = ".log";
+
+    private final Path path;
+    private final long firstSequence;
+    private final FileChannel channel;
+    private final AtomicLong position = new AtomicLong();
+
+    private StockJournal(Path path, long firstSequence, FileChannel channel) {
+        this.path = path;
+        this.firstSequence = firstSequence;
+        this.channel = channel;
+    }
+
+    /**
+     * 새 세그먼트 생성 (파일명에 시작 순번 포함)
+     */
+    static StockJournal create(Path directory, long firstSequence) {
+        try {
+            Files.createDirectories(directory);
+            Path path = directory.resolve(String.format("%s%020d%s", PREFIX, firstSequence, SUFFIX));
+            FileChannel channel = FileChannel.open(path,
+                    StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+            return new StockJournal(path, firstSequence, channel);
+        } catch (IOException e) {
+            throw new UncheckedIOException("재고 저널 파일을 생성할 수 없습니다: " + directory, e);
+        }
+    }
+
+    /**
+     * 레코드 기록 (OS 버퍼까지 기록, 디스크 동기화는 force에서 수행)
+     */
+    void append(long sequence, long transactionId, Long productId, int delta) {
+        ByteBuffer buffer = encode(sequence, transactionId, productId, delta);
+        long offset = position.getAndAdd(RECORD_SIZE);
+        try {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer, offset + buffer.position());
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("재고 저널 기록 실패: " + path, e);
+        }
+    }
+
+    /**
+     * 디스크 동기화
+     */
+    void force() {
+        try {
+            channel.force(false);
+        } catch (IOException e) {
+            throw new UncheckedIOException("재고 저널 동기화 실패: " + path, e);
+        }
+    }
+
+    /**
+     * 동기화 후 닫기
+     */
+    void close() {
+        try {
+            channel.force(false);
+            channel.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException("재고 저널 닫기 실패: " + path, e);
+        }
+    }
+
+    Path getPath() {
+        return path;
+    }
+
+    long getFirstSequence() {
+        return firstSequence;
+    }
+
+    /**
+     * 디렉터리의 저널 세그먼트 목록 (시작 순번 순)
+     */
+    static List<Path> listSegments(Path directory) {
+        List<Path> segments = new ArrayList<>();
+        if (!Files.isDirectory(directory)) {
+            return segments;
+        }
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory, PREFIX + "*" + SUFFIX)) {
+            stream.forEach(segments::add);
+        } catch (IOException e) {
+            throw new UncheckedIOException("재고 저널 목록 조회 실패: " + directory, e);
+        }
+        segments.sort(null);
+        return segments;
+    }
+
+    /**
+     * 세그먼트의 유효한 레코드 읽기
+     */
+    static void read(Path segment, Consumer<Record> consumer) {
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.READ)) {
+            ByteBuffer buffer = ByteBuffer.allocate(RECORD_SIZE);
+            while (true) {
+                buffer.clear();
+                while (buffer.hasRemaining()) {
+                    if (channel.read(buffer) < 0) {
+                        return;
+                    }
+                }
+                buffer.flip();
+                long sequence = buffer.getLong();
+                long transactionId = buffer.getLong();
+                long productId = buffer.getLong();
+                int delta = buffer.getInt();
+                int checksum = buffer.getInt();
+                if (checksum == checksum(buffer.array(), RECORD_SIZE - 4)) {
+                    consumer.accept(new Record(sequence, transactionId, productId, delta));
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("재고 저널 읽기 실패: " + segment, e);
+        }
+    }
+
+    static void delete(Path segment) {
+        try {
+            Files.deleteIfExists(segment);
+        } catch (IOException e) {
+            throw new UncheckedIOException("재고 저널 삭제 실패: " + segment, e);
+        }
+    }
+
+    private static ByteBuffer encode(long sequence, long transactionId, Long productId, int delta) {
+        ByteBuffer buffer = ByteBuffer.allocate(RECORD_SIZE);
+        buffer.putLong(sequence).putLong(transactionId).putLong(productId).putInt(delta);
+        buffer.putInt(checksum(buffer.array(), RECORD_SIZE - 4));
+        buffer.flip();
+        return buffer;
+    }
+
+    private static int checksum(byte[] bytes, int length) {
+        CRC32 crc = new CRC32();
+        crc.update(bytes, 0, length);
+        return (int) crc.getValue();
+    }
+
+    /**
+     * 저널 레코드 (트랜잭션 ID는 그 트랜잭션의 첫 레코드 순번)
+     */
+    record Record(long sequence, long transactionId, long productId, int delta) {
+    }
+}
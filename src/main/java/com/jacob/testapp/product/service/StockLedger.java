@@ -0,0 +1,618 @@
+package com.jacob.testapp.product.service;
+
+import com.jacob.testapp.product.entity.StockLedgerCheckpoint;
+import com.jacob.testapp.product.repository.ProductRepository;
+import com.jacob.testapp.product.repository.StockLedgerCheckpointRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.ContextClosedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalInt;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 메모리 재고 원장 (선택 기능, app.inventory.ledger.enabled)
+ * - 상품별 가용 재고를 메모리 카운터로 관리하고 CAS로 차감하므로 주문 처리 시 DB 행 잠금을 기다리지 않음
+ * - 모든 증감은 순번과 함께 저널 파일에 먼저 기록되고, 짧은 주기로 상품별 순증감을 모아 products.stock에 일괄 반영함
+ * - 주문 트랜잭션은 커밋 직전(beforeCommit)에 커밋 표시(stock_ledger_commits)를 같은 트랜잭션에 넣고
+ *   자기 레코드가 디스크에 동기화될 때까지 기다림 (동시에 커밋하는 스레드는 한 번의 force를 함께 씀),
+ *   동기화에 실패하면 주문도 커밋되지 않음
+ * - 커밋된 증감만 DB 반영 대상이 되며, 반영과 함께 커밋 표시를 지우고 체크포인트(이전 레코드가 모두 정리된 순번)를
+ *   같은 트랜잭션에 기록함. 재시작 시 커밋 표시가 남은 트랜잭션의 레코드만 다시 반영하므로,
+ *   저널 동기화 후 DB 커밋 전에 멈춘 주문의 차감은 반영되지 않음
+ * - 주문 트랜잭션이 롤백되면 메모리의 차감분만 되돌림 (저널 레코드는 커밋 표시가 없어 복구 시 제외됨)
+ * - 관리자 수정 등으로 DB 재고가 직접 바뀌면 DB 값을 기준으로 다시 맞추며, 아직 반영되지 않은 증감분은 그 값에 이어서 반영됨
+ */
+@Slf4j
+@Component
+public class StockLedger {
+
+    private static final int STRIPES = 64;
+    private static final String FLUSH_SQL = "UPDATE products SET stock = stock + ? WHERE id = ?";
+    private static final String MARK_COMMIT_SQL = "INSERT INTO stock_ledger_commits (transaction_id) VALUES (?)";
+    private static final String CLEAR_COMMIT_SQL = "DELETE FROM stock_ledger_commits WHERE transaction_id = ?";
+    private static final String COMMITTED_SQL = "SELECT transaction_id FROM stock_ledger_commits";
+
+    private final ProductRepository productRepository;
+    private final ProductCache productCache;
+    private final StockLedgerCheckpointRepository checkpointRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final Path journalDirectory;
+
+    private final Map<Long, StockCounter> counters = new ConcurrentHashMap<>();
+    private final ReentrantReadWriteLock[] stripeLocks = new ReentrantReadWriteLock[STRIPES];
+    private final ReentrantLock flushLock = new ReentrantLock();
+    // 순번 할당과 저널 기록을 같은 잠금 안에서 하므로 appendedSequence 이하 순번은 모두 기록이 끝난 상태
+    private final ReentrantLock appendLock = new ReentrantLock();
+    private final AtomicLong sequence = new AtomicLong();
+    // 저널 기록이 끝난 마지막 순번, 디스크 동기화가 끝난 마지막 순번
+    private final AtomicLong appendedSequence = new AtomicLong();
+    private final AtomicLong durableSequence = new AtomicLong();
+    private final ReentrantLock forceLock = new ReentrantLock();
+    // 트랜잭션 완료 처리(complete)와 DB 반영 수집(flush)을 서로 배제
+    private final ReentrantReadWriteLock commitLock = new ReentrantReadWriteLock();
+    // 진행 중인 트랜잭션 ID, 커밋됐지만 DB 반영 전인 트랜잭션 ID
+    private final ConcurrentSkipListSet<Long> inFlightTransactions = new ConcurrentSkipListSet<>();
+    private final ConcurrentLinkedQueue<Long> committedTransactions = new ConcurrentLinkedQueue<>();
+    private final List<SealedJournal> sealedJournals = new ArrayList<>();
+    private long persistedCheckpoint;
+
+    private volatile StockJournal journal;
+    private volatile boolean ready = false;
+
+    public StockLedger(ProductRepository productRepository,
+                       ProductCache productCache,
+                       StockLedgerCheckpointRepository checkpointRepository,
+                       JdbcTemplate jdbcTemplate,
+                       PlatformTransactionManager transactionManager,
+                       @Value("${app.inventory.ledger.enabled:false}") boolean enabled,
+                       @Value("${app.inventory.ledger.journal-dir:data/stock-journal}") String journalDirectory) {
+        this.productRepository = productRepository;
+        this.productCache = productCache;
+        this.checkpointRepository = checkpointRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+        this.journalDirectory = Path.of(journalDirectory);
+        for (int i = 0; i < STRIPES; i++) {
+            stripeLocks[i] = new ReentrantReadWriteLock();
+        }
+    }
+
+    /**
+     * 원장 사용 가능 여부 (설정이 켜져 있고 복구/적재가 끝난 경우)
+     */
+    public boolean isActive() {
+        return ready;
+    }
+
+    /**
+     * 애플리케이션 시작 시 저널 복구 후 재고 적재
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        if (!enabled) {
+            return;
+        }
+        flushLock.lock();
+        try {
+            long recoveredSequence = recover();
+            persistedCheckpoint = recoveredSequence;
+            sequence.set(recoveredSequence);
+            appendedSequence.set(recoveredSequence);
+            durableSequence.set(recoveredSequence);
+            journal = StockJournal.create(journalDirectory, recoveredSequence + 1);
+
+            for (Object[] row : productRepository.findStockRows()) {
+                counters.put((Long) row[0], new StockCounter((Integer) row[1]));
+            }
+            ready = true;
+            log.info("재고 원장 활성화: 상품 {}개, 시작 순번 {}", counters.size(), recoveredSequence + 1);
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /**
+     * 재고 차감 (가용 재고가 부족하면 false)
+     */
+    public boolean tryDecrease(Long productId, int quantity) {
+        if (quantity <= 0) {
+            return false;
+        }
+        StockCounter counter = counterOf(productId);
+        if (counter == null) {
+            return false;
+        }
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            return Boolean.TRUE.equals(transactionTemplate.execute(status -> tryDecrease(productId, quantity)));
+        }
+
+        LedgerTransaction transaction = currentTransaction();
+        ReentrantReadWriteLock.ReadLock lock = stripeLocks[stripe(productId)].readLock();
+        lock.lock();
+        try {
+            int current;
+            do {
+                current = counter.available.get();
+                if (current < quantity) {
+                    return false;
+                }
+            } while (!counter.available.compareAndSet(current, current - quantity));
+            try {
+                record(transaction, productId, counter, -quantity);
+            } catch (RuntimeException e) {
+                counter.available.addAndGet(quantity);
+                throw e;
+            }
+        } finally {
+            lock.unlock();
+        }
+        return true;
+    }
+
+    /**
+     * 재고 증가 (원장에 없는 상품이면 false)
+     */
+    public boolean increase(Long productId, int quantity) {
+        if (quantity < 0) {
+            return false;
+        }
+        StockCounter counter = counterOf(productId);
+        if (counter == null) {
+            return false;
+        }
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            return Boolean.TRUE.equals(transactionTemplate.execute(status -> increase(productId, quantity)));
+        }
+
+        LedgerTransaction transaction = currentTransaction();
+        ReentrantReadWriteLock.ReadLock lock = stripeLocks[stripe(productId)].readLock();
+        lock.lock();
+        try {
+            record(transaction, productId, counter, quantity);
+            counter.available.addAndGet(quantity);
+        } finally {
+            lock.unlock();
+        }
+        return true;
+    }
+
+    /**
+     * 현재 가용 재고 (원장에 없으면 빈 값)
+     */
+    public OptionalInt getAvailable(Long productId) {
+        StockCounter counter = ready ? counters.get(productId) : null;
+        return counter == null ? OptionalInt.empty() : OptionalInt.of(counter.available.get());
+    }
+
+    /**
+     * 커밋된 순증감을 products.stock에 일괄 반영 (커밋 표시 삭제, 체크포인트와 같은 트랜잭션)
+     */
+    @Scheduled(fixedDelayString = "${app.inventory.ledger.flush-interval-ms:200}")
+    public void flush() {
+        if (!ready) {
+            return;
+        }
+        flushLock.lock();
+        try {
+            Map<Long, Integer> deltas = new TreeMap<>();
+            List<Long> transactionIds = new ArrayList<>();
+            long checkpoint;
+            boolean idle;
+
+            // 트랜잭션 완료 처리와 모든 스트라이프를 막아 순증감, 커밋된 트랜잭션, 진행 중 트랜잭션을 한 시점에 수집
+            commitLock.writeLock().lock();
+            lockAllStripes();
+            try {
+                counters.forEach((productId, counter) -> {
+                    int delta = counter.pending.getAndSet(0);
+                    if (delta != 0) {
+                        deltas.put(productId, delta);
+                    }
+                });
+                for (Long transactionId; (transactionId = committedTransactions.poll()) != null; ) {
+                    transactionIds.add(transactionId);
+                }
+                // 진행 중 트랜잭션의 첫 레코드 이전까지는 커밋되어 이번에 반영되거나 롤백된 레코드뿐임
+                long lastSequence = sequence.get();
+                checkpoint = inFlightTransactions.isEmpty() ? lastSequence : inFlightTransactions.first() - 1;
+                checkpoint = Math.max(checkpoint, persistedCheckpoint);
+                idle = deltas.isEmpty() && transactionIds.isEmpty() && checkpoint == persistedCheckpoint;
+                if (!idle && lastSequence >= journal.getFirstSequence()) {
+                    sealJournal(lastSequence);
+                }
+            } finally {
+                unlockAllStripes();
+                commitLock.writeLock().unlock();
+            }
+
+            if (idle) {
+                journal.force();
+                return;
+            }
+
+            try {
+                writeToDatabase(deltas, transactionIds, checkpoint);
+            } catch (RuntimeException e) {
+                // 반영 실패 시 다음 주기에 다시 반영되도록 되돌림 (저널과 커밋 표시는 그대로 보존)
+                deltas.forEach((productId, delta) -> {
+                    StockCounter counter = counters.get(productId);
+                    if (counter != null) {
+                        counter.pending.addAndGet(delta);
+                    }
+                });
+                committedTransactions.addAll(transactionIds);
+                log.error("재고 원장 DB 반영 실패: 상품 {}개, 순번 {}", deltas.size(), checkpoint, e);
+                return;
+            }
+            persistedCheckpoint = checkpoint;
+
+            // 체크포인트 이전 레코드만 담긴 세그먼트만 삭제 (진행 중 트랜잭션의 레코드가 있으면 보존)
+            long deletableSequence = checkpoint;
+            sealedJournals.removeIf(sealed -> {
+                if (sealed.lastSequence() > deletableSequence) {
+                    return false;
+                }
+                sealed.journal().close();
+                StockJournal.delete(sealed.journal().getPath());
+                return true;
+            });
+            deltas.keySet().forEach(productCache::evict);
+            log.debug("재고 원장 DB 반영: 상품 {}개, 트랜잭션 {}건, 순번 {}", deltas.size(), transactionIds.size(), checkpoint);
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /**
+     * 애플리케이션 종료 시 남은 증감분 반영
+     */
+    @EventListener(ContextClosedEvent.class)
+    public void shutdown() {
+        flush();
+    }
+
+    /**
+     * 상품 변경 이벤트 반영 (커밋 이후)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProductChanged(ProductChangedEvent event) {
+        if (!ready) {
+            return;
+        }
+        switch (event.getType()) {
+            case SAVED -> resync(event.getProductId());
+            case DELETED -> counters.remove(event.getProductId());
+            case BULK_CHANGED -> resyncAll();
+            default -> {
+                // 재고 증감은 ProductService를 통해 원장에 이미 반영됨
+            }
+        }
+    }
+
+    /**
+     * DB 재고 기준으로 상품 카운터 재설정 (DB 값 + 아직 반영되지 않은 증감분)
+     */
+    private void resync(Long productId) {
+        flushLock.lock();
+        try {
+            Integer stock = productRepository.findStockById(productId).orElse(null);
+            if (stock == null) {
+                counters.remove(productId);
+                return;
+            }
+            reset(productId, stock);
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /**
+     * 전체 상품 카운터 재설정
+     */
+    private void resyncAll() {
+        flushLock.lock();
+        try {
+            Map<Long, Integer> stocks = new HashMap<>();
+            for (Object[] row : productRepository.findStockRows()) {
+                stocks.put((Long) row[0], (Integer) row[1]);
+            }
+            counters.keySet().removeIf(productId -> !stocks.containsKey(productId));
+            stocks.forEach(this::reset);
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /**
+     * 카운터 재설정 (스트라이프 쓰기 잠금으로 진행 중인 증감이 없을 때 수행)
+     * 가용 재고 = DB 값 + 커밋됐지만 반영 전인 증감 + 아직 커밋되지 않은 증감
+     */
+    private void reset(Long productId, int stock) {
+        ReentrantReadWriteLock.WriteLock lock = stripeLocks[stripe(productId)].writeLock();
+        lock.lock();
+        try {
+            StockCounter counter = counters.computeIfAbsent(productId, id -> new StockCounter(stock));
+            counter.available.set(stock + counter.pending.get() + counter.uncommitted.get());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 현재 세그먼트를 동기화한 뒤 새 세그먼트로 교체 (모든 스트라이프 쓰기 잠금 안에서 호출)
+     * 교체 전에 동기화하므로 커밋을 기다리는 스레드가 닫힌 세그먼트를 동기화하는 일이 없음
+     */
+    private void sealJournal(long lastSequence) {
+        forceLock.lock();
+        try {
+            journal.force();
+            durableSequence.accumulateAndGet(lastSequence, Math::max);
+            sealedJournals.add(new SealedJournal(journal, lastSequence));
+            journal = StockJournal.create(journalDirectory, lastSequence + 1);
+        } finally {
+            forceLock.unlock();
+        }
+    }
+
+    /**
+     * 현재 트랜잭션의 원장 기록 조회 (없으면 등록)
+     * bindResource 대신 동기화 목록에서 찾으므로 REQUIRES_NEW로 일시 중단된 바깥 트랜잭션의 기록과 섞이지 않음
+     */
+    private LedgerTransaction currentTransaction() {
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            if (synchronization instanceof LedgerTransaction transaction) {
+                return transaction;
+            }
+        }
+        LedgerTransaction transaction = new LedgerTransaction();
+        TransactionSynchronizationManager.registerSynchronization(transaction);
+        return transaction;
+    }
+
+    /**
+     * 그룹 동기화 - 먼저 잠금을 잡은 스레드의 force 한 번으로 그때까지 기록된 레코드를 모두 동기화하고,
+     * 기다리던 스레드는 자기 순번이 이미 동기화됐으면 force 없이 돌아감
+     */
+    private void forceJournal(long recordSequence) {
+        if (durableSequence.get() >= recordSequence) {
+            return;
+        }
+        forceLock.lock();
+        try {
+            if (durableSequence.get() >= recordSequence) {
+                return;
+            }
+            // force 전에 읽은 기록 완료 순번까지만 동기화된 것으로 봄 (그 이하 순번은 모두 기록이 끝난 상태)
+            long target = appendedSequence.get();
+            journal.force();
+            durableSequence.accumulateAndGet(target, Math::max);
+        } finally {
+            forceLock.unlock();
+        }
+    }
+
+    /**
+     * 체크포인트 이후 저널 중 커밋 표시가 남은 트랜잭션의 레코드만 DB에 반영하고 마지막 순번을 반환
+     */
+    private long recover() {
+        long checkpoint = checkpointRepository.findById(StockLedgerCheckpoint.SINGLETON_ID)
+                .map(StockLedgerCheckpoint::getLastSequence)
+                .orElse(0L);
+        Set<Long> committed = new HashSet<>(jdbcTemplate.queryForList(COMMITTED_SQL, Long.class));
+
+        Map<Long, Integer> deltas = new TreeMap<>();
+        long lastSequence = checkpoint;
+        int appliedCount = 0;
+        int skippedCount = 0;
+        List<Path> segments = StockJournal.listSegments(journalDirectory);
+        for (Path segment : segments) {
+            List<StockJournal.Record> records = new ArrayList<>();
+            StockJournal.read(segment, records::add);
+            for (StockJournal.Record record : records) {
+                if (record.sequence() <= checkpoint) {
+                    continue;
+                }
+                lastSequence = Math.max(lastSequence, record.sequence());
+                if (committed.contains(record.transactionId())) {
+                    deltas.merge(record.productId(), record.delta(), Integer::sum);
+                    appliedCount++;
+                } else {
+                    skippedCount++;
+                }
+            }
+        }
+
+        deltas.values().removeIf(delta -> delta == 0);
+        if (lastSequence > checkpoint || !committed.isEmpty()) {
+            writeToDatabase(deltas, committed, lastSequence);
+            log.warn("재고 저널 복구: 반영 {}건, 미커밋 제외 {}건, 상품 {}개, 순번 {} → {}",
+                    appliedCount, skippedCount, deltas.size(), checkpoint, lastSequence);
+        }
+        segments.forEach(StockJournal::delete);
+        return lastSequence;
+    }
+
+    /**
+     * 상품별 순증감 일괄 UPDATE + 커밋 표시 삭제 + 체크포인트 기록 (상품 ID 순으로 잠금 순서 고정)
+     */
+    private void writeToDatabase(Map<Long, Integer> deltas, Collection<Long> transactionIds, long checkpoint) {
+        List<Object[]> arguments = new ArrayList<>(deltas.size());
+        deltas.forEach((productId, delta) -> arguments.add(new Object[]{delta, productId}));
+        List<Object[]> commitArguments = transactionIds.stream()
+                .map(transactionId -> new Object[]{transactionId})
+                .toList();
+
+        transactionTemplate.executeWithoutResult(status -> {
+            if (!arguments.isEmpty()) {
+                jdbcTemplate.batchUpdate(FLUSH_SQL, arguments);
+            }
+            if (!commitArguments.isEmpty()) {
+                jdbcTemplate.batchUpdate(CLEAR_COMMIT_SQL, commitArguments);
+            }
+            checkpointRepository.save(StockLedgerCheckpoint.builder()
+                    .id(StockLedgerCheckpoint.SINGLETON_ID)
+                    .lastSequence(checkpoint)
+                    .build());
+        });
+    }
+
+    /**
+     * 저널 기록 (스트라이프 읽기 잠금 안에서 호출, 트랜잭션 ID는 그 트랜잭션의 첫 레코드 순번)
+     */
+    private void record(LedgerTransaction transaction, Long productId, StockCounter counter, int delta) {
+        appendLock.lock();
+        try {
+            long recordSequence = sequence.incrementAndGet();
+            long transactionId = transaction.transactionId == 0 ? recordSequence : transaction.transactionId;
+            journal.append(recordSequence, transactionId, productId, delta);
+            appendedSequence.set(recordSequence);
+            if (transaction.transactionId == 0) {
+                transaction.transactionId = transactionId;
+                inFlightTransactions.add(transactionId);
+            }
+            transaction.lastSequence = recordSequence;
+        } finally {
+            appendLock.unlock();
+        }
+        counter.uncommitted.addAndGet(delta);
+        transaction.deltas.merge(productId, delta, Integer::sum);
+    }
+
+    /**
+     * 트랜잭션 완료 처리 - 커밋이면 DB 반영 대상으로 옮기고, 롤백이면 가용 재고를 되돌림
+     */
+    private void complete(LedgerTransaction transaction, boolean committed) {
+        if (transaction.transactionId == 0) {
+            return;
+        }
+        commitLock.readLock().lock();
+        try {
+            transaction.deltas.forEach((productId, delta) -> {
+                StockCounter counter = counters.get(productId);
+                if (counter == null) {
+                    return;
+                }
+                ReentrantReadWriteLock.ReadLock lock = stripeLocks[stripe(productId)].readLock();
+                lock.lock();
+                try {
+                    counter.uncommitted.addAndGet(-delta);
+                    if (committed) {
+                        counter.pending.addAndGet(delta);
+                    } else {
+                        counter.available.addAndGet(-delta);
+                    }
+                } finally {
+                    lock.unlock();
+                }
+            });
+            if (committed) {
+                committedTransactions.add(transaction.transactionId);
+            }
+            inFlightTransactions.remove(transaction.transactionId);
+        } finally {
+            commitLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 상품 카운터 조회 (원장에 없으면 DB에서 적재)
+     */
+    private StockCounter counterOf(Long productId) {
+        if (!ready) {
+            return null;
+        }
+        StockCounter counter = counters.get(productId);
+        if (counter == null) {
+            resync(productId);
+            counter = counters.get(productId);
+        }
+        return counter;
+    }
+
+    private void lockAllStripes() {
+        for (ReentrantReadWriteLock lock : stripeLocks) {
+            lock.writeLock().lock();
+        }
+    }
+
+    private void unlockAllStripes() {
+        for (ReentrantReadWriteLock lock : stripeLocks) {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private static int stripe(Long productId) {
+        return (int) (productId & (STRIPES - 1));
+    }
+
+    /**
+     * 트랜잭션별 원장 기록 - 커밋 직전에 커밋 표시를 넣고 저널을 동기화하며, 완료 후 카운터에 결과를 반영
+     */
+    private final class LedgerTransaction implements TransactionSynchronization {
+        private final Map<Long, Integer> deltas = new HashMap<>();
+        private long transactionId;
+        private long lastSequence;
+
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            if (transactionId == 0) {
+                return;
+            }
+            jdbcTemplate.update(MARK_COMMIT_SQL, transactionId);
+            forceJournal(lastSequence);
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            complete(this, status == STATUS_COMMITTED);
+        }
+    }
+
+    /**
+     * 봉인된 저널 세그먼트와 그 마지막 순번
+     */
+    private record SealedJournal(StockJournal journal, long lastSequence) {
+    }
+
+    /**
+     * 상품별 재고 카운터 (가용 재고, 커밋됐지만 DB 미반영 증감, 커밋 전 증감)
+     */
+    private static final class StockCounter {
+        private final AtomicInteger available;
+        private final AtomicInteger pending = new AtomicInteger();
+        private final AtomicInteger uncommitted = new AtomicInteger();
+
+        private StockCounter(int available) {
+            this.available = new AtomicInteger(available);
+        }
+    }
+}
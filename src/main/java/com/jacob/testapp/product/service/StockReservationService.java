@@ -0,0 +1,273 @@
+package com.jacob.testapp.product.service;
+
+import com.jacob.testapp.product.repository.ProductRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.SortedMap;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 결제 화면 재고 예약 서비스
+ * - 결제 화면 진입 시 장바구니 수량을 TTL 동안 예약하고, 주문 생성 시 예약을 소진함
+ * - 판매 가능 재고 = 메모리 재고 - 다른 사용자의 예약 수량 (products.stock을 다시 조회하지 않음)
+ * - 메모리 재고는 시작 시 한 번 적재한 뒤 상품 변경 이벤트로 갱신됨
+ * - 만료된 예약은 스케줄러가 만료 순으로 일정 개수씩 해제함
+ */
+@Slf4j
+@Service
+public class StockReservationService {
+
+    private static final Comparator<Reservation> EXPIRY_ORDER = Comparator
+            .comparing(Reservation::expiresAt)
+            .thenComparing(Reservation::userId);
+
+    private final ProductRepository productRepository;
+    private final ProductStockShardService stockShardService;
+    private final Duration ttl;
+    private final int sweepBatchSize;
+
+    // 상품 ID → 메모리 재고
+    private final Map<Long, Integer> onHand = new ConcurrentHashMap<>();
+    // 아래 필드는 lock으로 보호됨
+    private final Map<Long, Integer> reserved = new HashMap<>();
+    private final Map<Long, Reservation> reservations = new HashMap<>();
+    private final NavigableSet<Reservation> expiryQueue = new TreeSet<>(EXPIRY_ORDER);
+    private final ReentrantLock lock = new ReentrantLock();
+
+    public StockReservationService(ProductRepository productRepository,
+                                   ProductStockShardService stockShardService,
+                                   @Value("${app.inventory.reservations.ttl-seconds:600}") long ttlSeconds,
+                                   @Value("${app.inventory.reservations.sweep-batch-size:500}") int sweepBatchSize) {
+        this.productRepository = productRepository;
+        this.stockShardService = stockShardService;
+        this.ttl = Duration.ofSeconds(ttlSeconds);
+        this.sweepBatchSize = sweepBatchSize;
+    }
+
+    /**
+     * 애플리케이션 시작 시 메모리 재고 적재
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        reloadOnHand();
+    }
+
+    /**
+     * 판매 가능 재고 (메모리 재고 - 예약 수량)
+     */
+    public int getAvailableToSell(Long productId) {
+        lock.lock();
+        try {
+            return availableFor(productId, null);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 사용자 예약 조회 (없거나 만료되었으면 null)
+     */
+    public Reservation getReservation(Long userId) {
+        lock.lock();
+        try {
+            Reservation reservation = reservations.get(userId);
+            return reservation != null && !reservation.isExpired(LocalDateTime.now()) ? reservation : null;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 재고 예약 (기존 예약은 새 수량으로 교체)
+     * - 부족한 상품이 있으면 예약하지 않고(기존 예약 유지) 부족 목록을 반환함
+     * - 만든 예약을 그대로 반환하므로 TTL이 짧아 곧바로 만료돼도 다시 조회할 필요가 없음
+     */
+    public ReservationResult reserve(Long userId, SortedMap<Long, Integer> quantities) {
+        lock.lock();
+        try {
+            List<StockShortfall> shortfalls = findShortfalls(userId, quantities);
+            if (!shortfalls.isEmpty()) {
+                return new ReservationResult(null, shortfalls);
+            }
+            removeReservation(userId);
+            Reservation reservation = new Reservation(userId,
+                    Collections.unmodifiableMap(new LinkedHashMap<>(quantities)), LocalDateTime.now().plus(ttl));
+            reservations.put(userId, reservation);
+            expiryQueue.add(reservation);
+            reservation.quantities().forEach((productId, quantity) -> reserved.merge(productId, quantity, Integer::sum));
+            return new ReservationResult(reservation, shortfalls);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 주문 생성 시 예약 소진 확인
+     * - 본인 예약분은 판매 가능 재고에 포함해 확인하며, 부족한 상품이 있으면 부족 목록을 반환함
+     * - 예약은 유지되므로 재고 차감까지 성공한 뒤 releaseAfterCommit으로 해제 예약
+     */
+    public List<StockShortfall> consume(Long userId, SortedMap<Long, Integer> quantities) {
+        lock.lock();
+        try {
+            return findShortfalls(userId, quantities);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 트랜잭션 커밋 이후 사용자 예약 해제 (롤백되면 예약 유지)
+     */
+    public void releaseAfterCommit(Long userId) {
+        afterCommit(() -> release(userId));
+    }
+
+    /**
+     * 사용자 예약 해제
+     */
+    public void release(Long userId) {
+        lock.lock();
+        try {
+            removeReservation(userId);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 만료된 예약 해제 (만료 순으로 batch 단위로 잠금을 잡았다 놓음)
+     */
+    @Scheduled(fixedDelayString = "${app.inventory.reservations.sweep-interval-ms:1000}")
+    public void sweepExpired() {
+        LocalDateTime now = LocalDateTime.now();
+        int released = 0;
+        int batch;
+        do {
+            batch = 0;
+            lock.lock();
+            try {
+                while (batch < sweepBatchSize && !expiryQueue.isEmpty() && expiryQueue.first().isExpired(now)) {
+                    removeReservation(expiryQueue.first().userId());
+                    batch++;
+                }
+            } finally {
+                lock.unlock();
+            }
+            released += batch;
+        } while (batch == sweepBatchSize);
+
+        if (released > 0) {
+            log.debug("만료된 재고 예약 해제: {}건", released);
+        }
+    }
+
+    /**
+     * 상품 변경 이벤트 반영 (커밋 이후)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProductChanged(ProductChangedEvent event) {
+        switch (event.getType()) {
+            case SAVED -> onHand.put(event.getProductId(), stockShardService.getStock(event.getProduct()));
+            case STOCK_CHANGED -> onHand.merge(event.getProductId(), event.getStockDelta(), Integer::sum);
+            case DELETED -> onHand.remove(event.getProductId());
+            case BULK_CHANGED -> reloadOnHand();
+        }
+    }
+
+    private void reloadOnHand() {
+        Map<Long, Integer> loaded = new HashMap<>();
+        for (Object[] row : productRepository.findStockRows()) {
+            loaded.put((Long) row[0], ((Number) row[1]).intValue());
+        }
+        stockShardService.applyShardTotals(loaded);
+        onHand.keySet().retainAll(loaded.keySet());
+        onHand.putAll(loaded);
+        log.debug("예약용 메모리 재고 적재: 상품 {}개", loaded.size());
+    }
+
+    /**
+     * 판매 가능 재고 부족 상품 (userId의 기존 예약분은 가용 재고로 간주)
+     */
+    private List<StockShortfall> findShortfalls(Long userId, SortedMap<Long, Integer> quantities) {
+        List<StockShortfall> shortfalls = new ArrayList<>();
+        quantities.forEach((productId, quantity) -> {
+            int available = availableFor(productId, userId);
+            if (available < quantity) {
+                shortfalls.add(new StockShortfall(productId, quantity, Math.max(available, 0)));
+            }
+        });
+        return shortfalls;
+    }
+
+    private int availableFor(Long productId, Long userId) {
+        int available = onHand.getOrDefault(productId, 0) - reserved.getOrDefault(productId, 0);
+        Reservation own = userId != null ? reservations.get(userId) : null;
+        if (own != null) {
+            available += own.quantities().getOrDefault(productId, 0);
+        }
+        return available;
+    }
+
+    private void removeReservation(Long userId) {
+        Reservation reservation = reservations.remove(userId);
+        if (reservation == null) {
+            return;
+        }
+        expiryQueue.remove(reservation);
+        reservation.quantities().forEach((productId, quantity) ->
+                reserved.computeIfPresent(productId, (id, total) -> total > quantity ? total - quantity : null));
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    /**
+     * 재고 예약 (상품 ID → 수량)
+     */
+    public record Reservation(Long userId, Map<Long, Integer> quantities, LocalDateTime expiresAt) {
+
+        public boolean isExpired(LocalDateTime now) {
+            return !expiresAt.isAfter(now);
+        }
+    }
+
+    /**
+     * 예약 결과 (부족한 상품이 있으면 reservation은 null)
+     */
+    public record ReservationResult(Reservation reservation, List<StockShortfall> shortfalls) {
+
+        public boolean isReserved() {
+            return reservation != null;
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package com.jacob.testapp.product.service;
+
+/**
+ * 일괄 재고 차감 시 재고가 부족했던 상품
+ *
+ * @param productId 상품 ID
+ * @param requested 요청 수량
+ * @param available 차감 시점의 가용 재고 (상품이 없으면 0)
+ */
+public record StockShortfall(Long productId, int requested, int available) {
+}
@@ -2,8 +2,6 @@ package com.jacob.testapp.user.service;
 
 import com.jacob.testapp.user.entity.User;
 import com.jacob.testapp.user.repository.UserRepository;
-import com.jacob.testapp.cart.entity.Cart;
-import com.jacob.testapp.cart.repository.CartRepository;
 import org.springframework.context.annotation.Lazy;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -14,7 +12,6 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.math.BigDecimal;
 import java.security.Principal;
 import java.time.LocalDateTime;
 import java.util.List;
@@ -30,14 +27,12 @@ public class UserService implements UserDetailsService {
 
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
-    private final CartRepository cartRepository;
     
     private static final int MAX_LOGIN_ATTEMPTS = 5;
 
-    public UserService(UserRepository userRepository, @Lazy PasswordEncoder passwordEncoder, CartRepository cartRepository) {
+    public UserService(UserRepository userRepository, @Lazy PasswordEncoder passwordEncoder) {
         this.userRepository = userRepository;
         this.passwordEncoder = passwordEncoder;
-        this.cartRepository = cartRepository;
     }
 
     @Override
@@ -144,13 +139,8 @@ public class UserService implements UserDetailsService {
         user.setStatus(User.Status.ACTIVE);
         user.setLastLoginAt(LocalDateTime.now());
 
-        // 사용자 저장
-        User savedUser = userRepository.save(user);
-
-        // 사용자의 장바구니 생성
-        createCartForUser(savedUser);
-
-        return savedUser;
+        // 사용자 저장 (장바구니는 처음 상품을 담을 때 생성)
+        return userRepository.save(user);
     }
     
     /**
@@ -165,17 +155,6 @@ public class UserService implements UserDetailsService {
         }
     }
     
-    /**
-     * 사용자의 장바구니 생성
-     */
-    private void createCartForUser(User user) {
-        Cart cart = Cart.builder()
-                .user(user)
-                .totalPrice(BigDecimal.ZERO)
-                .build();
-        cartRepository.save(cart);
-    }
-
     /**
      * 로그인 시도 횟수 업데이트
      */
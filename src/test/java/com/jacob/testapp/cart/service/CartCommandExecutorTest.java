@@ -0,0 +1,144 @@
+package com.jacob.testapp.cart.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+class CartCommandExecutorTest {
+
+    private static final Long USER_ID = 1L;
+
+    private final ExecutorService callers = Executors.newCachedThreadPool();
+    private final CountDownLatch blockerStarted = new CountDownLatch(1);
+    private final CountDownLatch releaseBlocker = new CountDownLatch(1);
+    private CartCommandExecutor executor;
+
+    @AfterEach
+    void tearDown() {
+        releaseBlocker.countDown();
+        callers.shutdownNow();
+        if (executor != null) {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void coalescesPendingCommandsWithSameKey() throws Exception {
+        executor = new CartCommandExecutor(true, 1, 16, 5000);
+        Future<String> blocker = submitBlocker();
+
+        AtomicInteger firstRuns = new AtomicInteger();
+        Future<String> first = callers.submit(() -> executor.execute(USER_ID, "product:1", () -> {
+            firstRuns.incrementAndGet();
+            return "first";
+        }));
+        awaitSubmitted(2);
+        Future<String> second = callers.submit(() -> executor.execute(USER_ID, "product:1", () -> "second"));
+        awaitSubmitted(3);
+
+        releaseBlocker.countDown();
+
+        assertEquals("blocker", blocker.get(5, TimeUnit.SECONDS));
+        assertEquals("second", first.get(5, TimeUnit.SECONDS));
+        assertEquals("second", second.get(5, TimeUnit.SECONDS));
+        assertEquals(0, firstRuns.get());
+        assertEquals(1, executor.getStats().coalesced());
+        assertEquals(2, executor.getStats().executed());
+    }
+
+    @Test
+    void doesNotCoalesceDifferentKeys() throws Exception {
+        executor = new CartCommandExecutor(true, 1, 16, 5000);
+        submitBlocker();
+
+        Future<String> first = callers.submit(() -> executor.execute(USER_ID, "product:1", () -> "first"));
+        awaitSubmitted(2);
+        Future<String> second = callers.submit(() -> executor.execute(USER_ID, "product:2", () -> "second"));
+        awaitSubmitted(3);
+
+        releaseBlocker.countDown();
+
+        assertEquals("first", first.get(5, TimeUnit.SECONDS));
+        assertEquals("second", second.get(5, TimeUnit.SECONDS));
+        assertEquals(0, executor.getStats().coalesced());
+    }
+
+    @Test
+    void rejectsWhenQueueIsFull() throws Exception {
+        executor = new CartCommandExecutor(true, 2, 2, 5000);
+        submitBlocker();
+
+        Future<String> first = callers.submit(() -> executor.execute(USER_ID, null, () -> "first"));
+        Future<String> second = callers.submit(() -> executor.execute(USER_ID, null, () -> "second"));
+        awaitSubmitted(3);
+
+        assertThrows(IllegalStateException.class, () -> executor.execute(USER_ID, null, () -> "third"));
+        assertEquals(1, executor.getStats().rejected());
+
+        // 다른 사용자는 영향받지 않음
+        assertEquals("other", executor.execute(2L, null, () -> "other"));
+
+        releaseBlocker.countDown();
+        assertEquals("first", first.get(5, TimeUnit.SECONDS));
+        assertEquals("second", second.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void coalescingIntoFullQueueIsNotRejected() throws Exception {
+        executor = new CartCommandExecutor(true, 1, 1, 5000);
+        submitBlocker();
+
+        Future<String> first = callers.submit(() -> executor.execute(USER_ID, "product:1", () -> "first"));
+        awaitSubmitted(2);
+        Future<String> second = callers.submit(() -> executor.execute(USER_ID, "product:1", () -> "second"));
+        awaitSubmitted(3);
+
+        releaseBlocker.countDown();
+
+        assertEquals("second", first.get(5, TimeUnit.SECONDS));
+        assertEquals("second", second.get(5, TimeUnit.SECONDS));
+        assertEquals(0, executor.getStats().rejected());
+    }
+
+    /**
+     * 사용자 메일박스를 막는 명령 제출 (실행이 시작될 때까지 대기, releaseBlocker로 해제)
+     */
+    private Future<String> submitBlocker() throws InterruptedException {
+        Future<String> blocker = callers.submit(() -> executor.execute(USER_ID, null, () -> {
+            blockerStarted.countDown();
+            awaitQuietly(releaseBlocker);
+            return "blocker";
+        }));
+        assertTrue(blockerStarted.await(5, TimeUnit.SECONDS));
+        return blocker;
+    }
+
+    private void awaitSubmitted(long count) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (executor.getStats().submitted() < count) {
+            if (System.nanoTime() > deadline) {
+                fail("명령 제출 대기 시간 초과: " + executor.getStats());
+            }
+            Thread.sleep(1);
+        }
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
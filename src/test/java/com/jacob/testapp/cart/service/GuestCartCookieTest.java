@@ -0,0 +1,119 @@
+package com.jacob.testapp.cart.service;
+
+import org.junit.jupiter.api.Test;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class GuestCartCookieTest {
+
+    private static final String SECRET = "test-secret";
+
+    private final GuestCartCookie cookie = new GuestCartCookie("GUEST_CART", Duration.ofDays(7), 50, SECRET);
+
+    @Test
+    void roundTripKeepsItemsAndOrder() {
+        Map<Long, Integer> items = new LinkedHashMap<>();
+        items.put(3L, 2);
+        items.put(1_000_000_000L, 999);
+        items.put(42L, 1);
+
+        Map<Long, Integer> decoded = cookie.decode(cookie.encode(items));
+
+        assertEquals(items, decoded);
+        assertEquals(Arrays.asList(3L, 1_000_000_000L, 42L), decoded.keySet().stream().toList());
+    }
+
+    @Test
+    void decodeClampsQuantity() {
+        assertEquals(Map.of(7L, 999), cookie.decode(cookie.encode(Map.of(7L, 5000))));
+    }
+
+    @Test
+    void tamperedPayloadIsIgnored() {
+        String value = cookie.encode(Map.of(1L, 1));
+        int dot = value.indexOf('.');
+        char replaced = value.charAt(dot - 1) == 'A' ? 'B' : 'A';
+        String tampered = value.substring(0, dot - 1) + replaced + value.substring(dot);
+
+        assertTrue(cookie.decode(tampered).isEmpty());
+    }
+
+    @Test
+    void cookieSignedWithAnotherSecretIsIgnored() {
+        GuestCartCookie other = new GuestCartCookie("GUEST_CART", Duration.ofDays(7), 50, "other-secret");
+
+        assertTrue(cookie.decode(other.encode(Map.of(1L, 1))).isEmpty());
+    }
+
+    @Test
+    void malformedValuesAreIgnored() {
+        assertTrue(cookie.decode(null).isEmpty());
+        assertTrue(cookie.decode("").isEmpty());
+        assertTrue(cookie.decode("no-signature").isEmpty());
+        assertTrue(cookie.decode(".abc").isEmpty());
+        assertTrue(cookie.decode("%%%.###").isEmpty());
+
+        // 서명은 맞지만 잘린 payload
+        String truncated = Base64.getUrlEncoder().withoutPadding().encodeToString(new byte[]{1, (byte) 0x80});
+        assertTrue(cookie.decode(truncated + "." + sign(truncated)).isEmpty());
+    }
+
+    @Test
+    void expiredCookieIsIgnored() {
+        long nowMinutes = System.currentTimeMillis() / 60_000;
+
+        assertEquals(Map.of(5L, 3), cookie.decode(signedValue(nowMinutes - Duration.ofDays(6).toMinutes(), 5L, 3)));
+        assertTrue(cookie.decode(signedValue(nowMinutes - Duration.ofDays(8).toMinutes(), 5L, 3)).isEmpty());
+    }
+
+    @Test
+    void cookieWithTooManyLinesIsIgnored() {
+        GuestCartCookie small = new GuestCartCookie("GUEST_CART", Duration.ofDays(7), 2, SECRET);
+
+        assertTrue(small.decode(cookie.encode(Map.of(1L, 1, 2L, 1, 3L, 1))).isEmpty());
+    }
+
+    /**
+     * 발급 시각을 지정해 쿠키 값 구성 (GuestCartCookie와 같은 형식)
+     */
+    private static String signedValue(long issuedAtMinutes, long productId, int quantity) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        out.write(1);
+        writeVarint(out, issuedAtMinutes);
+        writeVarint(out, 1);
+        writeVarint(out, productId);
+        writeVarint(out, quantity);
+        String payload = Base64.getUrlEncoder().withoutPadding().encodeToString(out.toByteArray());
+        return payload + "." + sign(payload);
+    }
+
+    private static String sign(String payload) {
+        try {
+            Mac mac = Mac.getInstance("HmacSHA256");
+            mac.init(new SecretKeySpec(SECRET.getBytes(StandardCharsets.UTF_8), "HmacSHA256"));
+            byte[] digest = mac.doFinal(payload.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(Arrays.copyOf(digest, 16));
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void writeVarint(ByteArrayOutputStream out, long value) {
+        while ((value & ~0x7FL) != 0) {
+            out.write((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.write((int) value);
+    }
+}
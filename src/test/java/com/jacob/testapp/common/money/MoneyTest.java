@@ -0,0 +1,64 @@
+package com.jacob.testapp.common.money;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class MoneyTest {
+
+    @Test
+    void toWonRoundsHalfAwayFromZero() {
+        assertEquals(0L, Money.toWon(0));
+        assertEquals(1L, Money.toWon(149));
+        assertEquals(2L, Money.toWon(150));
+        assertEquals(0L, Money.toWon(-49));
+        assertEquals(-1L, Money.toWon(-50));
+        assertEquals(-1L, Money.toWon(-149));
+        assertEquals(-2L, Money.toWon(-150));
+        assertEquals(-2L, Money.toWon(-151));
+    }
+
+    @Test
+    void toWonIsSymmetricAndMatchesHalfUp() {
+        for (long minor = -1_000; minor <= 1_000; minor++) {
+            assertEquals(-Money.toWon(minor), Money.toWon(-minor), "minor=" + minor);
+            assertEquals(BigDecimal.valueOf(minor, Money.SCALE).setScale(0, RoundingMode.HALF_UP).longValueExact(),
+                    Money.toWon(minor), "minor=" + minor);
+        }
+    }
+
+    @Test
+    void toWonCeilRoundsTowardPositiveInfinity() {
+        assertEquals(0L, Money.toWonCeil(0));
+        assertEquals(1L, Money.toWonCeil(1));
+        assertEquals(1L, Money.toWonCeil(100));
+        assertEquals(2L, Money.toWonCeil(101));
+        assertEquals(0L, Money.toWonCeil(-1));
+        assertEquals(-1L, Money.toWonCeil(-100));
+        assertEquals(-1L, Money.toWonCeil(-199));
+        assertEquals(-2L, Money.toWonCeil(-200));
+
+        for (long minor = -1_000; minor <= 1_000; minor++) {
+            assertEquals(BigDecimal.valueOf(minor, Money.SCALE).setScale(0, RoundingMode.CEILING).longValueExact(),
+                    Money.toWonCeil(minor), "minor=" + minor);
+        }
+    }
+
+    @Test
+    void toWonOverflowThrows() {
+        assertThrows(ArithmeticException.class, () -> Money.toWon(Long.MAX_VALUE));
+        assertThrows(ArithmeticException.class, () -> Money.toWon(Long.MIN_VALUE));
+    }
+
+    @Test
+    void toMinorRoundsHalfUp() {
+        assertEquals(122L, Money.toMinor(new BigDecimal("1.224")));
+        assertEquals(123L, Money.toMinor(new BigDecimal("1.225")));
+        assertEquals(-123L, Money.toMinor(new BigDecimal("-1.225")));
+        assertEquals(0L, Money.toMinor((BigDecimal) null));
+    }
+}
@@ -0,0 +1,98 @@
+package com.jacob.testapp.order.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class OrderNumberGeneratorTest {
+
+    private static final int THREADS = 8;
+    private static final int IDS_PER_THREAD = 20_000;
+
+    @Test
+    void idsAreUniqueAndIncreasingUnderConcurrency() throws Exception {
+        OrderNumberGenerator generator = new OrderNumberGenerator(0);
+        long startedAt = System.currentTimeMillis();
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<long[]>> futures = new ArrayList<>();
+        try {
+            for (int t = 0; t < THREADS; t++) {
+                futures.add(pool.submit(() -> {
+                    start.await();
+                    long[] ids = new long[IDS_PER_THREAD];
+                    for (int i = 0; i < ids.length; i++) {
+                        ids[i] = generator.nextId();
+                    }
+                    return ids;
+                }));
+            }
+            start.countDown();
+
+            Set<Long> unique = new HashSet<>(THREADS * IDS_PER_THREAD);
+            for (Future<long[]> future : futures) {
+                long[] ids = future.get(30, TimeUnit.SECONDS);
+                for (int i = 0; i < ids.length; i++) {
+                    if (i > 0) {
+                        assertTrue(ids[i] > ids[i - 1], "스레드 안에서 ID가 증가하지 않음: " + ids[i - 1] + " → " + ids[i]);
+                    }
+                    unique.add(ids[i]);
+                }
+            }
+            assertEquals(THREADS * IDS_PER_THREAD, unique.size());
+
+            // 밀리초당 4096개를 넘으면 다음 밀리초를 앞당겨 쓰므로 그만큼만 앞설 수 있음
+            long maxLeadMillis = unique.size() / 4096 + 1;
+            long finishedAt = System.currentTimeMillis();
+            for (long id : unique) {
+                long timestamp = OrderNumberGenerator.timestampOf(id);
+                assertTrue(timestamp >= startedAt && timestamp <= finishedAt + maxLeadMillis, "ID 시각 범위 벗어남: " + timestamp);
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    void laterCallsReturnLargerIds() {
+        OrderNumberGenerator generator = new OrderNumberGenerator(0);
+        long previous = generator.nextId();
+        for (int i = 0; i < 100_000; i++) {
+            long next = generator.nextId();
+            assertTrue(next > previous);
+            previous = next;
+        }
+    }
+
+    @Test
+    void nodeIdIsEncodedInId() {
+        OrderNumberGenerator generator = new OrderNumberGenerator(5);
+
+        assertEquals(5L, (generator.nextId() >>> 12) & 1023);
+    }
+
+    @Test
+    void orderNumberHasDateAndId() {
+        String orderNumber = new OrderNumberGenerator(0).nextOrderNumber();
+
+        assertTrue(orderNumber.matches("ORD-\\d{8}-\\d+"), orderNumber);
+    }
+
+    @Test
+    void rejectsNodeIdOutOfRange() {
+        assertThrows(IllegalArgumentException.class, () -> new OrderNumberGenerator(-1));
+        assertThrows(IllegalArgumentException.class, () -> new OrderNumberGenerator(1024));
+    }
+}